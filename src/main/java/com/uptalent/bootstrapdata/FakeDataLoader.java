@@ -13,6 +13,7 @@ import com.uptalent.skill.model.entity.SkillKudos;
 import com.uptalent.skill.repository.SkillKudosRepository;
 import com.uptalent.skill.repository.SkillRepository;
 import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
 import com.uptalent.sponsor.repository.SponsorRepository;
 import com.uptalent.talent.model.entity.Talent;
 import com.uptalent.talent.repository.TalentRepository;
@@ -40,6 +41,7 @@ public class FakeDataLoader implements CommandLineRunner {
     private final TalentRepository talentRepository;
     private final ProofRepository proofRepository;
     private final SponsorRepository sponsorRepository;
+    private final KudosLedgerService kudosLedgerService;
     private final CredentialsRepository credentialsRepository;
     private final SkillRepository skillRepository;
     private final SkillKudosRepository skillKudosRepository;
@@ -154,9 +156,9 @@ public class FakeDataLoader implements CommandLineRunner {
                 .credentials(credentials)
                 .fullname(fullname)
                 .avatar(faker.avatar().image())
-                .kudos(50)
                 .build();
         sponsor = sponsorRepository.save(sponsor);
+        kudosLedgerService.addInitialKudos(sponsor.getId(), 50);
         credentials.setSponsor(sponsor);
         return sponsor;
     }
@@ -0,0 +1,96 @@
+package com.uptalent.cache;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.pagination.PageWithMetadata;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Shared cache of feed pages which are the same for every visitor. Pages are evicted after commit
+ * of any change that can be visible in a feed: kudos evict only the pages holding the kudosed proofs,
+ * other changes evict the feed as a whole. A page loaded while an eviction of its feed ran is not kept,
+ * since it could have been read before the change was committed. Kudos and publications evict pages
+ * when they are relayed from the outbox, on the instance which relays them; pages of other instances
+ * expire after feed.cache.time-to-live.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedCache {
+    public static final String PROOF_FEED = "proofFeed";
+    public static final String VACANCY_FEED = "vacancyFeed";
+
+    private final CacheManager cacheManager;
+    private final AtomicLong proofFeedEvictions = new AtomicLong();
+    private final AtomicLong vacancyFeedEvictions = new AtomicLong();
+
+    public <T> PageWithMetadata<T> getProofFeed(FeedCacheKey key, Supplier<PageWithMetadata<T>> loader) {
+        return get(getCache(PROOF_FEED), proofFeedEvictions, key, loader);
+    }
+
+    public <T> PageWithMetadata<T> getVacancyFeed(FeedCacheKey key, Supplier<PageWithMetadata<T>> loader) {
+        return get(getCache(VACANCY_FEED), vacancyFeedEvictions, key, loader);
+    }
+
+    public void evictProofFeed() {
+        runAfterCommit(() -> {
+            proofFeedEvictions.incrementAndGet();
+            getCache(PROOF_FEED).clear();
+        });
+    }
+
+    public void evictProofs(Collection<Long> proofIds) {
+        Set<Long> evictedIds = Set.copyOf(proofIds);
+        runAfterCommit(() -> {
+            proofFeedEvictions.incrementAndGet();
+            ((CaffeineCache) getCache(PROOF_FEED)).getNativeCache().asMap().values()
+                    .removeIf(value -> value instanceof PageWithMetadata<?> page && page.getContent().stream()
+                            .anyMatch(item -> item instanceof ProofGeneralInfo proof
+                                    && evictedIds.contains(proof.getId())));
+        });
+    }
+
+    @EventListener
+    public void evictKudosedProof(KudosPosted event) {
+        evictProofs(List.of(event.proofId()));
+    }
+
+    @EventListener
+    public void evictPublishedProof(ProofPublished event) {
+        evictProofFeed();
+    }
+
+    public void evictVacancyFeed() {
+        runAfterCommit(() -> {
+            vacancyFeedEvictions.incrementAndGet();
+            getCache(VACANCY_FEED).clear();
+        });
+    }
+
+    private <T> PageWithMetadata<T> get(Cache cache, AtomicLong feedEvictions, FeedCacheKey key,
+                                        Supplier<PageWithMetadata<T>> loader) {
+        long evictions = feedEvictions.get();
+        PageWithMetadata<T> page = cache.get(key, loader::get);
+        if (feedEvictions.get() != evictions)
+            cache.evict(key);
+        return page;
+    }
+
+    private Cache getCache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+}
@@ -0,0 +1,11 @@
+package com.uptalent.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record FeedCacheKey(int page, int size, String sort, List<String> skills) {
+    public static FeedCacheKey of(int page, int size, String sort, String [] skills) {
+        List<String> sortedSkills = (skills == null) ? List.of() : Arrays.stream(skills).sorted().toList();
+        return new FeedCacheKey(page, size, sort, sortedSkills);
+    }
+}
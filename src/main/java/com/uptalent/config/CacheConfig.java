@@ -0,0 +1,41 @@
+package com.uptalent.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uptalent.pagination.PageWithMetadata;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static com.uptalent.cache.FeedCache.PROOF_FEED;
+import static com.uptalent.cache.FeedCache.VACANCY_FEED;
+
+@Configuration
+public class CacheConfig {
+    @Value("${feed.cache.max-items}")
+    private long MAX_ITEMS;
+
+    @Value("${feed.cache.time-to-live}")
+    private Duration TIME_TO_LIVE;
+
+    /**
+     * Feed pages are weighed by the number of items they hold, so the cache is bounded by the
+     * total count of cached proofs and vacancies rather than by the count of pages.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PROOF_FEED, VACANCY_FEED);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumWeight(MAX_ITEMS)
+                .weigher((key, value) -> value instanceof PageWithMetadata<?> page
+                        ? page.getContent().size() + 1
+                        : 1)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -1,15 +1,20 @@
 package com.uptalent.config;
 
+import com.uptalent.cache.FeedCache;
 import com.uptalent.credentials.model.entity.Credentials;
 import com.uptalent.credentials.repository.CredentialsRepository;
 import com.uptalent.filestore.FileStoreService;
+import com.uptalent.leaderboard.LeaderboardService;
 import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.ProofSearchEngine;
+import com.uptalent.skill.index.SkillIndexService;
 import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.sponsor.model.entity.Sponsor;
 import com.uptalent.sponsor.repository.SponsorRepository;
 import com.uptalent.talent.model.entity.Talent;
 import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.service.TalentStatisticService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Async;
@@ -35,6 +40,11 @@ public class SchedulerConfig {
     private final FileStoreService fileStoreService;
     private final TalentRepository talentRepository;
     private final ProofRepository proofRepository;
+    private final SkillIndexService skillIndexService;
+    private final ProofSearchEngine proofSearchEngine;
+    private final FeedCache feedCache;
+    private final TalentStatisticService talentStatisticService;
+    private final LeaderboardService leaderboardService;
 
     @Async
     @Scheduled(cron = "0 */5 * * * ?")
@@ -50,7 +60,13 @@ public class SchedulerConfig {
 
         sponsorRepository.updateSponsorDeleteData(sponsors.stream().map(Sponsor::getId).collect(Collectors.toList()));
         talentRepository.updateTalentDeleteData(talents.stream().map(Talent::getId).collect(Collectors.toList()));
-        proofRepository.updateProofsDeleteData(talents.stream().flatMap(t -> t.getProofs().stream().map(Proof::getId)).collect(Collectors.toList()));
+        List<Long> proofIds = talents.stream().flatMap(t -> t.getProofs().stream().map(Proof::getId)).collect(Collectors.toList());
+        proofRepository.updateProofsDeleteData(proofIds);
+        talentStatisticService.refreshMostKudosedProofs(talents.stream().map(Talent::getId).toList());
+        leaderboardService.removeTalents(talents.stream().map(Talent::getId).toList());
+        proofSearchEngine.removeProofs(proofIds);
+        feedCache.evictProofFeed();
+        feedCache.evictVacancyFeed();
         credentialsRepository.updateCredentialsDeleteData(credentials.stream().map(Credentials::getId).collect(Collectors.toList()));
     }
 
@@ -81,6 +97,7 @@ public class SchedulerConfig {
         credentialsRepository.deleteAll(credentials);
         sponsorRepository.deleteAll(sponsors);
         talentRepository.deleteAll(talents);
+        skillIndexService.removeTalents(talents.stream().map(Talent::getId).toList());
     }
 }
 
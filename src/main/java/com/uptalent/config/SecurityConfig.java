@@ -47,11 +47,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests((authz) -> authz
                         .requestMatchers(POST, "/api/v1/auth/login").permitAll()
                         .requestMatchers(GET, "/api/v1/talents", "/actuator/**", "/api/v1/skills").permitAll()
+                        .requestMatchers(GET, "/api/v1/talents/top", "/api/v1/skills/trending").permitAll()
                         .requestMatchers(POST, "/api/v1/email/**").permitAll()
                         .requestMatchers(GET, "/api/v1/talents", "/actuator/**").permitAll()
                         .requestMatchers("/api-documentation/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers(POST, "/api/v1/talents", "/api/v1/sponsors").permitAll()
-                        .requestMatchers(GET, "/api/v1/proofs", "/api/v1/proofs/{proofId}/skills").permitAll()
+                        .requestMatchers(GET, "/api/v1/proofs", "/api/v1/proofs/search", "/api/v1/proofs/{proofId}/skills").permitAll()
                         .requestMatchers(GET, "/api/v1/vacancies").permitAll()
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
@@ -12,6 +12,7 @@ public class EmailConstant {
     public static String ADMIN_MAIL;
     public static final String SUBJECT_RESTORE = "Your UpTalent account was temporary deleted";
     public static final String SUBJECT_VERIFY = "Your UPTalent account not activated";
+    public static final String SUBJECT_SUBMISSION = "New submission to your UpTalent vacancy";
     public static final String MESSAGE_BEGIN = """
                     <div style="display: grid;\040
                         flex-direction: column;\040
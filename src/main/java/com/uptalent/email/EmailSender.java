@@ -13,6 +13,7 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -109,4 +110,34 @@ public class EmailSender{
             log.error(ex.getMessage());
         }
     }
+
+    @Async
+    public void sendSubmissionMail(String email, String fullname, String vacancyTitle, String talentName, LocalDateTime sent) {
+        MimeMessage mail = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mail);
+        String message_body = """
+                    New submission
+                    </h1>
+                    <h3 style="margin: 10px 0;">
+                        Dear %s,
+                    </h3>
+                    <p>
+                        %s sent a submission to your vacancy <b>%s</b> on <b>%s</b>
+                    </p>
+                    <p>\040
+                        Please sign in to UpTalent to read it and to send a feedback.
+                    </p>
+                """;
+        try {
+            helper.setSubject(EmailConstant.SUBJECT_SUBMISSION);
+            helper.setText(EmailConstant.MESSAGE_BEGIN + message_body.formatted(HtmlUtils.htmlEscape(fullname),
+                    HtmlUtils.htmlEscape(talentName), HtmlUtils.htmlEscape(vacancyTitle), sent.format(DateTimeFormatter.ISO_LOCAL_DATE)) + EmailConstant.MESSAGE_END, true);
+            helper.setFrom(EmailConstant.ADMIN_MAIL);
+            helper.setTo(email);
+            sender.send(mail);
+        }
+        catch (MessagingException | MailException ex){
+            log.error(ex.getMessage());
+        }
+    }
 }
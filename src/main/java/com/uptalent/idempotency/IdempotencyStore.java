@@ -0,0 +1,158 @@
+package com.uptalent.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uptalent.idempotency.exception.IdempotencyKeyConflictException;
+import com.uptalent.idempotency.exception.InvalidIdempotencyKeyException;
+import com.uptalent.idempotency.model.entity.IdempotencyRecord;
+import com.uptalent.idempotency.model.entity.IdempotencyRecordId;
+import com.uptalent.idempotency.repository.IdempotencyRecordRepository;
+import com.uptalent.util.service.AccessVerifyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Replays the stored response of a request which is retried with the same Idempotency-Key header.
+ * The key is inserted in the transaction of the request itself, so a concurrent retry waits for the
+ * first request and then replays its response, and a failed request leaves no key behind.
+ * Recent records are also kept in memory to answer retries without a query.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final AccessVerifyService accessVerifyService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeToLive;
+    private final Cache<IdempotencyRecordId, IdempotencyRecord> recentRecords;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            AccessVerifyService accessVerifyService,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${idempotency.time-to-live}") Duration timeToLive,
+                            @Value("${idempotency.cache.max-items}") long maxItems) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.accessVerifyService = accessVerifyService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeToLive = timeToLive;
+        this.recentRecords = Caffeine.newBuilder()
+                .maximumSize(maxItems)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public <T> T execute(String idempotencyKey, String operation, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        Long principalId = accessVerifyService.getPrincipalId();
+        if (idempotencyKey == null || principalId == 0L)
+            return action.get();
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)
+            throw new InvalidIdempotencyKeyException("Idempotency key should have from 1 to "
+                    + MAX_KEY_LENGTH + " characters");
+
+        IdempotencyRecordId id = new IdempotencyRecordId(principalId, accessVerifyService.getRole(), idempotencyKey);
+        String requestHash = hash(operation, request);
+
+        IdempotencyRecord recentRecord = recentRecords.getIfPresent(id);
+        if (recentRecord != null)
+            return replay(recentRecord, requestHash, responseType);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Optional<IdempotencyRecord> storedRecord = findNotExpired(id);
+                if (storedRecord.isPresent())
+                    return replay(storedRecord.get(), requestHash, responseType);
+
+                IdempotencyRecord record = insert(id, requestHash);
+                T response = action.get();
+                record.setResponse(write(response));
+                runAfterCommit(() -> recentRecords.put(id, record));
+                return response;
+            });
+        } catch (KeyTakenException e) {
+            return idempotencyRecordRepository.findById(id)
+                    .map(record -> replay(record, requestHash, responseType))
+                    .orElseThrow(() -> new IdempotencyKeyConflictException(
+                            "Request with this idempotency key is in progress"));
+        }
+    }
+
+    @Scheduled(cron = "0 0 * * * ?")
+    public void deleteExpired() {
+        int deleted = Objects.requireNonNull(transactionTemplate.execute(status ->
+                idempotencyRecordRepository.deleteAllCreatedBefore(LocalDateTime.now().minus(timeToLive))));
+        log.debug("Deleted {} expired idempotency records", deleted);
+    }
+
+    private Optional<IdempotencyRecord> findNotExpired(IdempotencyRecordId id) {
+        Optional<IdempotencyRecord> record = idempotencyRecordRepository.findById(id);
+        if (record.isPresent() && record.get().getCreated().isBefore(LocalDateTime.now().minus(timeToLive))) {
+            idempotencyRecordRepository.delete(record.get());
+            idempotencyRecordRepository.flush();
+            return Optional.empty();
+        }
+        return record;
+    }
+
+    private IdempotencyRecord insert(IdempotencyRecordId id, String requestHash) {
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .created(LocalDateTime.now())
+                .build();
+        try {
+            idempotencyRecordRepository.insert(record);
+            return record;
+        } catch (DataIntegrityViolationException e) {
+            throw new KeyTakenException();
+        }
+    }
+
+    private <T> T replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash))
+            throw new IdempotencyKeyConflictException("Idempotency key was already used for another request");
+        try {
+            return objectMapper.readValue(record.getResponse(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response can not be read", e);
+        }
+    }
+
+    private String hash(String operation, Object request) {
+        return DigestUtils.md5DigestAsHex((operation + write(request)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response can not be stored", e);
+        }
+    }
+
+    private static class KeyTakenException extends RuntimeException {
+    }
+}
@@ -0,0 +1,7 @@
+package com.uptalent.idempotency.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.uptalent.idempotency.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response of a request sent with an Idempotency-Key header, stored in the transaction of the request.
+ */
+@Entity(name = "idempotency_record")
+@Table(name = "idempotency_record")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    @EmbeddedId
+    private IdempotencyRecordId id;
+
+    @Column(nullable = false, name = "request_hash", length = 32)
+    private String requestHash;
+
+    @Column(name = "response", columnDefinition = "text")
+    private String response;
+
+    @Column(nullable = false, name = "created")
+    private LocalDateTime created;
+}
@@ -0,0 +1,28 @@
+package com.uptalent.idempotency.model.entity;
+
+import com.uptalent.credentials.model.enums.Role;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class IdempotencyRecordId implements Serializable {
+    @Column(nullable = false, name = "principal_id")
+    private Long principalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "role", length = 20)
+    private Role role;
+
+    @Column(nullable = false, name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+}
@@ -0,0 +1,16 @@
+package com.uptalent.idempotency.repository;
+
+import com.uptalent.idempotency.model.entity.IdempotencyRecord;
+import com.uptalent.idempotency.model.entity.IdempotencyRecordId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecordId>,
+        IdempotencyRecordRepositoryCustom {
+    @Modifying
+    @Query("DELETE FROM idempotency_record ir WHERE ir.created < :created")
+    int deleteAllCreatedBefore(LocalDateTime created);
+}
@@ -0,0 +1,11 @@
+package com.uptalent.idempotency.repository;
+
+import com.uptalent.idempotency.model.entity.IdempotencyRecord;
+
+public interface IdempotencyRecordRepositoryCustom {
+    /**
+     * Inserts the record without looking it up first, so a record with the same key which is
+     * inserted concurrently fails the insert on the primary key instead of being overwritten.
+     */
+    void insert(IdempotencyRecord record);
+}
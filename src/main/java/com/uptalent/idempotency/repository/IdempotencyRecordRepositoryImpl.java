@@ -0,0 +1,16 @@
+package com.uptalent.idempotency.repository;
+
+import com.uptalent.idempotency.model.entity.IdempotencyRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insert(IdempotencyRecord record) {
+        entityManager.persist(record);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,168 @@
+package com.uptalent.leaderboard;
+
+import com.uptalent.leaderboard.TopKCounter.Count;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Kudos of talents overall and per skill, and kudos of skills per day for the last trendingDays days.
+ */
+public class KudosLeaderboard {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int trendingDays;
+    private TopKCounter<Long> talents = new TopKCounter<>();
+    private Map<Long, TopKCounter<Long>> talentsBySkillId = new HashMap<>();
+    private NavigableMap<LocalDate, Map<Long, Long>> skillKudosByDay = new TreeMap<>();
+    private List<Runnable> pendingUpdates;
+
+    public KudosLeaderboard(int trendingDays) {
+        this.trendingDays = trendingDays;
+    }
+
+    /**
+     * @param talentSkillKudos rows of talent id, skill id and kudos, one talent and skill can have many rows
+     * @param skillDayKudos rows of skill id, day and kudos
+     */
+    public void rebuild(List<Object[]> talentSkillKudos, List<Object[]> skillDayKudos) {
+        rebuild(() -> talentSkillKudos, () -> skillDayKudos);
+    }
+
+    /**
+     * Updates which arrive while the rows are loaded are queued and applied again to the rebuilt leaderboards,
+     * so they are not lost when the rows were read before the updates committed. Kudos which commit
+     * just before the rows are read can be counted twice until the next rebuild.
+     */
+    public synchronized void rebuild(Supplier<List<Object[]>> talentSkillKudosLoader,
+                                     Supplier<List<Object[]>> skillDayKudosLoader) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TopKCounter<Long> talents = new TopKCounter<>();
+        Map<Long, TopKCounter<Long>> talentsBySkillId = new HashMap<>();
+        NavigableMap<LocalDate, Map<Long, Long>> skillKudosByDay = new TreeMap<>();
+        try {
+            for (Object[] row : talentSkillKudosLoader.get()) {
+                Long talentId = (Long) row[0];
+                long kudos = ((Number) row[2]).longValue();
+                talents.add(talentId, kudos);
+                talentsBySkillId.computeIfAbsent((Long) row[1], id -> new TopKCounter<>()).add(talentId, kudos);
+            }
+            for (Object[] row : skillDayKudosLoader.get()) {
+                skillKudosByDay.computeIfAbsent((LocalDate) row[1], day -> new HashMap<>())
+                        .merge((Long) row[0], ((Number) row[2]).longValue(), Long::sum);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.talents = talents;
+            this.talentsBySkillId = talentsBySkillId;
+            this.skillKudosByDay = skillKudosByDay;
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Kudos of a talent who is not verified count only for trending skills, the same as on rebuild.
+     */
+    public void add(Long talentId, boolean talentVerified, Map<Long, Long> kudosBySkillId, LocalDate day) {
+        update(() -> {
+            if (talentVerified) {
+                kudosBySkillId.forEach((skillId, kudos) -> {
+                    talents.add(talentId, kudos);
+                    talentsBySkillId.computeIfAbsent(skillId, id -> new TopKCounter<>()).add(talentId, kudos);
+                });
+            }
+            LocalDate firstTrendingDay = LocalDate.now().minusDays(trendingDays - 1L);
+            if (!day.isBefore(firstTrendingDay)) {
+                Map<Long, Long> skillKudos = skillKudosByDay.computeIfAbsent(day, d -> new HashMap<>());
+                kudosBySkillId.forEach((skillId, kudos) -> skillKudos.merge(skillId, kudos, Long::sum));
+            }
+            skillKudosByDay.headMap(firstTrendingDay).clear();
+        });
+    }
+
+    /**
+     * Removes kudos of a deleted proof from talent counters. Trending skills keep them until the next rebuild.
+     */
+    public void remove(Long talentId, Map<Long, Long> kudosBySkillId) {
+        update(() -> kudosBySkillId.forEach((skillId, kudos) -> {
+            talents.add(talentId, -kudos);
+            TopKCounter<Long> skillTalents = talentsBySkillId.get(skillId);
+            if (skillTalents != null)
+                skillTalents.add(talentId, -kudos);
+        }));
+    }
+
+    public void removeTalents(Collection<Long> talentIds) {
+        update(() -> talentIds.forEach(talentId -> {
+            talents.remove(talentId);
+            talentsBySkillId.values().forEach(skillTalents -> skillTalents.remove(talentId));
+        }));
+    }
+
+    public List<Count<Long>> getTopTalents(int size) {
+        lock.readLock().lock();
+        try {
+            return talents.top(size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Count<Long>> getTopTalents(Long skillId, int size) {
+        lock.readLock().lock();
+        try {
+            TopKCounter<Long> skillTalents = talentsBySkillId.get(skillId);
+            return skillTalents == null ? List.of() : skillTalents.top(size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums at most trendingDays day counters, so the cost does not depend on the size of the history.
+     */
+    public List<Count<Long>> getTrendingSkills(LocalDate today, int days, int size) {
+        TopKCounter<Long> skills = new TopKCounter<>();
+        lock.readLock().lock();
+        try {
+            skillKudosByDay.subMap(today.minusDays(Math.min(days, trendingDays) - 1L), true, today, true)
+                    .values()
+                    .forEach(skillKudos -> skillKudos.forEach(skills::add));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return skills.top(size);
+    }
+
+    private void update(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (pendingUpdates != null)
+                pendingUpdates.add(update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
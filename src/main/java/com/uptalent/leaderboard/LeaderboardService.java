@@ -0,0 +1,76 @@
+package com.uptalent.leaderboard;
+
+import com.uptalent.leaderboard.TopKCounter.Count;
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.skill.repository.SkillKudosHistoryRepository;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.talent.repository.TalentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+
+/**
+ * In-memory kudos leaderboards of talents and trending skills. They are fed by kudos relayed from the outbox
+ * on this instance and rebuilt on startup and by schedule, which also adds kudos relayed on other instances
+ * and corrects trending skills of deleted proofs. Talent kudos are rebuilt from the per-proof totals
+ * in skill kudos and trending skills from the last days of kudos history, so a rebuild reads only the recent
+ * history partitions. Only verified talents are ranked, kudos of other talents count for trending skills only.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class LeaderboardService {
+    public static final int MAX_TRENDING_DAYS = 30;
+
+    private final SkillKudosRepository skillKudosRepository;
+    private final SkillKudosHistoryRepository skillKudosHistoryRepository;
+    private final TalentRepository talentRepository;
+
+    private final KudosLeaderboard leaderboard = new KudosLeaderboard(MAX_TRENDING_DAYS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${leaderboard.rebuild-cron}")
+    public void rebuild() {
+        LocalDateTime firstTrendingDay = LocalDate.now().minusDays(MAX_TRENDING_DAYS - 1).atStartOfDay();
+        leaderboard.rebuild(skillKudosRepository::sumVerifiedKudosByTalentIdAndSkillId,
+                () -> skillKudosHistoryRepository.sumKudosBySkillIdAndDaySince(firstTrendingDay));
+        log.info("Kudos leaderboards were rebuilt");
+    }
+
+    public List<Count<Long>> getTopTalents(Long skillId, int size) {
+        return skillId == null ? leaderboard.getTopTalents(size) : leaderboard.getTopTalents(skillId, size);
+    }
+
+    public List<Count<Long>> getTrendingSkills(int days, int size) {
+        return leaderboard.getTrendingSkills(LocalDate.now(), days, size);
+    }
+
+    @EventListener
+    public void addKudos(KudosPosted event) {
+        boolean talentVerified = !talentRepository.findVerifiedIdsByIdIn(Set.of(event.talentId())).isEmpty();
+        runAfterCommit(() -> leaderboard.add(event.talentId(), talentVerified, event.kudosBySkillId(),
+                event.sent().toLocalDate()));
+    }
+
+    public void removeProof(Long talentId, Collection<SkillKudos> skillKudos) {
+        Map<Long, Long> kudosBySkillId = new HashMap<>();
+        skillKudos.forEach(kudos -> kudosBySkillId.merge(kudos.getSkill().getId(), kudos.getKudos(), Long::sum));
+        runAfterCommit(() -> leaderboard.remove(talentId, kudosBySkillId));
+    }
+
+    public void removeTalents(Collection<Long> talentIds) {
+        runAfterCommit(() -> leaderboard.removeTalents(talentIds));
+    }
+}
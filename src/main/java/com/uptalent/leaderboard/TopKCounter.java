@@ -0,0 +1,48 @@
+package com.uptalent.leaderboard;
+
+import java.util.*;
+
+/**
+ * Exact counters which are kept ordered by count, so the top k keys are read without sorting all of them.
+ * Keys with equal counts are ordered by key. The counter is not thread safe.
+ */
+public class TopKCounter<K extends Comparable<K>> {
+    private final Map<K, Long> counts = new HashMap<>();
+    private final NavigableSet<Count<K>> ordered = new TreeSet<>(Comparator.<Count<K>>comparingLong(Count::count)
+            .reversed()
+            .thenComparing(Count::key));
+
+    public void add(K key, long delta) {
+        Long count = counts.remove(key);
+        if (count != null)
+            ordered.remove(new Count<>(key, count));
+        long newCount = (count == null ? 0 : count) + delta;
+        if (newCount > 0) {
+            counts.put(key, newCount);
+            ordered.add(new Count<>(key, newCount));
+        }
+    }
+
+    public void remove(K key) {
+        Long count = counts.remove(key);
+        if (count != null)
+            ordered.remove(new Count<>(key, count));
+    }
+
+    public long get(K key) {
+        return counts.getOrDefault(key, 0L);
+    }
+
+    public List<Count<K>> top(int k) {
+        return ordered.stream()
+                .limit(k)
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    public record Count<K>(K key, long count) {
+    }
+}
@@ -1,34 +1,30 @@
 package com.uptalent.mapper;
 
-import com.uptalent.proof.kudos.model.entity.KudosHistory;
+import com.uptalent.proof.kudos.model.KudosHistoryEntry;
 import com.uptalent.proof.kudos.model.response.KudosSender;
 import com.uptalent.proof.kudos.model.response.KudosedProofHistory;
 import com.uptalent.skill.model.SkillInfo;
 import org.mapstruct.Mapper;
 
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Mapper(componentModel = "spring")
 public interface KudosHistoryMapper {
-    default KudosedProofHistory toKudosedProofHistory(KudosHistory kudosHistory) {
+    default KudosedProofHistory toKudosedProofHistory(KudosHistoryEntry kudosHistory, Set<SkillInfo> skills) {
         return new KudosedProofHistory(
                 kudosHistory.getSent(),
-                kudosHistory.getTotalKudos(),
-                kudosHistory.getSkillKudosHistories().stream()
-                        .map(sk ->new SkillInfo(sk.getSkill().getName(), sk.getKudos()))
-                        .collect(Collectors.toSet())
+                kudosHistory.getKudos(),
+                skills
         );
     }
 
-    default KudosSender toKudosedSender(KudosHistory kudosHistory) {
+    default KudosSender toKudosedSender(KudosHistoryEntry kudosHistory, Set<SkillInfo> skills) {
         return new KudosSender(
-                kudosHistory.getSponsor().getFullname(),
-                kudosHistory.getSponsor().getAvatar(),
+                kudosHistory.getSponsorFullname(),
+                kudosHistory.getSponsorAvatar(),
                 kudosHistory.getSent(),
-                kudosHistory.getTotalKudos(),
-                kudosHistory.getSkillKudosHistories().stream()
-                        .map(sk ->new SkillInfo(sk.getSkill().getName(), sk.getKudos()))
-                        .collect(Collectors.toSet())
+                kudosHistory.getKudos(),
+                skills
         );
     }
 }
@@ -9,11 +9,9 @@ import com.uptalent.sponsor.model.entity.Sponsor;
 import com.uptalent.talent.model.entity.Talent;
 import com.uptalent.util.model.response.Author;
 import org.mapstruct.Mapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
@@ -43,11 +41,7 @@ public interface ProofMapper {
                 .build();
     }
 
-    default Page<ProofGeneralInfo> toProofGeneralInfos(Page<Proof> proofs) {
-        return proofs.map(this::toProofGeneralInfo);
-    }
-
-    default ProofGeneralInfo toProofGeneralInfo(Proof proof) {
+    default ProofGeneralInfo toProofGeneralInfo(Proof proof, Set<SkillProofInfo> skills, Author author) {
         return new ProofGeneralInfo(
                 proof.getId(),
                 proof.getIconNumber(),
@@ -55,14 +49,13 @@ public interface ProofMapper {
                 proof.getSummary(),
                 proof.getKudos(),
                 proof.getPublished(),
-                proof.getSkillKudos().stream()
-                        .map(sk ->new SkillProofInfo(sk.getSkill().getId(),sk.getSkill().getName(), sk.getKudos()))
-                        .collect(Collectors.toSet()),
-                toAuthor(proof.getTalent())
+                skills,
+                author
         );
     }
 
-    default ProofTalentGeneralInfo toProofTalentGeneralInfo(Proof proof, Boolean isMyProof) {
+    default ProofTalentGeneralInfo toProofTalentGeneralInfo(Proof proof, Boolean isMyProof,
+                                                            Set<SkillProofInfo> skills, Author author) {
         return new ProofTalentGeneralInfo(
                 proof.getId(),
                 proof.getIconNumber(),
@@ -71,14 +64,13 @@ public interface ProofMapper {
                 proof.getKudos(),
                 proof.getPublished(),
                 isMyProof,
-                proof.getSkillKudos().stream()
-                        .map(sk ->new SkillProofInfo(sk.getSkill().getId(),sk.getSkill().getName(), sk.getKudos()))
-                        .collect(Collectors.toSet()),
-                toAuthor(proof.getTalent())
+                skills,
+                author
         );
     }
 
-    default ProofSponsorGeneralInfo toProofSponsorGeneralInfo(Proof proof, Long kudosSumFromMe) {
+    default ProofSponsorGeneralInfo toProofSponsorGeneralInfo(Proof proof, Long kudosSumFromMe,
+                                                              Set<SkillProofInfo> skills, Author author) {
         return new ProofSponsorGeneralInfo(
                 proof.getId(),
                 proof.getIconNumber(),
@@ -87,10 +79,8 @@ public interface ProofMapper {
                 proof.getKudos(),
                 proof.getPublished(),
                 kudosSumFromMe,
-                proof.getSkillKudos().stream()
-                        .map(sk ->new SkillProofInfo(sk.getSkill().getId(),sk.getSkill().getName(), sk.getKudos()))
-                        .collect(Collectors.toSet()),
-                toAuthor(proof.getTalent())
+                skills,
+                author
         );
     }
 
@@ -128,59 +118,35 @@ public interface ProofMapper {
         );
     }
 
-    default Page<ProofTalentGeneralInfo> toProofTalentGeneralInfos(Page<Object[]> proofsAndIsMyProofList,
-                                                                   Pageable pageRequest) {
-        List<ProofTalentGeneralInfo> proofTalentGeneralInfos = proofsAndIsMyProofList.getContent().stream()
-                .map(tuple -> {
-                    Proof proof = (Proof) tuple[0];
-                    Boolean isMyProof = (Boolean) tuple[1];
-                    return toProofTalentGeneralInfo(proof, isMyProof);
-                })
-                .collect(Collectors.toList());
-        return new PageImpl<>(proofTalentGeneralInfos, pageRequest, proofsAndIsMyProofList.getTotalElements());
-    }
-
-    default Page<ProofSponsorGeneralInfo> toProofSponsorGeneralInfos(Page<Object[]> proofsAndKudosSum,
-                                                            Pageable pageRequest){
-        List<ProofSponsorGeneralInfo> proofTalentGeneralInfos = proofsAndKudosSum.getContent().stream()
-                .map(tuple -> {
-                    Proof proof = (Proof) tuple[0];
-                    Long kudosSumFromMe = (Long) tuple[1];
-                    return toProofSponsorGeneralInfo(proof, kudosSumFromMe);
-                })
-                .collect(Collectors.toList());
-        return new PageImpl<>(proofTalentGeneralInfos, pageRequest, proofsAndKudosSum.getTotalElements());
-    }
-
-    default Page<ProofSponsorDetailInfo> toProofSponsorDetailInfos(Page<Object[]> talentProofs,
-                                                           Pageable pageRequest){
-        List<ProofSponsorDetailInfo> proofSponsorDetailInfos = talentProofs.getContent().stream()
+    default List<ProofSponsorDetailInfo> toProofSponsorDetailInfos(List<Object[]> talentProofs){
+        return talentProofs.stream()
                 .map(tuple -> {
                     Proof proof = (Proof) tuple[0];
                     Long kudosSumFromMe = (Long) tuple[1];
                     return toProofSponsorDetailInfo(proof, kudosSumFromMe);
                 })
                 .collect(Collectors.toList());
-        return new PageImpl<>(proofSponsorDetailInfos, pageRequest, talentProofs.getTotalElements());
     }
 
-    default Page<ProofTalentDetailInfo> toProofTalentDetailInfos(Page<Object[]> talentProofs,
-                                                         Pageable pageRequest){
-        List<ProofTalentDetailInfo> proofTalentDetailInfos = talentProofs.getContent().stream()
+    default List<ProofTalentDetailInfo> toProofTalentDetailInfos(List<Object[]> talentProofs){
+        return talentProofs.stream()
                 .map(tuple -> {
                     Proof proof = (Proof) tuple[0];
                     Boolean isMyProof = (Boolean) tuple[1];
                     return toProofTalentDetailInfo(proof, isMyProof);
                 })
                 .collect(Collectors.toList());
-        return new PageImpl<>(proofTalentDetailInfos, pageRequest, talentProofs.getTotalElements());
     }
 
     default Author toAuthor(Talent talent){
+        return toAuthor(talent.getId(), talent.getFirstname(), talent.getLastname(), talent.getAvatar());
+    }
+
+    default Author toAuthor(Long talentId, String firstname, String lastname, String avatar){
         return Author.builder()
-                .id(talent.getId())
-                .name(talent.getFirstname() + " " + talent.getLastname())
-                .avatar(talent.getAvatar())
+                .id(talentId)
+                .name(firstname + " " + lastname)
+                .avatar(avatar)
                 .build();
     }
 }
@@ -7,13 +7,13 @@ import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
 public interface SponsorMapper {
-    static SponsorProfile toSponsorProfile(Sponsor sponsor) {
+    static SponsorProfile toSponsorProfile(Sponsor sponsor, long kudos) {
         return new SponsorProfile(
                 sponsor.getId(),
                 sponsor.getFullname(),
                 sponsor.getAvatar(),
                 sponsor.getCredentials().getEmail(),
-                sponsor.getKudos()
+                kudos
         );
     }
 }
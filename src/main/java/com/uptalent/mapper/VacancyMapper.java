@@ -4,14 +4,18 @@ import com.uptalent.answer.model.entity.Answer;
 import com.uptalent.answer.model.request.FeedbackResponse;
 import com.uptalent.answer.model.response.FeedbackInfo;
 import com.uptalent.proof.model.enums.ContentStatus;
+import com.uptalent.skill.index.CandidateIndex.Candidate;
+import com.uptalent.skill.model.SkillTalentInfo;
 import com.uptalent.skill.model.SkillVacancyInfo;
 import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.sponsor.model.entity.Sponsor;
 import com.uptalent.talent.model.entity.Talent;
 import com.uptalent.util.model.response.Author;
 import com.uptalent.vacancy.model.entity.Vacancy;
+import com.uptalent.vacancy.model.response.RecommendedVacancy;
 import com.uptalent.vacancy.model.response.SponsorVacancyDetailInfo;
 import com.uptalent.vacancy.model.response.TalentVacancyDetailInfo;
+import com.uptalent.vacancy.model.response.VacancyCandidate;
 import com.uptalent.vacancy.model.response.VacancyDetailInfo;
 import com.uptalent.vacancy.model.request.VacancyModify;
 import com.uptalent.vacancy.model.response.VacancyGeneralInfo;
@@ -89,6 +93,24 @@ public interface VacancyMapper {
     @Mapping(source = "vacancy.sponsor", target = "author")
     VacancyGeneralInfo toVacancyGeneralInfo(Vacancy vacancy);
 
+    @Mapping(source = "vacancy.skills", target = "skills")
+    @Mapping(source = "vacancy.sponsor", target = "author")
+    RecommendedVacancy toRecommendedVacancy(Vacancy vacancy, int matchedSkills);
+
+    default VacancyCandidate toVacancyCandidate(Talent talent, Candidate candidate) {
+        return VacancyCandidate.builder()
+                .id(talent.getId())
+                .lastname(talent.getLastname())
+                .firstname(talent.getFirstname())
+                .avatar(talent.getAvatar())
+                .skills(talent.getSkills().stream()
+                        .map(skill -> new SkillTalentInfo(skill.getId(), skill.getName()))
+                        .collect(Collectors.toSet()))
+                .matchedSkills(candidate.matchedSkills())
+                .matchedSkillsKudos(candidate.matchedSkillsKudos())
+                .build();
+    }
+
     Submission toSubmission(SubmissionRequest submissionRequest);
 
     SubmissionResponse toSubmissionResponse(Submission submission);
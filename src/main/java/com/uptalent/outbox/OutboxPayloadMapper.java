@@ -0,0 +1,37 @@
+package com.uptalent.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.uptalent.outbox.model.entity.OutboxEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Payloads are read only by the relay, so they keep the record component names instead of the
+ * snake case of the API. Jackson 2.14 does not deserialize records with a renaming naming strategy.
+ */
+@Component
+class OutboxPayloadMapper {
+    private final ObjectMapper objectMapper;
+
+    OutboxPayloadMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE);
+    }
+
+    String write(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event could not be serialized", e);
+        }
+    }
+
+    Object read(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), event.getType().getEventClass());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox event " + event.getId() + " could not be deserialized", e);
+        }
+    }
+}
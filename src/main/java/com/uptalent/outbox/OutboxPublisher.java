@@ -0,0 +1,30 @@
+package com.uptalent.outbox;
+
+import com.uptalent.outbox.model.entity.OutboxEvent;
+import com.uptalent.outbox.model.enums.OutboxEventType;
+import com.uptalent.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPayloadMapper outboxPayloadMapper;
+
+    /**
+     * Writes the event in the current transaction, so it is relayed only when the transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Object event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .type(OutboxEventType.of(event))
+                .payload(outboxPayloadMapper.write(event))
+                .created(LocalDateTime.now())
+                .build());
+    }
+}
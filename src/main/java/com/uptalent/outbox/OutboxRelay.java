@@ -0,0 +1,92 @@
+package com.uptalent.outbox;
+
+import com.uptalent.outbox.model.entity.OutboxEvent;
+import com.uptalent.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Hands outbox events to @EventListener methods in batches. A batch is dispatched in one transaction which
+ * also deletes its events, so transactional listeners handle an event exactly once. When a listener fails,
+ * the batch is rolled back and its events are relayed one by one, and an event which keeps failing stays
+ * in the table after outbox.max-attempts attempts.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPayloadMapper outboxPayloadMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxPayloadMapper outboxPayloadMapper,
+                       ApplicationEventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.batch-size}") int batchSize,
+                       @Value("${outbox.max-attempts}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPayloadMapper = outboxPayloadMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = findEvents();
+                events.forEach(this::dispatch);
+                outboxEventRepository.deleteAllInBatch(events);
+                return events.size();
+            });
+        } catch (RuntimeException e) {
+            log.warn("Outbox batch failed and is relayed event by event", e);
+            List<Long> ids = transactionTemplate.execute(status -> findEvents().stream()
+                    .map(OutboxEvent::getId)
+                    .toList());
+            ids.forEach(this::relayEvent);
+            return ids.size();
+        }
+    }
+
+    private void relayEvent(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findForUpdateById(id)
+                    .ifPresent(event -> {
+                        dispatch(event);
+                        outboxEventRepository.delete(event);
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Outbox event {} failed", id, e);
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.incrementAttempts(id));
+        }
+    }
+
+    private List<OutboxEvent> findEvents() {
+        return outboxEventRepository.findForUpdate(maxAttempts, PageRequest.of(0, batchSize));
+    }
+
+    private void dispatch(OutboxEvent event) {
+        eventPublisher.publishEvent(outboxPayloadMapper.read(event));
+    }
+}
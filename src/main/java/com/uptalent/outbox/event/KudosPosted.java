@@ -0,0 +1,11 @@
+package com.uptalent.outbox.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Kudos posted by a sponsor to one proof, where proofKudos is the total of the proof after the posting.
+ */
+public record KudosPosted(Long kudosHistoryId, Long sponsorId, Long proofId, Long talentId, long kudos,
+                          long proofKudos, Map<Long, Long> kudosBySkillId, LocalDateTime sent) {
+}
@@ -0,0 +1,6 @@
+package com.uptalent.outbox.event;
+
+import java.time.LocalDateTime;
+
+public record ProofPublished(Long proofId, Long talentId, LocalDateTime published) {
+}
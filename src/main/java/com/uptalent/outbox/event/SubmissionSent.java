@@ -0,0 +1,6 @@
+package com.uptalent.outbox.event;
+
+import java.time.LocalDateTime;
+
+public record SubmissionSent(Long submissionId, Long vacancyId, Long talentId, LocalDateTime sent) {
+}
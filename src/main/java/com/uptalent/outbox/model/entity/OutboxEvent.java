@@ -0,0 +1,36 @@
+package com.uptalent.outbox.model.entity;
+
+import com.uptalent.outbox.model.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event written in the transaction which caused it and deleted by the relay once listeners handled it.
+ */
+@Entity(name = "outbox_event")
+@Table(name = "outbox_event")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "type", length = 30)
+    private OutboxEventType type;
+
+    @Column(nullable = false, name = "payload", length = 10000)
+    private String payload;
+
+    @Column(nullable = false, name = "created")
+    private LocalDateTime created;
+
+    @Column(nullable = false, name = "attempts")
+    private int attempts;
+}
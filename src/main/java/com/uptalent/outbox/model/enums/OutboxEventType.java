@@ -0,0 +1,26 @@
+package com.uptalent.outbox.model.enums;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.outbox.event.SubmissionSent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    KUDOS_POSTED(KudosPosted.class),
+    PROOF_PUBLISHED(ProofPublished.class),
+    SUBMISSION_SENT(SubmissionSent.class);
+
+    private final Class<?> eventClass;
+
+    public static OutboxEventType of(Object event) {
+        return Arrays.stream(values())
+                .filter(type -> type.eventClass.equals(event.getClass()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown outbox event " + event.getClass()));
+    }
+}
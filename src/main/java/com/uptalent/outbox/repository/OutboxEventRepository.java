@@ -0,0 +1,31 @@
+package com.uptalent.outbox.repository;
+
+import com.uptalent.outbox.model.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // lock timeout -2 skips events which another instance is relaying
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from outbox_event e where e.attempts < :maxAttempts order by e.id")
+    List<OutboxEvent> findForUpdate(int maxAttempts, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from outbox_event e where e.id = :id")
+    Optional<OutboxEvent> findForUpdateById(Long id);
+
+    @Modifying
+    @Query("update outbox_event e set e.attempts = e.attempts + 1 where e.id = :id")
+    void incrementAttempts(Long id);
+}
@@ -0,0 +1,13 @@
+package com.uptalent.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+}
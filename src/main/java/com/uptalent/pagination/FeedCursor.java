@@ -0,0 +1,53 @@
+package com.uptalent.pagination;
+
+import com.uptalent.pagination.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in a feed ordered by {@code (published, id)}.
+ * An empty cursor means the first page: it starts beyond the newest (desc) or the oldest (asc) row.
+ * A cursor keeps the sort direction it was issued for and cannot be used with the other one.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+    private static final String SEPARATOR = "_";
+    private static final String DESC = "desc";
+    private static final String ASC = "asc";
+    private static final LocalDateTime MAX_PUBLISHED = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime MIN_PUBLISHED = LocalDateTime.of(1, 1, 1, 0, 0);
+
+    private LocalDateTime published;
+    private Long id;
+
+    public static FeedCursor decode(String cursor, boolean descending) {
+        if (cursor == null || cursor.isBlank())
+            return descending
+                    ? new FeedCursor(MAX_PUBLISHED, Long.MAX_VALUE)
+                    : new FeedCursor(MIN_PUBLISHED, 0L);
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 3);
+            if (!toDirection(descending).equals(parts[2]))
+                throw new InvalidCursorException("Cursor was issued for another sort order");
+            return new FeedCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public static String encode(LocalDateTime published, Long id, boolean descending) {
+        String raw = published + SEPARATOR + id + SEPARATOR + toDirection(descending);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toDirection(boolean descending) {
+        return descending ? DESC : ASC;
+    }
+}
@@ -1,12 +1,42 @@
 package com.uptalent.pagination;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Page response with total pages, or with has next flag only when the listing is requested as a slice,
+ * so the count query runs just for the listings which show total pages.
+ */
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageWithMetadata<T> {
     private List<T> content;
-    private int totalPages;
+    private Integer totalPages;
+    private Boolean hasNext;
+
+    public PageWithMetadata(List<T> content, int totalPages) {
+        this(content, totalPages, null);
+    }
+
+    /**
+     * @param slice slice which the content is converted from
+     * @param withTotal whether to count total pages, the count is skipped when the slice alone tells the total
+     * @param count count query of the whole listing
+     */
+    public static <T> PageWithMetadata<T> of(List<T> content, Slice<?> slice, boolean withTotal,
+                                             LongSupplier count) {
+        if (!withTotal)
+            return new PageWithMetadata<>(content, null, slice.hasNext());
+
+        Page<?> page = PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), count);
+        return new PageWithMetadata<>(content, page.getTotalPages());
+    }
 }
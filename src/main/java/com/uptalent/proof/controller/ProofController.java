@@ -1,15 +1,21 @@
 package com.uptalent.proof.controller;
 
 
+import com.uptalent.idempotency.IdempotencyStore;
+import com.uptalent.pagination.CursorPage;
 import com.uptalent.pagination.PageWithMetadata;
 import com.uptalent.payload.HttpResponse;
 import com.uptalent.proof.kudos.model.request.PostKudos;
+import com.uptalent.proof.kudos.model.request.PostKudosBatch;
 import com.uptalent.proof.kudos.model.response.KudosSender;
+import com.uptalent.proof.kudos.model.response.KudosSenderSummary;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatch;
 import com.uptalent.proof.kudos.model.response.UpdatedProofKudos;
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.proof.model.request.ProofModify;
 import com.uptalent.proof.model.response.ProofDetailInfo;
 import com.uptalent.proof.model.response.ProofGeneralInfo;
+import com.uptalent.proof.service.ProofExportService;
 import com.uptalent.proof.service.ProofService;
 import com.uptalent.util.annotation.EnumValue;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,18 +29,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 
+import static com.uptalent.idempotency.IdempotencyStore.IDEMPOTENCY_KEY;
+import static com.uptalent.util.ETagUtils.conditionalGet;
+
 
 @RestController
 @RequiredArgsConstructor
@@ -50,11 +65,14 @@ import java.util.List;
 )
 public class ProofController {
     private final ProofService proofService;
+    private final ProofExportService proofExportService;
+    private final IdempotencyStore idempotencyStore;
 
 
    @Operation(
            summary = "Retrieve list of proofs",
-           description = "As a guest, I want to be able to view Proof as a list.")
+           description = "As a guest, I want to be able to view Proof as a list. " +
+                   "Pass slice=true to get has_next instead of total_pages without counting all Proofs.")
    @ApiResponses({
            @ApiResponse(responseCode = "200",
                    content = { @Content(schema = @Schema(implementation = ProofGeneralInfo.class),
@@ -70,14 +88,84 @@ public class ProofController {
            @Positive(message = "Size should be positive")
            @RequestParam(defaultValue = "9") int size,
            @RequestParam(defaultValue = "desc") String sort,
-           @RequestParam(required = false) String [] skills) {
-       return proofService.getProofs(page, size, sort, skills);
+           @RequestParam(required = false) String [] skills,
+           @RequestParam(defaultValue = "false") boolean slice) {
+       return proofService.getProofs(page, size, sort, skills, !slice);
    }
 
+    @Operation(
+            summary = "Retrieve list of proofs by cursor",
+            description = "As a guest, I want to scroll Proofs without loading total count. " +
+                    "Pass an empty cursor for the first page and next_cursor for the following ones.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = ProofGeneralInfo.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Illegal query params or cursor",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })})
+    @GetMapping(value = "/proofs", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPage<? extends ProofGeneralInfo> getAllProofsByCursor(
+            @RequestParam String cursor,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "9") int size,
+            @RequestParam(defaultValue = "desc") String sort,
+            @RequestParam(required = false) String [] skills) {
+        return proofService.getProofsByCursor(size, sort, skills, cursor);
+    }
+
+    @Operation(
+            summary = "Search proofs by keywords",
+            description = "As a guest, I want to find Proofs which title, summary or content " +
+                    "contain all words of my query, most relevant first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = ProofGeneralInfo.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Illegal query params",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })})
+    @GetMapping("/proofs/search")
+    @ResponseStatus(HttpStatus.OK)
+    public PageWithMetadata<? extends ProofGeneralInfo> searchProofs(
+            @NotBlank(message = "Query should not be blank")
+            @RequestParam String query,
+            @Min(value = 0, message = "Page should be greater or equals 0")
+            @RequestParam(defaultValue = "0") int page,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "9") int size) {
+        return proofService.searchProofs(query, page, size);
+    }
+
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Export published proofs",
+            description = "As a sponsor, I want to download all published Proofs as NDJSON, one Proof per line, " +
+                    "without paging through the feed.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = ProofGeneralInfo.class),
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE) }),
+            @ApiResponse(responseCode = "401", description = "Log in to get access to the page",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", description = "Only sponsors can export proofs",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })})
+    @GetMapping("/proofs/export")
+    public void exportProofs(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        proofExportService.exportPublishedProofs(response.getOutputStream());
+    }
+
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Retrieve list of proofs from talent profile",
-            description = "As a talent, I want my Proofs to be displayed on my profile.")
+            description = "As a talent, I want my Proofs to be displayed on my profile. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all Proofs.")
     @ApiResponses({
             @ApiResponse(responseCode = "200",
                     content = { @Content(schema = @Schema(implementation = ProofDetailInfo.class),
@@ -105,8 +193,9 @@ public class ProofController {
             @RequestParam(defaultValue = "published")
             @EnumValue(enumClass = ContentStatus.class) String status,
             @RequestParam(defaultValue = "desc") String sort,
-            @PathVariable("talent-id") Long talentId) {
-        return proofService.getTalentProofs(page, size, sort, talentId, status);
+            @PathVariable("talent-id") Long talentId,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        return proofService.getTalentProofs(page, size, sort, talentId, status, !slice);
     }
 
     @SecurityRequirement(name = "bearerAuth")
@@ -130,10 +219,11 @@ public class ProofController {
                     content = { @Content(schema = @Schema(implementation = HttpResponse.class),
                             mediaType = "application/json") })})
     @GetMapping("/talents/{talentId}/proofs/{proofId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ProofDetailInfo getProofDetailInfo(@PathVariable Long talentId,
-                                              @PathVariable Long proofId) {
-        return proofService.getProofDetailInfo(talentId, proofId);
+    public ResponseEntity<ProofDetailInfo> getProofDetailInfo(@PathVariable Long talentId,
+                                                              @PathVariable Long proofId,
+                                                              NativeWebRequest request) {
+        return conditionalGet(request, proofService.getProofDetailETag(talentId, proofId),
+                () -> proofService.getProofDetailInfo(talentId, proofId));
     }
 
     @SecurityRequirement(name = "bearerAuth")
@@ -247,6 +337,40 @@ public class ProofController {
     }
 
 
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get sponsors who posted kudos on proof",
+            description = "As a talent, i want to be able to see a page of sponsors who put kudos on my proof, " +
+                    "with their total kudos, last posting and kudos by skills")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = PageWithMetadata.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Invalid fields",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "401", description = "Log in to get access to the page",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", description = "You cannot get list of those," +
+                    " who posted kudos on proof from other talent",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "404", description = "Proof by id was not found",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })})
+    @GetMapping("/proofs/{proofId}/kudos/senders")
+    @ResponseStatus(HttpStatus.OK)
+    public PageWithMetadata<KudosSenderSummary> getKudosSenderSummaries(
+            @PathVariable Long proofId,
+            @Min(value = 0, message = "Page should be greater or equals 0")
+            @RequestParam(defaultValue = "0") int page,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "10") int size) {
+        return proofService.getKudosSenderSummaries(proofId, page, size);
+    }
+
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Post kudos to proof",
@@ -270,9 +394,37 @@ public class ProofController {
     @PostMapping("/proofs/{proofId}/kudos")
     @ResponseStatus(HttpStatus.OK)
     public UpdatedProofKudos postKudos(@PathVariable Long proofId,
-                                       @RequestBody PostKudos postKudos) {
-        return proofService.postKudos(postKudos, proofId);
+                                       @RequestBody PostKudos postKudos,
+                                       @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                       String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyKey, "POST /proofs/" + proofId + "/kudos", postKudos,
+                UpdatedProofKudos.class, () -> proofService.postKudos(postKudos, proofId));
     }
 
-}
 
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Post kudos to many proofs",
+            description = "As a sponsor, I want to be able to put the kudos to several proofs of talents at once")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Result of posting for every proof",
+                    content = { @Content(schema = @Schema(implementation = PostedKudosBatch.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Invalid fields",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "401", description = "Log in to get access to the page",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "409", description = "Illegal posting kudos",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })})
+    @PostMapping("/kudos/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public PostedKudosBatch postKudosBatch(@Valid @RequestBody PostKudosBatch postKudosBatch,
+                                           @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                           String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyKey, "POST /kudos/batch", postKudosBatch,
+                PostedKudosBatch.class, () -> proofService.postKudosBatch(postKudosBatch));
+    }
+}
@@ -0,0 +1,20 @@
+package com.uptalent.proof.kudos.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class KudosHistoryEntry {
+    private Long id;
+    private LocalDateTime sent;
+    private long kudos;
+    private String sponsorFullname;
+    private String sponsorAvatar;
+
+    public KudosHistoryEntry(Long id, LocalDateTime sent, long kudos) {
+        this(id, sent, kudos, null, null);
+    }
+}
@@ -37,6 +37,11 @@ public class KudosHistory {
     @Column(nullable = false, name = "kudos")
     private Long totalKudos;
 
+    @Builder.Default
+    @ColumnDefault("true")
+    @Column(nullable = false, name = "aggregated")
+    private boolean aggregated = true;
+
     @OneToMany(mappedBy = "kudosHistory")
     private List<SkillKudosHistory> skillKudosHistories;
 }
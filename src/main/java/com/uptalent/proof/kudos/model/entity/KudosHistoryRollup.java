@@ -0,0 +1,23 @@
+package com.uptalent.proof.kudos.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Monthly sum of skill kudos which a sponsor has sent to a proof, left after the month
+ * partition of kudos_history was rolled up.
+ */
+@Entity(name = "kudos_history_rollup")
+@Table(name = "kudos_history_rollup")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KudosHistoryRollup {
+    @EmbeddedId
+    private KudosHistoryRollupId id;
+
+    @Column(nullable = false, name = "kudos")
+    private long kudos;
+}
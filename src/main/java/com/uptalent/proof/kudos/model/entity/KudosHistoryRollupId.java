@@ -0,0 +1,28 @@
+package com.uptalent.proof.kudos.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class KudosHistoryRollupId implements Serializable {
+    @Column(nullable = false, name = "sponsor_id")
+    private Long sponsorId;
+
+    @Column(nullable = false, name = "proof_id")
+    private Long proofId;
+
+    @Column(nullable = false, name = "skill_id")
+    private Long skillId;
+
+    @Column(nullable = false, name = "sent_month")
+    private LocalDate sentMonth;
+}
@@ -0,0 +1,22 @@
+package com.uptalent.proof.kudos.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running total of kudos which a sponsor has sent to a proof, kept in sync with kudos_history.
+ */
+@Entity(name = "sponsor_proof_kudos")
+@Table(name = "sponsor_proof_kudos")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SponsorProofKudos {
+    @EmbeddedId
+    private SponsorProofKudosId id;
+
+    @Column(nullable = false, name = "total")
+    private long total;
+}
@@ -0,0 +1,21 @@
+package com.uptalent.proof.kudos.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SponsorProofKudosId implements Serializable {
+    @Column(nullable = false, name = "sponsor_id")
+    private Long sponsorId;
+
+    @Column(nullable = false, name = "proof_id")
+    private Long proofId;
+}
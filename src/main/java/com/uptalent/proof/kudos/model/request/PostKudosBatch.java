@@ -0,0 +1,21 @@
+package com.uptalent.proof.kudos.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostKudosBatch {
+    @NotEmpty(message = "List of proofs should not be empty")
+    @Size(max = 50, message = "List of proofs should be less than 50 items")
+    private List<@Valid PostKudosBatchItem> items;
+}
@@ -0,0 +1,25 @@
+package com.uptalent.proof.kudos.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostKudosBatchItem {
+    @NotNull(message = "Proof id should not be null")
+    private Long proofId;
+
+    @NotEmpty(message = "List of skills should not be empty")
+    @Size(max = 30, message = "List of skills should be less than 30 items")
+    private List<@Valid PostKudosSkill> postKudosSkills;
+}
@@ -0,0 +1,20 @@
+package com.uptalent.proof.kudos.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.uptalent.skill.model.SkillInfo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class KudosSenderSummary {
+    private String fullname;
+    private String avatar;
+    private long kudos;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime lastSent;
+    private List<SkillInfo> skills;
+}
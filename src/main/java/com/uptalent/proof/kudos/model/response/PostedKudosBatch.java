@@ -0,0 +1,15 @@
+package com.uptalent.proof.kudos.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostedKudosBatch {
+    private long currentSponsorBalance;
+    private List<PostedKudosBatchItem> items;
+}
@@ -0,0 +1,20 @@
+package com.uptalent.proof.kudos.model.response;
+
+import com.uptalent.skill.model.SkillProofInfo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostedKudosBatchItem {
+    private Long proofId;
+    private boolean posted;
+    private String message;
+    private Long currentCountKudos;
+    private Long currentSumKudosBySponsor;
+    private List<SkillProofInfo> skills;
+}
@@ -3,11 +3,13 @@ package com.uptalent.proof.kudos.model.response;
 import com.uptalent.skill.model.SkillProofInfo;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class UpdatedProofKudos {
     private long currentCountKudos;
     private long currentSumKudosBySponsor;
@@ -1,10 +1,15 @@
 package com.uptalent.proof.kudos.repository;
 
+import com.uptalent.proof.kudos.model.KudosHistoryEntry;
 import com.uptalent.proof.kudos.model.entity.KudosHistory;
-import com.uptalent.proof.kudos.model.response.KudosSender;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface KudosHistoryRepository extends JpaRepository<KudosHistory, Long> {
@@ -12,14 +17,48 @@ public interface KudosHistoryRepository extends JpaRepository<KudosHistory, Long
             "from kudos_history kh where kh.sponsor.id = ?1 and kh.proof.id = ?2")
     Boolean pressedProofBySponsorId(Long sponsorId, Long proofId);
 
-    @Query("SELECT kh " +
+    @Query("SELECT new com.uptalent.proof.kudos.model.KudosHistoryEntry(kh.id, kh.sent, kh.totalKudos, " +
+            "s.fullname, s.avatar) " +
+            "FROM kudos_history kh JOIN kh.sponsor s " +
+            "WHERE kh.proof.id = :proofId " +
+            "ORDER BY kh.sent DESC, kh.id DESC")
+    List<KudosHistoryEntry> findKudosSendersByProofId(Long proofId);
+
+    @Query(value = "SELECT new com.uptalent.proof.kudos.model.KudosHistoryEntry(kh.id, kh.sent, kh.totalKudos) " +
             "FROM kudos_history kh " +
-            "JOIN kh.skillKudosHistories skh " +
-            "JOIN skh.skill " +
-            "WHERE kh.proof.id = :proofId")
-    List<KudosHistory> findKudosSendersByProofId(Long proofId);
+            "WHERE kh.sponsor.id = :sponsorId AND kh.proof.id = :proofId AND kh.proof.status = 'PUBLISHED' " +
+            "ORDER BY kh.sent DESC, kh.id DESC",
+            countQuery = "SELECT count(kh) FROM kudos_history kh " +
+                    "WHERE kh.sponsor.id = :sponsorId AND kh.proof.id = :proofId AND kh.proof.status = 'PUBLISHED'")
+    Page<KudosHistoryEntry> findAllBySponsorIdAndProofId(Long sponsorId, Long proofId, Pageable pageable);
+
+    @Query("SELECT kh.sponsor.id, max(kh.sent) FROM kudos_history kh " +
+            "WHERE kh.proof.id = :proofId AND kh.sponsor.id IN :sponsorIds " +
+            "GROUP BY kh.sponsor.id")
+    List<Object[]> findLastSentByProofIdAndSponsorIdIn(Long proofId, Collection<Long> sponsorIds);
 
     @Query("select sum(kh.totalKudos) from kudos_history kh " +
             "group by kh.proof.id, kh.sponsor.id having kh.proof.id = :proofId and kh.sponsor.id = :sponsorId")
     Long sumKudosProofBySponsorId(Long sponsorId, Long proofId);
+
+    @Query("SELECT kh.proof.id, skh.skill.id, SUM(skh.kudos) " +
+            "FROM skill_kudos_history skh " +
+            "JOIN skh.kudosHistory kh " +
+            "WHERE kh.id IN :ids " +
+            "GROUP BY kh.proof.id, skh.skill.id")
+    List<Object[]> sumSkillKudosByIdIn(Collection<Long> ids);
+
+    @Query("SELECT kh.id FROM kudos_history kh WHERE kh.aggregated = false AND kh.sent < :sent ORDER BY kh.id")
+    List<Long> findNotAggregatedIdsSentBefore(LocalDateTime sent, Pageable pageable);
+
+    @Query("SELECT kh.id FROM kudos_history kh WHERE kh.aggregated = false AND kh.id IN :ids")
+    List<Long> findNotAggregatedIdsIn(Collection<Long> ids);
+
+    /**
+     * Marks only postings which are not aggregated yet, so the number of marked rows tells
+     * whether the transaction claimed all of them.
+     */
+    @Modifying
+    @Query("UPDATE kudos_history kh SET kh.aggregated = true WHERE kh.id IN :ids AND kh.aggregated = false")
+    int markAggregated(Collection<Long> ids);
 }
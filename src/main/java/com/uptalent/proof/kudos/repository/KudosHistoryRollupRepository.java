@@ -0,0 +1,23 @@
+package com.uptalent.proof.kudos.repository;
+
+import com.uptalent.proof.kudos.model.entity.KudosHistoryRollup;
+import com.uptalent.proof.kudos.model.entity.KudosHistoryRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface KudosHistoryRollupRepository extends JpaRepository<KudosHistoryRollup, KudosHistoryRollupId> {
+    @Query("select khr.id.proofId, sk.name, sum(khr.kudos) from kudos_history_rollup khr " +
+            "join skill sk on sk.id = khr.id.skillId " +
+            "where khr.id.sponsorId = :sponsorId and khr.id.proofId in :proofIds " +
+            "group by khr.id.proofId, sk.name")
+    List<Object[]> findSumSkillsBySponsorIdAndProofIdIn(Long sponsorId, Collection<Long> proofIds);
+
+    @Query("select khr.id.sponsorId, sk.name, sum(khr.kudos), max(khr.id.sentMonth) from kudos_history_rollup khr " +
+            "join skill sk on sk.id = khr.id.skillId " +
+            "where khr.id.proofId = :proofId and khr.id.sponsorId in :sponsorIds " +
+            "group by khr.id.sponsorId, sk.name")
+    List<Object[]> findSumSkillsByProofIdAndSponsorIdIn(Long proofId, Collection<Long> sponsorIds);
+}
@@ -0,0 +1,36 @@
+package com.uptalent.proof.kudos.repository;
+
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudosId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SponsorProofKudosRepository extends JpaRepository<SponsorProofKudos, SponsorProofKudosId> {
+    @Query("select spk.id.proofId, spk.total from sponsor_proof_kudos spk " +
+            "where spk.id.sponsorId = :sponsorId and spk.id.proofId in :proofIds")
+    List<Object[]> findTotalsBySponsorIdAndProofIds(Long sponsorId, Collection<Long> proofIds);
+
+    @Query("select coalesce(sum(spk.total), 0) from sponsor_proof_kudos spk " +
+            "join proof p on p.id = spk.id.proofId " +
+            "where spk.id.sponsorId = :sponsorId and p.talent.id = :talentId")
+    long sumTotalBySponsorIdAndTalentId(Long sponsorId, Long talentId);
+
+    @Query("select spk.id.sponsorId, sum(spk.total) from sponsor_proof_kudos spk " +
+            "join proof p on p.id = spk.id.proofId " +
+            "where p.talent.id = :talentId " +
+            "group by spk.id.sponsorId " +
+            "order by sum(spk.total) desc")
+    List<Object[]> findSponsorTotalsByTalentId(Long talentId, Pageable pageable);
+
+    @Query(value = "select s.id, s.fullname, s.avatar, spk.total from sponsor_proof_kudos spk " +
+            "join sponsor s on s.id = spk.id.sponsorId " +
+            "where spk.id.proofId = :proofId " +
+            "order by spk.total desc, spk.id.sponsorId desc",
+            countQuery = "select count(spk) from sponsor_proof_kudos spk where spk.id.proofId = :proofId")
+    Page<Object[]> findSendersByProofId(Long proofId, Pageable pageable);
+}
@@ -0,0 +1,45 @@
+package com.uptalent.proof.kudos.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Creates month partitions of kudos_history and skill_kudos_history ahead of time and rolls partitions
+ * older than the retention period up into kudos_history_rollup. The partitioning is Postgres-only.
+ */
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+@Slf4j
+public class KudosHistoryPartitionMaintainer {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${kudos.history.partitions-ahead}")
+    private int partitionsAhead;
+    @Value("${kudos.history.retention-months}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${kudos.history.maintenance-cron}")
+    public void maintainPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        jdbcTemplate.queryForList("SELECT create_kudos_history_partitions(?, ?)",
+                currentMonth, currentMonth.plusMonths(partitionsAhead));
+
+        if (retentionMonths <= 0)
+            return;
+        Integer rolledUp = jdbcTemplate.queryForObject("SELECT roll_up_kudos_history(?)", Integer.class,
+                currentMonth.minusMonths(retentionMonths));
+        if (rolledUp != null && rolledUp > 0)
+            log.info("{} month partitions of kudos history were rolled up", rolledUp);
+    }
+}
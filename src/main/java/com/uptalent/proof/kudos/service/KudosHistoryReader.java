@@ -0,0 +1,107 @@
+package com.uptalent.proof.kudos.service;
+
+import com.uptalent.mapper.KudosHistoryMapper;
+import com.uptalent.proof.kudos.model.KudosHistoryEntry;
+import com.uptalent.proof.kudos.model.response.KudosSender;
+import com.uptalent.proof.kudos.model.response.KudosSenderSummary;
+import com.uptalent.proof.kudos.model.response.KudosedProofHistory;
+import com.uptalent.proof.kudos.repository.KudosHistoryRepository;
+import com.uptalent.proof.kudos.repository.KudosHistoryRollupRepository;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.skill.model.SkillInfo;
+import com.uptalent.skill.repository.SkillKudosHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Reads kudos history in two phases: the history rows are selected by themselves, so paging is done by the database
+ * over kudos_history only, and then the skill rows are fetched for the selected history ids in chunks.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KudosHistoryReader {
+    private static final int SKILLS_FETCH_SIZE = 500;
+
+    private final KudosHistoryRepository kudosHistoryRepository;
+    private final KudosHistoryRollupRepository kudosHistoryRollupRepository;
+    private final SponsorProofKudosRepository sponsorProofKudosRepository;
+    private final SkillKudosHistoryRepository skillKudosHistoryRepository;
+    private final KudosHistoryMapper kudosHistoryMapper;
+
+    public Page<KudosedProofHistory> getKudosedProofHistory(Long sponsorId, Long proofId, Pageable pageable) {
+        Page<KudosHistoryEntry> entries = kudosHistoryRepository.findAllBySponsorIdAndProofId(sponsorId, proofId,
+                pageable);
+        Map<Long, Set<SkillInfo>> skillsByKudosHistoryId = findSkills(entries.getContent());
+        return entries.map(entry -> kudosHistoryMapper.toKudosedProofHistory(entry,
+                skillsByKudosHistoryId.getOrDefault(entry.getId(), Set.of())));
+    }
+
+    public List<KudosSender> getKudosSenders(Long proofId) {
+        List<KudosHistoryEntry> entries = kudosHistoryRepository.findKudosSendersByProofId(proofId);
+        Map<Long, Set<SkillInfo>> skillsByKudosHistoryId = findSkills(entries);
+        return entries.stream()
+                .map(entry -> kudosHistoryMapper.toKudosedSender(entry,
+                        skillsByKudosHistoryId.getOrDefault(entry.getId(), Set.of())))
+                .toList();
+    }
+
+    /**
+     * Senders are paged over sponsor_proof_kudos, which has one row per sponsor of the proof. Months rolled up
+     * out of kudos_history keep only their month, so a sender without newer kudos has the month as last sent.
+     */
+    public Page<KudosSenderSummary> getKudosSenderSummaries(Long proofId, Pageable pageable) {
+        Page<Object[]> senders = sponsorProofKudosRepository.findSendersByProofId(proofId, pageable);
+        if (senders.isEmpty())
+            return new PageImpl<>(List.of(), pageable, senders.getTotalElements());
+        List<Long> sponsorIds = senders.stream()
+                .map(sender -> (Long) sender[0])
+                .toList();
+
+        Map<Long, LocalDateTime> lastSentBySponsorId = new HashMap<>();
+        Map<Long, Map<String, Long>> kudosBySkillNameBySponsorId = new HashMap<>();
+        kudosHistoryRepository.findLastSentByProofIdAndSponsorIdIn(proofId, sponsorIds)
+                .forEach(tuple -> lastSentBySponsorId.put((Long) tuple[0], (LocalDateTime) tuple[1]));
+        skillKudosHistoryRepository.findSumSkillsByProofIdAndSponsorIdIn(proofId, sponsorIds)
+                .forEach(tuple -> addSkillKudos(kudosBySkillNameBySponsorId, tuple));
+        kudosHistoryRollupRepository.findSumSkillsByProofIdAndSponsorIdIn(proofId, sponsorIds)
+                .forEach(tuple -> {
+                    addSkillKudos(kudosBySkillNameBySponsorId, tuple);
+                    lastSentBySponsorId.putIfAbsent((Long) tuple[0], ((LocalDate) tuple[3]).atStartOfDay());
+                });
+
+        return senders.map(sender -> new KudosSenderSummary((String) sender[1], (String) sender[2], (Long) sender[3],
+                lastSentBySponsorId.get((Long) sender[0]),
+                kudosBySkillNameBySponsorId.getOrDefault((Long) sender[0], Map.of()).entrySet().stream()
+                        .map(entry -> new SkillInfo(entry.getKey(), entry.getValue()))
+                        .sorted(Comparator.comparing(SkillInfo::getKudos).reversed()
+                                .thenComparing(SkillInfo::getName))
+                        .toList()));
+    }
+
+    private void addSkillKudos(Map<Long, Map<String, Long>> kudosBySkillNameBySponsorId, Object[] tuple) {
+        kudosBySkillNameBySponsorId.computeIfAbsent((Long) tuple[0], sponsorId -> new HashMap<>())
+                .merge((String) tuple[1], (Long) tuple[2], Long::sum);
+    }
+
+    private Map<Long, Set<SkillInfo>> findSkills(List<KudosHistoryEntry> entries) {
+        Map<Long, Set<SkillInfo>> skillsByKudosHistoryId = new HashMap<>();
+        for (int from = 0; from < entries.size(); from += SKILLS_FETCH_SIZE) {
+            List<Long> ids = entries.subList(from, Math.min(from + SKILLS_FETCH_SIZE, entries.size())).stream()
+                    .map(KudosHistoryEntry::getId)
+                    .toList();
+            skillKudosHistoryRepository.findSkillInfosByKudosHistoryIdIn(ids)
+                    .forEach(tuple -> skillsByKudosHistoryId.computeIfAbsent((Long) tuple[0], id -> new HashSet<>())
+                            .add(new SkillInfo((String) tuple[1], (Long) tuple[2])));
+        }
+        return skillsByKudosHistoryId;
+    }
+}
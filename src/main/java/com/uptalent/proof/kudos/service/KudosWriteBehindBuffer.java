@@ -0,0 +1,232 @@
+package com.uptalent.proof.kudos.service;
+
+import com.uptalent.cache.FeedCache;
+import com.uptalent.proof.kudos.repository.KudosHistoryRepository;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Collects kudos counters of proofs and their skills in memory and applies them as one delta per row
+ * on schedule, so that postings to a hot proof do not serialize on its row locks.
+ * Kudos history is written synchronously with aggregated = false and marked aggregated together
+ * with the delta, which lets replay apply history that was not flushed before a crash.
+ * Cached feed pages of flushed proofs are evicted once the deltas are committed.
+ * <p>
+ * A transaction applies postings only if it marks all of them itself, so with many instances a posting
+ * is applied once whether it is flushed by the instance which buffers it or replayed by another one.
+ * Replay takes only postings older than replay-after, which live instances have normally flushed already.
+ */
+@Component
+@Slf4j
+public class KudosWriteBehindBuffer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProofRepository proofRepository;
+    private final SkillKudosRepository skillKudosRepository;
+    private final KudosHistoryRepository kudosHistoryRepository;
+    private final FeedCache feedCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration replayAfter;
+
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+    private final Map<Long, LongAdder> proofKudos = new ConcurrentHashMap<>();
+    private final Map<ProofSkill, LongAdder> skillKudos = new ConcurrentHashMap<>();
+    private final Queue<Long> kudosHistoryIds = new ConcurrentLinkedQueue<>();
+
+    public KudosWriteBehindBuffer(ProofRepository proofRepository,
+                                  SkillKudosRepository skillKudosRepository,
+                                  KudosHistoryRepository kudosHistoryRepository,
+                                  FeedCache feedCache,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${kudos.write-behind.enabled}") boolean enabled,
+                                  @Value("${kudos.write-behind.replay-after}") Duration replayAfter) {
+        this.proofRepository = proofRepository;
+        this.skillKudosRepository = skillKudosRepository;
+        this.kudosHistoryRepository = kudosHistoryRepository;
+        this.feedCache = feedCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.replayAfter = replayAfter;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(Long kudosHistoryId, Long proofId, Map<Long, Long> kudosBySkillId) {
+        long sumKudos = kudosBySkillId.values().stream().mapToLong(Long::longValue).sum();
+        runAfterCommit(() -> {
+            drainLock.readLock().lock();
+            try {
+                proofKudos.computeIfAbsent(proofId, id -> new LongAdder()).add(sumKudos);
+                kudosBySkillId.forEach((skillId, kudos) -> skillKudos
+                        .computeIfAbsent(new ProofSkill(proofId, skillId), key -> new LongAdder())
+                        .add(kudos));
+                kudosHistoryIds.add(kudosHistoryId);
+            } finally {
+                drainLock.readLock().unlock();
+            }
+        });
+    }
+
+    public long getPendingProofKudos(Long proofId) {
+        LongAdder kudos = proofKudos.get(proofId);
+        return kudos == null ? 0 : kudos.sum();
+    }
+
+    public long getPendingSkillKudos(Long proofId, Long skillId) {
+        LongAdder kudos = skillKudos.get(new ProofSkill(proofId, skillId));
+        return kudos == null ? 0 : kudos.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${kudos.write-behind.flush-interval}")
+    @PreDestroy
+    public void flush() {
+        Deltas deltas = drain();
+        if (deltas.kudosHistoryIds().isEmpty())
+            return;
+
+        try {
+            boolean claimed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!markAggregated(deltas.kudosHistoryIds())) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                apply(deltas.proofKudos(), deltas.skillKudos());
+                return true;
+            }));
+            // another instance has replayed some of the postings, the rest is applied from history
+            if (!claimed)
+                for (int from = 0; from < deltas.kudosHistoryIds().size(); from += CHUNK_SIZE) {
+                    int to = Math.min(from + CHUNK_SIZE, deltas.kudosHistoryIds().size());
+                    replay(kudosHistoryRepository.findNotAggregatedIdsIn(deltas.kudosHistoryIds().subList(from, to)));
+                }
+            log.debug("Flushed kudos of {} postings to {} proofs",
+                    deltas.kudosHistoryIds().size(), deltas.proofKudos().size());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush kudos, deltas are kept for the next flush", e);
+            restore(deltas);
+        }
+    }
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${kudos.write-behind.replay-after}",
+            fixedDelayString = "${kudos.write-behind.replay-after}")
+    public void replayNotAggregatedHistory() {
+        PageRequest chunk = PageRequest.of(0, CHUNK_SIZE);
+        LocalDateTime sentBefore = LocalDateTime.now().minus(replayAfter);
+        int replayed = 0;
+        try {
+            List<Long> ids;
+            while (!(ids = kudosHistoryRepository.findNotAggregatedIdsSentBefore(sentBefore, chunk)).isEmpty()) {
+                replay(ids);
+                replayed += ids.size();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to replay kudos postings which were not flushed, they are kept for the next replay", e);
+        }
+        if (replayed > 0)
+            log.info("Replayed {} kudos postings which were not flushed", replayed);
+    }
+
+    private void replay(List<Long> kudosHistoryIds) {
+        if (kudosHistoryIds.isEmpty())
+            return;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!markAggregated(kudosHistoryIds))
+                throw new IllegalStateException("Kudos postings were applied by another transaction");
+
+            Map<Long, Long> proofDeltas = new HashMap<>();
+            Map<ProofSkill, Long> skillDeltas = new HashMap<>();
+            kudosHistoryRepository.sumSkillKudosByIdIn(kudosHistoryIds).forEach(tuple -> {
+                Long proofId = (Long) tuple[0];
+                Long kudos = (Long) tuple[2];
+                proofDeltas.merge(proofId, kudos, Long::sum);
+                skillDeltas.put(new ProofSkill(proofId, (Long) tuple[1]), kudos);
+            });
+            apply(proofDeltas, skillDeltas);
+        });
+    }
+
+    /**
+     * @return whether this transaction has marked all the postings, the marked rows stay locked until it ends
+     */
+    private boolean markAggregated(List<Long> kudosHistoryIds) {
+        int marked = 0;
+        for (int from = 0; from < kudosHistoryIds.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, kudosHistoryIds.size());
+            marked += kudosHistoryRepository.markAggregated(kudosHistoryIds.subList(from, to));
+        }
+        return marked == kudosHistoryIds.size();
+    }
+
+    private void apply(Map<Long, Long> proofDeltas, Map<ProofSkill, Long> skillDeltas) {
+        Map<Long, Map<Long, Long>> skillDeltasByProofId = new HashMap<>();
+        skillDeltas.forEach((proofSkill, kudos) -> skillDeltasByProofId
+                .computeIfAbsent(proofSkill.proofId(), id -> new HashMap<>())
+                .put(proofSkill.skillId(), kudos));
+
+        proofDeltas.forEach(proofRepository::applyKudos);
+        skillDeltasByProofId.forEach(skillKudosRepository::addKudos);
+        if (!proofDeltas.isEmpty())
+            feedCache.evictProofs(proofDeltas.keySet());
+    }
+
+    private Deltas drain() {
+        drainLock.writeLock().lock();
+        try {
+            Deltas deltas = new Deltas(sumAndClear(proofKudos), sumAndClear(skillKudos), new ArrayList<>(kudosHistoryIds));
+            kudosHistoryIds.clear();
+            return deltas;
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+    }
+
+    private void restore(Deltas deltas) {
+        drainLock.readLock().lock();
+        try {
+            deltas.proofKudos().forEach((proofId, kudos) ->
+                    proofKudos.computeIfAbsent(proofId, id -> new LongAdder()).add(kudos));
+            deltas.skillKudos().forEach((proofSkill, kudos) ->
+                    skillKudos.computeIfAbsent(proofSkill, key -> new LongAdder()).add(kudos));
+            kudosHistoryIds.addAll(deltas.kudosHistoryIds());
+        } finally {
+            drainLock.readLock().unlock();
+        }
+    }
+
+    private static <K> Map<K, Long> sumAndClear(Map<K, LongAdder> adders) {
+        Map<K, Long> sums = new HashMap<>();
+        adders.forEach((key, kudos) -> sums.put(key, kudos.sum()));
+        adders.clear();
+        return sums;
+    }
+
+    private record ProofSkill(Long proofId, Long skillId) {
+    }
+
+    private record Deltas(Map<Long, Long> proofKudos, Map<ProofSkill, Long> skillKudos, List<Long> kudosHistoryIds) {
+    }
+}
@@ -6,6 +6,7 @@ import com.uptalent.skill.model.entity.SkillKudos;
 import com.uptalent.talent.model.entity.Talent;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -59,8 +60,13 @@ public class Proof {
     private boolean kudosedByMe;
 
     @OneToMany(mappedBy = "proof")
+    @OptimisticLock(excluded = false)
     private Set<SkillKudos> skillKudos;
 
+    @Version
+    @Column(nullable = false, name = "version")
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
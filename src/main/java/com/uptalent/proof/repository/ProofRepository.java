@@ -2,53 +2,148 @@ package com.uptalent.proof.repository;
 
 import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.model.enums.ContentStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ProofRepository extends JpaRepository<Proof, Long> {
     @Query("SELECT p " +
             "FROM proof p WHERE p.status = :contentStatus AND " +
             "coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize")
-    Page<Proof> findAllByStatus(ContentStatus contentStatus,
-                                Pageable pageable,
-                                String [] skills, int skillsSize);
-
-    @Query("SELECT p, coalesce(sum(kh.totalKudos), 0) " +
-            "FROM proof p LEFT JOIN kudos_history kh ON kh.proof.id = p.id AND kh.sponsor.id = :sponsorId " +
-            "WHERE p.status = :contentStatus " +
-            "GROUP BY p.id HAVING p.talent.id = :talentId")
-    Page<Object[]> findAllTalentProofsBySponsorIdAndStatus(Long sponsorId,
-                                                           Long talentId,
-                                                           ContentStatus contentStatus, Pageable pageable);
+    Slice<Proof> findAllByStatus(ContentStatus contentStatus,
+                                 Pageable pageable,
+                                 String [] skills, int skillsSize);
+
+    @Query("SELECT p FROM proof p WHERE p.status = :contentStatus AND p.id IN :ids")
+    Slice<Proof> findAllByStatusAndIdIn(ContentStatus contentStatus, Collection<Long> ids, Pageable pageable);
+
+    @Query("SELECT count(p) " +
+            "FROM proof p WHERE p.status = :contentStatus AND " +
+            "coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize")
+    long countAllByStatus(ContentStatus contentStatus, String [] skills, int skillsSize);
+
+    long countByStatusAndIdIn(ContentStatus status, Collection<Long> ids);
+
+    @Query("SELECT p " +
+            "FROM proof p WHERE p.status = :contentStatus AND " +
+            "(p.published < :published OR (p.published = :published AND p.id < :id)) AND " +
+            "coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize " +
+            "ORDER BY p.published DESC, p.id DESC")
+    List<Proof> findAllByStatusBeforeCursor(ContentStatus contentStatus,
+                                            LocalDateTime published, Long id,
+                                            String [] skills, int skillsSize,
+                                            Pageable pageable);
+
+    @Query("SELECT p " +
+            "FROM proof p WHERE p.status = :contentStatus AND " +
+            "(p.published > :published OR (p.published = :published AND p.id > :id)) AND " +
+            "coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize " +
+            "ORDER BY p.published ASC, p.id ASC")
+    List<Proof> findAllByStatusAfterCursor(ContentStatus contentStatus,
+                                           LocalDateTime published, Long id,
+                                           String [] skills, int skillsSize,
+                                           Pageable pageable);
+
+    @Query("SELECT p " +
+            "FROM proof p WHERE p.status = :contentStatus AND p.id IN :ids AND " +
+            "(p.published < :published OR (p.published = :published AND p.id < :id)) " +
+            "ORDER BY p.published DESC, p.id DESC")
+    List<Proof> findAllByStatusAndIdInBeforeCursor(ContentStatus contentStatus, Collection<Long> ids,
+                                                   LocalDateTime published, Long id,
+                                                   Pageable pageable);
+
+    @Query("SELECT p " +
+            "FROM proof p WHERE p.status = :contentStatus AND p.id IN :ids AND " +
+            "(p.published > :published OR (p.published = :published AND p.id > :id)) " +
+            "ORDER BY p.published ASC, p.id ASC")
+    List<Proof> findAllByStatusAndIdInAfterCursor(ContentStatus contentStatus, Collection<Long> ids,
+                                                  LocalDateTime published, Long id,
+                                                  Pageable pageable);
+
+    @Query("SELECT p, coalesce(spk.total, 0) " +
+            "FROM proof p LEFT JOIN sponsor_proof_kudos spk " +
+            "ON spk.id.proofId = p.id AND spk.id.sponsorId = :sponsorId " +
+            "WHERE p.status = :contentStatus AND p.talent.id = :talentId")
+    Slice<Object[]> findAllTalentProofsBySponsorIdAndStatus(Long sponsorId,
+                                                            Long talentId,
+                                                            ContentStatus contentStatus, Pageable pageable);
 
     @Query("SELECT p, CASE WHEN (p.talent.id = :currentTalentId) THEN TRUE ELSE FALSE END " +
             "FROM proof p " +
             "WHERE p.status = :contentStatus AND p.talent.id = :talentId")
-    Page<Object[]> findAllTalentProofsByTalentIdAndStatus(Long currentTalentId,
-                                                          Long talentId,
-                                                          ContentStatus contentStatus, Pageable pageable);
-
-    @Query("SELECT p, coalesce(sum(kh.totalKudos), 0) " +
-            "FROM proof p LEFT JOIN kudos_history kh ON kh.proof.id = p.id AND kh.sponsor.id = :sponsorId " +
-            "WHERE p.status = :contentStatus " +
-            "GROUP BY p.id " +
-            "HAVING coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize")
-    Page<Object[]> findProofsAndKudosSumBySponsorId(Long sponsorId,
-                                                    ContentStatus contentStatus,
-                                                    Pageable pageable, String [] skills, int skillsSize);
+    Slice<Object[]> findAllTalentProofsByTalentIdAndStatus(Long currentTalentId,
+                                                           Long talentId,
+                                                           ContentStatus contentStatus, Pageable pageable);
+
+    long countByTalentIdAndStatus(Long talentId, ContentStatus status);
+
+    @Query("SELECT p, coalesce(spk.total, 0) " +
+            "FROM proof p LEFT JOIN sponsor_proof_kudos spk " +
+            "ON spk.id.proofId = p.id AND spk.id.sponsorId = :sponsorId " +
+            "WHERE p.status = :contentStatus AND " +
+            "coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize")
+    Slice<Object[]> findProofsAndKudosSumBySponsorId(Long sponsorId,
+                                                     ContentStatus contentStatus,
+                                                     Pageable pageable, String [] skills, int skillsSize);
+
+    @Query("SELECT p, coalesce(spk.total, 0) " +
+            "FROM proof p LEFT JOIN sponsor_proof_kudos spk " +
+            "ON spk.id.proofId = p.id AND spk.id.sponsorId = :sponsorId " +
+            "WHERE p.status = :contentStatus AND p.id IN :ids")
+    Slice<Object[]> findProofsAndKudosSumBySponsorIdAndIdIn(Long sponsorId,
+                                                            ContentStatus contentStatus,
+                                                            Collection<Long> ids, Pageable pageable);
 
     @Query("SELECT p, CASE WHEN (p.talent.id = :talentId) THEN TRUE ELSE FALSE END " +
             "FROM proof p " +
             "WHERE p.status = :contentStatus AND " +
             "coalesce((SELECT count(sk) FROM p.skillKudos sk WHERE sk.skill.name IN :skills GROUP BY p.id), 0) = :skillsSize")
-    Page<Object[]> findProofsAndIsMyProofByTalentId(Long talentId,
-                                                    ContentStatus contentStatus,
-                                                    Pageable pageable, String[] skills, int skillsSize);
+    Slice<Object[]> findProofsAndIsMyProofByTalentId(Long talentId,
+                                                     ContentStatus contentStatus,
+                                                     Pageable pageable, String[] skills, int skillsSize);
+
+    @Query("SELECT p, CASE WHEN (p.talent.id = :talentId) THEN TRUE ELSE FALSE END " +
+            "FROM proof p " +
+            "WHERE p.status = :contentStatus AND p.id IN :ids")
+    Slice<Object[]> findProofsAndIsMyProofByTalentIdAndIdIn(Long talentId,
+                                                            ContentStatus contentStatus,
+                                                            Collection<Long> ids, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM proof p WHERE p.status = :contentStatus ORDER BY p.id")
+    Stream<Proof> streamAllByStatus(ContentStatus contentStatus);
+
+    @Query("SELECT p.id, t.id, t.firstname, t.lastname, t.avatar " +
+            "FROM proof p JOIN p.talent t WHERE p.id IN :proofIds")
+    List<Object[]> findAuthorsByProofIds(Collection<Long> proofIds);
+
+    @Query("SELECT p.version FROM proof p WHERE p.id = :proofId AND p.talent.id = :talentId")
+    Optional<Long> findVersionByIdAndTalentId(Long proofId, Long talentId);
+
+    @Query("SELECT p.id, p.title, p.summary, p.content FROM proof p WHERE p.status = :contentStatus")
+    List<Object[]> findSearchableFieldsByStatus(ContentStatus contentStatus);
+
+    @Query(value = "SELECT p.id FROM proof p, websearch_to_tsquery('english', :query) q " +
+            "WHERE p.status = 'PUBLISHED' AND p.search_vector @@ q " +
+            "ORDER BY ts_rank(p.search_vector, q) DESC, p.id DESC",
+            countQuery = "SELECT count(*) FROM proof p " +
+                    "WHERE p.status = 'PUBLISHED' AND p.search_vector @@ websearch_to_tsquery('english', :query)",
+            nativeQuery = true)
+    Page<Long> searchPublishedProofIds(String query, Pageable pageable);
 
     @Query("select p from proof p join talent t on t.id = p.talent.id " +
             "where t.id = :talentId and p.status = 'PUBLISHED' order by p.kudos desc")
@@ -56,7 +151,27 @@ public interface ProofRepository extends JpaRepository<Proof, Long> {
 
     @Modifying(clearAutomatically=true, flushAutomatically=true)
     @Query(value = "UPDATE proof p " +
-            "SET p.status = com.uptalent.proof.model.enums.ContentStatus.HIDDEN " +
+            "SET p.status = com.uptalent.proof.model.enums.ContentStatus.HIDDEN, p.version = p.version + 1 " +
             "WHERE p.id IN :ids")
     void updateProofsDeleteData(List<Long> ids);
-}
\ No newline at end of file
+
+    @Modifying(clearAutomatically=true, flushAutomatically=true)
+    @Query("UPDATE proof p SET p.kudos = p.kudos + :kudos, p.version = p.version + 1 " +
+            "WHERE p.id = :proofId AND p.status = com.uptalent.proof.model.enums.ContentStatus.PUBLISHED " +
+            "AND p.kudos <= :maxKudos - :kudos")
+    int addKudos(Long proofId, long kudos, long maxKudos);
+
+    @Modifying(clearAutomatically=true, flushAutomatically=true)
+    @Query("UPDATE proof p SET p.kudos = p.kudos + :kudos, p.version = p.version + 1 WHERE p.id = :proofId")
+    int applyKudos(Long proofId, long kudos);
+
+    @Query("SELECT p.kudos FROM proof p WHERE p.id = :proofId")
+    long findKudosById(Long proofId);
+
+    @Query("SELECT p.id, p.kudos FROM proof p WHERE p.id IN :proofIds")
+    List<Object[]> findKudosByIdIn(Collection<Long> proofIds);
+
+    @Query("SELECT DISTINCT p FROM proof p JOIN FETCH p.talent " +
+            "LEFT JOIN FETCH p.skillKudos sk LEFT JOIN FETCH sk.skill WHERE p.id IN :proofIds")
+    List<Proof> findAllWithSkillKudosByIdIn(Collection<Long> proofIds);
+}
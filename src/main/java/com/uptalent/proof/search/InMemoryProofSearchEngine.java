@@ -0,0 +1,175 @@
+package com.uptalent.proof.search;
+
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.repository.ProofRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+
+/**
+ * In-process inverted index over published proofs for profiles without Postgres full-text search.
+ * Terms of title, summary and content are weighted like the search_vector column of prod profile.
+ */
+@Component
+@Profile("!prod")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryProofSearchEngine implements ProofSearchEngine {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 4;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final ProofRepository proofRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> termsByProofId = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> publishedProofs = proofRepository.findSearchableFieldsByStatus(PUBLISHED);
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByProofId.clear();
+            publishedProofs.forEach(tuple -> put((Long) tuple[0],
+                    (String) tuple[1], (String) tuple[2], (String) tuple[3]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Proof search index was rebuilt with {} proofs", publishedProofs.size());
+    }
+
+    @Override
+    public Page<Long> searchPublishedProofIds(String query, Pageable pageable) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty())
+            return Page.empty(pageable);
+
+        Map<Long, Double> scores;
+        lock.readLock().lock();
+        try {
+            scores = score(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> rankedIds = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+
+        return new PageImpl<>(rankedIds.subList(from, to), pageable, rankedIds.size());
+    }
+
+    @Override
+    public void indexProof(Proof proof) {
+        Long proofId = proof.getId();
+        boolean published = PUBLISHED.equals(proof.getStatus());
+        String title = proof.getTitle();
+        String summary = proof.getSummary();
+        String content = proof.getContent();
+
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(proofId);
+                if (published)
+                    put(proofId, title, summary, content);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void removeProofs(Collection<Long> proofIds) {
+        List<Long> ids = List.copyOf(proofIds);
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                ids.forEach(this::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private Map<Long, Double> score(Set<String> terms) {
+        List<Map<Long, Integer>> termPostings = new ArrayList<>();
+        for (String term : terms) {
+            Map<Long, Integer> proofWeights = postings.get(term);
+            if (proofWeights == null)
+                return Map.of();
+            termPostings.add(proofWeights);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int proofsCount = termsByProofId.size();
+        Map<Long, Double> scores = new HashMap<>();
+        termPostings.get(0).keySet().stream()
+                .filter(proofId -> termPostings.stream().allMatch(proofWeights -> proofWeights.containsKey(proofId)))
+                .forEach(proofId -> scores.put(proofId, termPostings.stream()
+                        .mapToDouble(proofWeights -> proofWeights.get(proofId)
+                                * Math.log(1 + (double) proofsCount / proofWeights.size()))
+                        .sum()));
+        return scores;
+    }
+
+    private void put(Long proofId, String title, String summary, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, summary, SUMMARY_WEIGHT);
+        addTerms(weights, content, CONTENT_WEIGHT);
+
+        weights.forEach((term, weight) -> postings
+                .computeIfAbsent(term, t -> new HashMap<>())
+                .put(proofId, weight));
+        termsByProofId.put(proofId, weights.keySet());
+    }
+
+    private void remove(Long proofId) {
+        Set<String> terms = termsByProofId.remove(proofId);
+        if (terms == null)
+            return;
+        terms.forEach(term -> {
+            Map<Long, Integer> proofWeights = postings.get(term);
+            proofWeights.remove(proofId);
+            if (proofWeights.isEmpty())
+                postings.remove(term);
+        });
+    }
+
+    private void addTerms(Map<String, Integer> weights, String text, int weight) {
+        if (text == null)
+            return;
+        TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token -> token.length() > 1)
+                .forEach(token -> weights.merge(token, weight, Integer::sum));
+    }
+
+    private Set<String> tokenize(String text) {
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token -> token.length() > 1)
+                .collect(Collectors.toSet());
+    }
+}
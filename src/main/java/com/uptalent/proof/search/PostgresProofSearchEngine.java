@@ -0,0 +1,35 @@
+package com.uptalent.proof.search;
+
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.repository.ProofRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Searches over the generated proof.search_vector column. The column and its GIN index are
+ * maintained by the database, so indexing callbacks are no-ops.
+ */
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+public class PostgresProofSearchEngine implements ProofSearchEngine {
+    private final ProofRepository proofRepository;
+
+    @Override
+    public Page<Long> searchPublishedProofIds(String query, Pageable pageable) {
+        return proofRepository.searchPublishedProofIds(query, pageable);
+    }
+
+    @Override
+    public void indexProof(Proof proof) {
+    }
+
+    @Override
+    public void removeProofs(Collection<Long> proofIds) {
+    }
+}
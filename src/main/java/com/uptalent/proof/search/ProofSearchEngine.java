@@ -0,0 +1,18 @@
+package com.uptalent.proof.search;
+
+import com.uptalent.proof.model.entity.Proof;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+public interface ProofSearchEngine {
+    /**
+     * Returns ids of published proofs which match all words of the query, most relevant first.
+     */
+    Page<Long> searchPublishedProofIds(String query, Pageable pageable);
+
+    void indexProof(Proof proof);
+
+    void removeProofs(Collection<Long> proofIds);
+}
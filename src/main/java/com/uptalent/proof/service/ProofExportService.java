@@ -0,0 +1,62 @@
+package com.uptalent.proof.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
+import com.uptalent.proof.repository.ProofRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+
+@Service
+@RequiredArgsConstructor
+public class ProofExportService {
+    private static final int CHUNK_SIZE = 500;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ProofRepository proofRepository;
+    private final ProofFeedAssembler feedAssembler;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Writes published proofs as NDJSON in the shape of the proof feed while scrolling a database cursor.
+     * Every chunk is flushed to the client and detached from the persistence context before the next one
+     * is read, so memory does not grow with the catalog and a slow client blocks the scroll.
+     */
+    @PreAuthorize("hasAuthority('SPONSOR')")
+    @Transactional(readOnly = true)
+    public void exportPublishedProofs(OutputStream outputStream) throws IOException {
+        try (Stream<Proof> proofs = proofRepository.streamAllByStatus(PUBLISHED)) {
+            Iterator<Proof> iterator = proofs.iterator();
+            List<Proof> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(chunk, outputStream);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private void writeChunk(List<Proof> chunk, OutputStream outputStream) throws IOException {
+        for (ProofGeneralInfo proofGeneralInfo : feedAssembler.toProofGeneralInfos(chunk)) {
+            outputStream.write(objectMapper.writeValueAsBytes(proofGeneralInfo));
+            outputStream.write(LINE_SEPARATOR);
+        }
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,87 @@
+package com.uptalent.proof.service;
+
+import com.uptalent.mapper.ProofMapper;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
+import com.uptalent.proof.model.response.ProofSponsorGeneralInfo;
+import com.uptalent.proof.model.response.ProofTalentGeneralInfo;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.skill.model.SkillProofInfo;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.util.model.response.Author;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Converts a page of proofs to feed responses loading skills and authors of the whole page
+ * with two batched queries instead of lazy loading them proof by proof.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProofFeedAssembler {
+    private final ProofRepository proofRepository;
+    private final SkillKudosRepository skillKudosRepository;
+    private final ProofMapper mapper;
+
+    public List<ProofGeneralInfo> toProofGeneralInfos(List<Proof> proofs) {
+        FeedData feedData = loadFeedData(proofs);
+        return proofs.stream()
+                .map(proof -> mapper.toProofGeneralInfo(proof,
+                        feedData.skills(proof), feedData.author(proof)))
+                .toList();
+    }
+
+    public List<ProofTalentGeneralInfo> toProofTalentGeneralInfos(List<Object[]> proofsAndIsMyProof) {
+        FeedData feedData = loadFeedData(proofsAndIsMyProof.stream().map(tuple -> (Proof) tuple[0]).toList());
+        return proofsAndIsMyProof.stream()
+                .map(tuple -> {
+                    Proof proof = (Proof) tuple[0];
+                    Boolean isMyProof = (Boolean) tuple[1];
+                    return mapper.toProofTalentGeneralInfo(proof, isMyProof,
+                            feedData.skills(proof), feedData.author(proof));
+                })
+                .toList();
+    }
+
+    public List<ProofSponsorGeneralInfo> toProofSponsorGeneralInfos(List<Object[]> proofsAndKudosSum) {
+        FeedData feedData = loadFeedData(proofsAndKudosSum.stream().map(tuple -> (Proof) tuple[0]).toList());
+        return proofsAndKudosSum.stream()
+                .map(tuple -> {
+                    Proof proof = (Proof) tuple[0];
+                    Long kudosSumFromMe = (Long) tuple[1];
+                    return mapper.toProofSponsorGeneralInfo(proof, kudosSumFromMe,
+                            feedData.skills(proof), feedData.author(proof));
+                })
+                .toList();
+    }
+
+    private FeedData loadFeedData(List<Proof> proofs) {
+        Map<Long, Set<SkillProofInfo>> skillsByProofId = new HashMap<>();
+        Map<Long, Author> authorsByProofId = new HashMap<>();
+        if (proofs.isEmpty())
+            return new FeedData(skillsByProofId, authorsByProofId);
+
+        List<Long> proofIds = proofs.stream().map(Proof::getId).toList();
+        skillKudosRepository.findSkillProofInfosByProofIds(proofIds)
+                .forEach(tuple -> skillsByProofId
+                        .computeIfAbsent((Long) tuple[0], id -> new HashSet<>())
+                        .add(new SkillProofInfo((Long) tuple[1], (String) tuple[2], (Long) tuple[3])));
+        proofRepository.findAuthorsByProofIds(proofIds)
+                .forEach(tuple -> authorsByProofId.put((Long) tuple[0],
+                        mapper.toAuthor((Long) tuple[1], (String) tuple[2], (String) tuple[3], (String) tuple[4])));
+
+        return new FeedData(skillsByProofId, authorsByProofId);
+    }
+
+    private record FeedData(Map<Long, Set<SkillProofInfo>> skillsByProofId, Map<Long, Author> authorsByProofId) {
+        Set<SkillProofInfo> skills(Proof proof) {
+            return skillsByProofId.getOrDefault(proof.getId(), new HashSet<>());
+        }
+
+        Author author(Proof proof) {
+            return authorsByProofId.get(proof.getId());
+        }
+    }
+}
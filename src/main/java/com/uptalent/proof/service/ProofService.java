@@ -1,25 +1,44 @@
 package com.uptalent.proof.service;
 
+import com.uptalent.cache.FeedCache;
+import com.uptalent.cache.FeedCacheKey;
 import com.uptalent.credentials.model.enums.Role;
-import com.uptalent.mapper.KudosHistoryMapper;
+import com.uptalent.leaderboard.LeaderboardService;
 import com.uptalent.mapper.ProofMapper;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.pagination.CursorPage;
+import com.uptalent.pagination.FeedCursor;
 import com.uptalent.pagination.PageWithMetadata;
 import com.uptalent.proof.exception.*;
 import com.uptalent.proof.kudos.exception.IllegalPostingKudos;
 import com.uptalent.proof.kudos.model.entity.KudosHistory;
 import com.uptalent.proof.kudos.model.request.PostKudos;
+import com.uptalent.proof.kudos.model.request.PostKudosBatch;
+import com.uptalent.proof.kudos.model.request.PostKudosBatchItem;
 import com.uptalent.proof.kudos.model.request.PostKudosSkill;
 import com.uptalent.proof.kudos.model.response.KudosSender;
+import com.uptalent.proof.kudos.model.response.KudosSenderSummary;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatch;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatchItem;
 import com.uptalent.proof.kudos.model.response.UpdatedProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudosId;
 import com.uptalent.proof.kudos.repository.KudosHistoryRepository;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.proof.kudos.service.KudosWriteBehindBuffer;
 import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.proof.model.request.ProofModify;
 import com.uptalent.proof.model.response.ProofDetailInfo;
 import com.uptalent.proof.model.response.ProofGeneralInfo;
 import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.ProofSearchEngine;
 import com.uptalent.skill.exception.DuplicateSkillException;
 import com.uptalent.skill.exception.SkillNotFoundException;
+import com.uptalent.skill.index.SkillIndexService;
 import com.uptalent.skill.model.SkillProofInfo;
 import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.skill.model.entity.SkillKudos;
@@ -29,10 +48,13 @@ import com.uptalent.skill.repository.SkillKudosRepository;
 import com.uptalent.skill.repository.SkillRepository;
 import com.uptalent.sponsor.exception.SponsorNotFoundException;
 import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
 import com.uptalent.sponsor.repository.SponsorRepository;
+import com.uptalent.sponsor.service.SponsorRatingService;
 import com.uptalent.talent.exception.TalentNotFoundException;
 import com.uptalent.talent.model.entity.Talent;
 import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.service.TalentStatisticService;
 import com.uptalent.util.exception.IllegalContentModifyingException;
 import com.uptalent.util.exception.UnrelatedContentException;
 import com.uptalent.util.service.AccessVerifyService;
@@ -40,6 +62,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -51,6 +75,9 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.uptalent.credentials.model.enums.Role.SPONSOR;
@@ -65,24 +92,83 @@ public class ProofService {
     private final ProofRepository proofRepository;
     private final TalentRepository talentRepository;
     private final KudosHistoryRepository kudosHistoryRepository;
+    private final SponsorProofKudosRepository sponsorProofKudosRepository;
     private final ProofMapper mapper;
     private final AccessVerifyService accessVerifyService;
     private final SponsorRepository sponsorRepository;
     private final SkillRepository skillRepository;
     private final SkillKudosRepository skillKudosRepository;
     private final SkillKudosHistoryRepository skillKudosHistoryRepository;
-    private final KudosHistoryMapper kudosHistoryMapper;
+    private final KudosHistoryReader kudosHistoryReader;
+    private final SkillIndexService skillIndexService;
+    private final ProofFeedAssembler feedAssembler;
+    private final ProofSearchEngine proofSearchEngine;
+    private final FeedCache feedCache;
+    private final KudosWriteBehindBuffer kudosWriteBehindBuffer;
+    private final TalentStatisticService talentStatisticService;
+    private final SponsorRatingService sponsorRatingService;
+    private final LeaderboardService leaderboardService;
+    private final OutboxPublisher outboxPublisher;
+    private final KudosLedgerService kudosLedgerService;
 
     private long KUDOS_MAX_VALUE = 9999999999L;
 
 
-    public PageWithMetadata<? extends ProofGeneralInfo> getProofs(int page, int size, String sort, String [] skills) {
+    public PageWithMetadata<? extends ProofGeneralInfo> getProofs(int page, int size, String sort, String [] skills,
+                                                                  boolean withTotal) {
         Sort sortOrder = getSortByString(sort, PUBLISHED);
         PageRequest pageRequest = PageRequest.of(page, size, sortOrder);
         Long principalId = accessVerifyService.getPrincipalId();
-        Page<? extends ProofGeneralInfo> proofsPage = getPageProofsWithGeneralInfo(principalId, pageRequest, skills);
 
-        return new PageWithMetadata<>(proofsPage.getContent(), proofsPage.getTotalPages());
+        if (withTotal && !accessVerifyService.hasRole(SPONSOR) && !accessVerifyService.hasRole(TALENT))
+            return feedCache.getProofFeed(FeedCacheKey.of(page, size, sort, skills),
+                    () -> getProofsWithGeneralInfo(principalId, pageRequest, skills, true));
+
+        return getProofsWithGeneralInfo(principalId, pageRequest, skills, withTotal);
+    }
+
+    public CursorPage<? extends ProofGeneralInfo> getProofsByCursor(int size, String sort, String [] skills,
+                                                                   String cursor) {
+        boolean descending = getSortByString(sort, PUBLISHED).getOrderFor("published").isDescending();
+        FeedCursor feedCursor = FeedCursor.decode(cursor, descending);
+        int skillsSize = (skills == null) ? 0 : skills.length;
+        PageRequest limitRequest = PageRequest.of(0, size + 1);
+        Optional<List<Long>> indexedIds = findIndexedProofIds(skills);
+
+        List<Proof> proofs;
+        if (indexedIds.isPresent())
+            proofs = indexedIds.get().isEmpty() ? List.of() : descending
+                    ? proofRepository.findAllByStatusAndIdInBeforeCursor(PUBLISHED, indexedIds.get(),
+                            feedCursor.getPublished(), feedCursor.getId(), limitRequest)
+                    : proofRepository.findAllByStatusAndIdInAfterCursor(PUBLISHED, indexedIds.get(),
+                            feedCursor.getPublished(), feedCursor.getId(), limitRequest);
+        else
+            proofs = descending
+                    ? proofRepository.findAllByStatusBeforeCursor(PUBLISHED, feedCursor.getPublished(),
+                            feedCursor.getId(), skills, skillsSize, limitRequest)
+                    : proofRepository.findAllByStatusAfterCursor(PUBLISHED, feedCursor.getPublished(),
+                            feedCursor.getId(), skills, skillsSize, limitRequest);
+
+        String nextCursor = null;
+        if (proofs.size() > size) {
+            proofs = proofs.subList(0, size);
+            Proof last = proofs.get(size - 1);
+            nextCursor = FeedCursor.encode(last.getPublished(), last.getId(), descending);
+        }
+
+        return new CursorPage<>(toProofGeneralInfos(proofs), nextCursor);
+    }
+
+    public PageWithMetadata<? extends ProofGeneralInfo> searchProofs(String query, int page, int size) {
+        Page<Long> rankedIds = proofSearchEngine.searchPublishedProofIds(query, PageRequest.of(page, size));
+        Map<Long, Proof> proofsById = proofRepository.findAllById(rankedIds.getContent()).stream()
+                .collect(Collectors.toMap(Proof::getId, Function.identity()));
+        List<Proof> proofs = rankedIds.getContent().stream()
+                .map(proofsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageWithMetadata<>(toProofGeneralInfos(proofs), rankedIds.getTotalPages());
     }
 
     public ProofDetailInfo getProofDetailInfo(Long talentId, Long proofId) {
@@ -94,6 +180,10 @@ public class ProofService {
         return mapper.toProofDetailInfo(proof);
     }
 
+    public Optional<String> getProofDetailETag(Long talentId, Long proofId) {
+        return proofRepository.findVersionByIdAndTalentId(proofId, talentId).map(String::valueOf);
+    }
+
     @PreAuthorize("hasAuthority('TALENT')")
     @Transactional
     public URI createProof(ProofModify proofModify, Long talentId) {
@@ -110,6 +200,9 @@ public class ProofService {
         proof = proofRepository.save(proof);
 
         setSkills(proofModify, proof);
+        if (PUBLISHED.equals(proof.getStatus()))
+            outboxPublisher.publish(new ProofPublished(proof.getId(), talentId, proof.getPublished()));
+        proofSearchEngine.indexProof(proof);
 
         talent.getProofs().add(proof);
         talentRepository.save(talent);
@@ -133,18 +226,30 @@ public class ProofService {
         Proof foundProof = getProofById(proofId);
         verifyTalentContainProof(talentId, foundProof);
 
+        ContentStatus previousStatus = foundProof.getStatus();
         Consumer<Proof> modifyingStrategy = selectProofModifyStrategy(proofModify,
                 foundProof.getId(),
-                foundProof.getStatus());
+                previousStatus);
 
         modifyingStrategy.accept(foundProof);
+        if (!previousStatus.equals(foundProof.getStatus())) {
+            proofRepository.flush();
+            if (PUBLISHED.equals(foundProof.getStatus()))
+                outboxPublisher.publish(new ProofPublished(proofId, talentId, foundProof.getPublished()));
+            else
+                talentStatisticService.updateMostKudosedProof(foundProof, foundProof.getKudos());
+        }
+        proofSearchEngine.indexProof(foundProof);
+        if (previousStatus.equals(PUBLISHED))
+            feedCache.evictProofFeed();
 
         return mapper.toProofDetailInfo(foundProof);
     }
 
 
     public PageWithMetadata<? extends ProofDetailInfo> getTalentProofs(int page, int size, String sort,
-                                                             Long talentId, String status) {
+                                                                       Long talentId, String status,
+                                                                       boolean withTotal) {
 
         ContentStatus contentStatus = ContentStatus.valueOf(status.toUpperCase());
         Sort sortOrder = getSortByString(sort, contentStatus);
@@ -153,10 +258,19 @@ public class ProofService {
 
         validateGetTalentProofs(talentId, contentStatus);
 
-        Page<? extends ProofDetailInfo> proofsPage = getPageProofsWithDetailInfo(principalId, talentId,
-                contentStatus, pageRequest);
-
-        return new PageWithMetadata<>(proofsPage.getContent(), proofsPage.getTotalPages());
+        LongSupplier count = () -> proofRepository.countByTalentIdAndStatus(talentId, contentStatus);
+        if (accessVerifyService.hasRole(SPONSOR)){
+            Slice<Object[]> talentProofs = proofRepository
+                    .findAllTalentProofsBySponsorIdAndStatus(principalId, talentId, contentStatus, pageRequest);
+            return PageWithMetadata.of(mapper.toProofSponsorDetailInfos(talentProofs.getContent()),
+                    talentProofs, withTotal, count);
+        }
+        else{
+            Slice<Object[]> talentProofs = proofRepository
+                    .findAllTalentProofsByTalentIdAndStatus(principalId, talentId, contentStatus, pageRequest);
+            return PageWithMetadata.of(mapper.toProofTalentDetailInfos(talentProofs.getContent()),
+                    talentProofs, withTotal, count);
+        }
     }
 
     @PreAuthorize("hasAuthority('TALENT')")
@@ -172,15 +286,30 @@ public class ProofService {
         Proof proofToDelete = getProofById(proofId);
         verifyTalentContainProof(talentId, proofToDelete);
 
+        Set<SkillKudos> skillKudos = proofToDelete.getSkillKudos() == null
+                ? Set.of() : new HashSet<>(proofToDelete.getSkillKudos());
+        leaderboardService.removeProof(talentId, skillKudos);
         proofRepository.delete(proofToDelete);
+        proofRepository.flush();
+        talentStatisticService.removeProof(talentId, proofId, proofToDelete.getKudos(), skillKudos);
+        sponsorRatingService.rebuildRating(talentId);
+        skillIndexService.removeProof(proofId);
+        proofSearchEngine.removeProofs(List.of(proofId));
+        feedCache.evictProofFeed();
     }
 
     public List<KudosSender> getKudosSenders(Long proofId) {
         verifyProofExistsById(proofId);
         verifyTalentContainProof(accessVerifyService.getPrincipalId(), getProofById(proofId));
-        return kudosHistoryRepository.findKudosSendersByProofId(proofId).stream()
-                .map(kudosHistoryMapper::toKudosedSender)
-                .collect(Collectors.toList());
+        return kudosHistoryReader.getKudosSenders(proofId);
+    }
+
+    public PageWithMetadata<KudosSenderSummary> getKudosSenderSummaries(Long proofId, int page, int size) {
+        verifyProofExistsById(proofId);
+        verifyTalentContainProof(accessVerifyService.getPrincipalId(), getProofById(proofId));
+        Page<KudosSenderSummary> senders = kudosHistoryReader.getKudosSenderSummaries(proofId,
+                PageRequest.of(page, size));
+        return new PageWithMetadata<>(senders.getContent(), senders.getTotalPages());
     }
 
 
@@ -194,87 +323,221 @@ public class ProofService {
         long sumKudos = postKudos.getPostKudosSkills().stream()
                 .mapToLong(PostKudosSkill::getKudos)
                 .sum();
-        validatePostingKudos(sponsor, sumKudos, proof);
+        validatePostingKudos(kudosLedgerService.getBalance(sponsorId), sumKudos, proof);
 
-        Set<Long> skillIdsSet = postKudos.getPostKudosSkills().stream()
-                .map(PostKudosSkill::getSkillId)
-                .collect(Collectors.toSet());
-        List<Long> skillsIdList = postKudos.getPostKudosSkills().stream()
-                .map(PostKudosSkill::getSkillId)
-                .toList();
+        getSkillKudosBySkillId(proof, postKudos);
+        validatePositiveKudoses(postKudos);
 
-        int uniqueSkillIds = skillIdsSet.size();
-        validateNotContainsDuplicates(uniqueSkillIds, postKudos.getPostKudosSkills().size());
+        Map<Long, Long> kudosBySkillId = postKudos.getPostKudosSkills().stream()
+                .collect(Collectors.toMap(PostKudosSkill::getSkillId, PostKudosSkill::getKudos));
+        PostedKudosBatchItem postedItem = postValidatedKudos(sponsor, Map.of(proofId, proof),
+                Map.of(proofId, kudosBySkillId), sumKudos).get(proofId);
+        if (!postedItem.isPosted())
+            throw new IllegalPostingKudos(postedItem.getMessage());
+
+        Map<Long, SkillProofInfo> skillProofInfos = postedItem.getSkills().stream()
+                .collect(Collectors.toMap(SkillProofInfo::getId, Function.identity()));
+        return new UpdatedProofKudos(postedItem.getCurrentCountKudos(), postedItem.getCurrentSumKudosBySponsor(),
+                kudosLedgerService.getBalance(sponsorId), postKudos.getPostKudosSkills().stream()
+                .map(postKudosSkill -> skillProofInfos.get(postKudosSkill.getSkillId()))
+                .toList());
+    }
 
-        Set<Skill> skills = new HashSet<>(skillRepository.findAllById(skillsIdList));
-        if(uniqueSkillIds != skills.size()) {
-            throw new SkillNotFoundException("Some skills which are not exist");
-        }
-        validateProofContainSkills(proof, skills);
-        validatePositiveKudoses(postKudos);
+    /**
+     * Posts kudos to many proofs at once. Entries which fail validation are rejected with a message, the others are
+     * debited from the sponsor balance once and written together. Proofs are updated in the order of their ids, and
+     * talent statistics and sponsor ratings in the order of talent ids, so concurrent batches do not deadlock.
+     * An entry whose proof was changed by a concurrent request after validation is rejected as well.
+     */
+    @PreAuthorize("hasAuthority('SPONSOR')")
+    @Transactional
+    public PostedKudosBatch postKudosBatch(PostKudosBatch postKudosBatch) {
+        Long sponsorId = accessVerifyService.getPrincipalId();
+        Sponsor sponsor = getSponsorById(sponsorId);
+        List<PostKudosBatchItem> items = postKudosBatch.getItems();
+        Map<Long, Proof> proofs = proofRepository.findAllWithSkillKudosByIdIn(items.stream()
+                        .map(PostKudosBatchItem::getProofId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Proof::getId, Function.identity()));
+        Set<Long> existingSkillIds = skillRepository.findAllById(items.stream()
+                        .flatMap(item -> item.getPostKudosSkills().stream())
+                        .map(PostKudosSkill::getSkillId)
+                        .collect(Collectors.toSet())).stream()
+                .map(Skill::getId)
+                .collect(Collectors.toSet());
 
-        KudosHistory kudosHistory = KudosHistory.builder()
-                .sponsor(sponsor)
-                .proof(proof)
-                .sent(LocalDateTime.now())
-                .totalKudos(sumKudos)
-                .build();
-
-        List<SkillProofInfo> skillProofInfos = new ArrayList<>();
-
-        List<SkillKudosHistory> skillKudosHistories = postKudos.getPostKudosSkills().stream()
-                .map(postKudosSkill -> {
-                    Skill skill = skills.stream()
-                            .filter(s -> s.getId().equals(postKudosSkill.getSkillId()))
-                            .findFirst()
-                            .orElse(null);
-
-                    SkillKudos skillKudos = proof.getSkillKudos().stream()
-                            .filter(skillKds -> skillKds.getSkill().getId().equals(skill.getId()))
-                            .findFirst()
-                            .orElse(null);
-
-                    if (skillKudos == null) {
-                        skillKudos = SkillKudos.builder()
-                                .skill(skill)
-                                .kudos(postKudosSkill.getKudos())
-                                .build();
-                        proof.getSkillKudos().add(skillKudos);
-                    } else {
-                        skillKudos.setKudos(skillKudos.getKudos() + postKudosSkill.getKudos());
-                    }
-
-                    SkillKudosHistory skillKudosHistory = SkillKudosHistory.builder()
-                            .skill(skill)
-                            .kudos(postKudosSkill.getKudos())
-                            .kudosHistory(kudosHistory)
-                            .build();
+        List<String> rejections = new ArrayList<>();
+        Set<Long> seenProofIds = new HashSet<>();
+        Map<Long, Map<Long, Long>> kudosBySkillIdByProofId = new TreeMap<>();
+        long balance = kudosLedgerService.getBalance(sponsorId);
+        long remainingBalance = balance;
+        for (PostKudosBatchItem item : items) {
+            PostKudos postKudos = new PostKudos(item.getPostKudosSkills());
+            long sumKudos = postKudos.getPostKudosSkills().stream()
+                    .mapToLong(PostKudosSkill::getKudos)
+                    .sum();
+            try {
+                if (!seenProofIds.add(item.getProofId()))
+                    throw new IllegalPostingKudos("Proof should be posted once in a batch");
+                Proof proof = Optional.ofNullable(proofs.get(item.getProofId()))
+                        .orElseThrow(() -> new ProofNotFoundException("Proof was not found"));
+                validatePostingKudos(remainingBalance, sumKudos, proof);
+                getSkillKudosBySkillId(proof, postKudos, existingSkillIds::containsAll);
+                validatePositiveKudoses(postKudos);
+            } catch (IllegalPostingKudos | ProofNotFoundException | ProofNotContainSkillException
+                     | SkillNotFoundException | DuplicateSkillException e) {
+                rejections.add(e.getMessage());
+                continue;
+            }
+            rejections.add(null);
+            remainingBalance -= sumKudos;
+            kudosBySkillIdByProofId.put(item.getProofId(), postKudos.getPostKudosSkills().stream()
+                    .collect(Collectors.toMap(PostKudosSkill::getSkillId, PostKudosSkill::getKudos)));
+        }
 
-                    skillRepository.save(skill);
-                    skillKudosRepository.save(skillKudos);
-                    skillKudosHistoryRepository.save(skillKudosHistory);
+        Map<Long, PostedKudosBatchItem> postedItems = kudosBySkillIdByProofId.isEmpty()
+                ? Map.of()
+                : postValidatedKudos(sponsor, proofs, kudosBySkillIdByProofId, balance - remainingBalance);
 
-                    skillProofInfos.add(new SkillProofInfo(skill.getId(), skill.getName(), skillKudos.getKudos()));
+        List<PostedKudosBatchItem> results = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long proofId = items.get(i).getProofId();
+            results.add(rejections.get(i) == null
+                    ? postedItems.get(proofId)
+                    : new PostedKudosBatchItem(proofId, false, rejections.get(i), null, null, null));
+        }
+        return new PostedKudosBatch(kudosLedgerService.getBalance(sponsorId), results);
+    }
 
-                    return skillKudosHistory;
-                })
-                .collect(Collectors.toList());
+    private Map<Long, PostedKudosBatchItem> postValidatedKudos(Sponsor sponsor, Map<Long, Proof> proofs,
+                                                               Map<Long, Map<Long, Long>> validatedKudos,
+                                                               long sumKudos) {
+        Long sponsorId = sponsor.getId();
+        if (kudosLedgerService.lockBalance(sponsorId) < sumKudos)
+            throw new IllegalPostingKudos("You do not have balance for posting kudos");
 
-        kudosHistory.setSkillKudosHistories(skillKudosHistories);
+        boolean buffered = kudosWriteBehindBuffer.isEnabled();
+        LocalDateTime sent = LocalDateTime.now();
+        Map<Long, PostedKudosBatchItem> items = new HashMap<>();
+        Map<Long, Map<Long, Long>> kudosBySkillIdByProofId = new TreeMap<>();
+        List<KudosHistory> kudosHistories = new ArrayList<>();
+        List<SkillKudosHistory> skillKudosHistories = new ArrayList<>();
+        validatedKudos.forEach((proofId, kudosBySkillId) -> {
+            Proof proof = proofs.get(proofId);
+            long proofKudos = sumValues(kudosBySkillId);
+            try {
+                if (buffered)
+                    validateBufferedKudos(proof, proofKudos);
+                else
+                    addKudosToProofAndSkills(proofId, proofKudos, kudosBySkillId);
+            } catch (IllegalPostingKudos | ProofNotContainSkillException e) {
+                items.put(proofId, new PostedKudosBatchItem(proofId, false, e.getMessage(), null, null, null));
+                return;
+            }
+            kudosBySkillIdByProofId.put(proofId, kudosBySkillId);
+
+            KudosHistory kudosHistory = KudosHistory.builder()
+                    .sponsor(sponsor)
+                    .proof(proof)
+                    .sent(sent)
+                    .totalKudos(proofKudos)
+                    .aggregated(!buffered)
+                    .build();
+            Map<Long, Skill> skillsById = proof.getSkillKudos().stream()
+                    .map(SkillKudos::getSkill)
+                    .collect(Collectors.toMap(Skill::getId, Function.identity()));
+            kudosHistory.setSkillKudosHistories(kudosBySkillId.entrySet().stream()
+                    .map(entry -> SkillKudosHistory.builder()
+                            .skill(skillsById.get(entry.getKey()))
+                            .kudos(entry.getValue())
+                            .kudosHistory(kudosHistory)
+                            .sent(sent)
+                            .build())
+                    .toList());
+            kudosHistories.add(kudosHistory);
+            skillKudosHistories.addAll(kudosHistory.getSkillKudosHistories());
+        });
+        if (kudosHistories.isEmpty())
+            return items;
+
+        kudosHistoryRepository.saveAll(kudosHistories);
+        skillKudosHistoryRepository.saveAll(skillKudosHistories);
+        kudosLedgerService.withdrawKudos(sponsorId, kudosHistories);
+        if (buffered)
+            kudosHistories.forEach(kudosHistory -> kudosWriteBehindBuffer.add(kudosHistory.getId(),
+                    kudosHistory.getProof().getId(), kudosBySkillIdByProofId.get(kudosHistory.getProof().getId())));
+
+        Set<Long> proofIds = kudosBySkillIdByProofId.keySet();
+        Map<Long, Long> sumKudosBySponsor = addSponsorProofKudos(sponsorId, kudosHistories);
+        Map<Long, Long> countKudos = proofRepository.findKudosByIdIn(proofIds).stream()
+                .collect(Collectors.toMap(tuple -> (Long) tuple[0], tuple -> (Long) tuple[1]
+                        + kudosWriteBehindBuffer.getPendingProofKudos((Long) tuple[0])
+                        + (buffered ? sumValues(kudosBySkillIdByProofId.get((Long) tuple[0])) : 0)));
+
+        kudosHistories.forEach(kudosHistory -> {
+            Long proofId = kudosHistory.getProof().getId();
+            outboxPublisher.publish(new KudosPosted(kudosHistory.getId(), sponsorId, proofId,
+                    kudosHistory.getProof().getTalent().getId(), kudosHistory.getTotalKudos(), countKudos.get(proofId),
+                    kudosBySkillIdByProofId.get(proofId), sent));
+        });
+
+        Map<Long, List<Object[]>> skillProofInfos = skillKudosRepository.findSkillProofInfosByProofIds(proofIds)
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> (Long) tuple[0]));
+        proofIds.forEach(proofId -> {
+            Map<Long, Long> notFlushedKudos = buffered ? kudosBySkillIdByProofId.get(proofId) : Map.of();
+            items.put(proofId, new PostedKudosBatchItem(proofId, true, null, countKudos.get(proofId),
+                    sumKudosBySponsor.get(proofId), skillProofInfos.get(proofId).stream()
+                    .filter(tuple -> kudosBySkillIdByProofId.get(proofId).containsKey((Long) tuple[1]))
+                    .map(tuple -> toSkillProofInfo(proofId, tuple, notFlushedKudos))
+                    .toList()));
+        });
+        return items;
+    }
 
-        long currentCountKudos = proof.getKudos() + sumKudos;
-        long currentBalance = sponsor.getKudos() - sumKudos;
+    private Map<Long, Long> addSponsorProofKudos(Long sponsorId, List<KudosHistory> kudosHistories) {
+        Map<SponsorProofKudosId, SponsorProofKudos> totals = sponsorProofKudosRepository
+                .findAllById(kudosHistories.stream()
+                        .map(kudosHistory -> new SponsorProofKudosId(sponsorId, kudosHistory.getProof().getId()))
+                        .toList()).stream()
+                .collect(Collectors.toMap(SponsorProofKudos::getId, Function.identity()));
+        kudosHistories.forEach(kudosHistory -> {
+            SponsorProofKudosId id = new SponsorProofKudosId(sponsorId, kudosHistory.getProof().getId());
+            SponsorProofKudos total = totals.computeIfAbsent(id, key -> new SponsorProofKudos(key, 0L));
+            total.setTotal(total.getTotal() + kudosHistory.getTotalKudos());
+        });
+        return sponsorProofKudosRepository.saveAll(totals.values()).stream()
+                .collect(Collectors.toMap(total -> total.getId().getProofId(), SponsorProofKudos::getTotal));
+    }
 
-        proof.setKudos(currentCountKudos);
-        sponsor.setKudos(currentBalance);
+    private long sumValues(Map<Long, Long> kudosBySkillId) {
+        return kudosBySkillId.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
 
-        kudosHistoryRepository.save(kudosHistory);
-        proofRepository.save(proof);
-        sponsorRepository.save(sponsor);
+    private void addKudosToProofAndSkills(Long proofId, long sumKudos, Map<Long, Long> kudosBySkillId) {
+        if (proofRepository.addKudos(proofId, sumKudos, KUDOS_MAX_VALUE) == 0)
+            throw new IllegalPostingKudos("You reached max value of posting kudos");
+        if (skillKudosRepository.addKudos(proofId, kudosBySkillId) != kudosBySkillId.size()) {
+            // a skill was removed from the proof concurrently, the updated rows get their kudos back
+            proofRepository.addKudos(proofId, -sumKudos, KUDOS_MAX_VALUE);
+            skillKudosRepository.addKudos(proofId, kudosBySkillId.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> -entry.getValue())));
+            throw new ProofNotContainSkillException("Proof does not contain all skills");
+        }
+    }
 
-        long currentSumKudos = kudosHistoryRepository.sumKudosProofBySponsorId(sponsorId, proofId);
+    private void validateBufferedKudos(Proof proof, long sumKudos) {
+        long bufferedKudos = proof.getKudos() + kudosWriteBehindBuffer.getPendingProofKudos(proof.getId());
+        if (KUDOS_MAX_VALUE - bufferedKudos < sumKudos)
+            throw new IllegalPostingKudos("You reached max value of posting kudos");
+    }
 
-        return new UpdatedProofKudos(currentCountKudos, currentSumKudos, currentBalance, skillProofInfos);
+    private SkillProofInfo toSkillProofInfo(Long proofId, Object[] tuple, Map<Long, Long> notFlushedKudos) {
+        return new SkillProofInfo((Long) tuple[1], (String) tuple[2], (Long) tuple[3]
+                + kudosWriteBehindBuffer.getPendingSkillKudos(proofId, (Long) tuple[1])
+                + notFlushedKudos.getOrDefault((Long) tuple[1], 0L));
     }
 
     private void validatePositiveKudoses(PostKudos postKudos) {
@@ -286,13 +549,26 @@ public class ProofService {
             throw new IllegalPostingKudos("Kudos should be positive");
     }
 
-    private void validateProofContainSkills(Proof proof, Set<Skill> skills) {
-        List<Skill> proofSkills = proof.getSkillKudos().stream()
-                .map(SkillKudos::getSkill)
-                .toList();
-        if(!new HashSet<>(proofSkills).containsAll(skills)) {
+    private Map<Long, SkillKudos> getSkillKudosBySkillId(Proof proof, PostKudos postKudos) {
+        return getSkillKudosBySkillId(proof, postKudos,
+                skillIds -> skillRepository.findAllById(skillIds).size() == skillIds.size());
+    }
+
+    private Map<Long, SkillKudos> getSkillKudosBySkillId(Proof proof, PostKudos postKudos,
+                                                         Predicate<Set<Long>> skillsExist) {
+        Set<Long> skillIds = postKudos.getPostKudosSkills().stream()
+                .map(PostKudosSkill::getSkillId)
+                .collect(Collectors.toSet());
+        validateNotContainsDuplicates(skillIds.size(), postKudos.getPostKudosSkills().size());
+
+        Map<Long, SkillKudos> skillKudosBySkillId = proof.getSkillKudos().stream()
+                .collect(Collectors.toMap(skillKudos -> skillKudos.getSkill().getId(), Function.identity()));
+        if (!skillKudosBySkillId.keySet().containsAll(skillIds)) {
+            if (!skillsExist.test(skillIds))
+                throw new SkillNotFoundException("Some skills which are not exist");
             throw new ProofNotContainSkillException("Proof does not contain all skills");
         }
+        return skillKudosBySkillId;
     }
 
     private Consumer<Proof> selectProofModifyStrategy(ProofModify proofModify,
@@ -345,6 +621,7 @@ public class ProofService {
 
     private void clearSkills(Proof proof) {
         skillKudosRepository.deleteAll(proof.getSkillKudos());
+        talentStatisticService.removeSkills(proof.getTalent().getId(), proof.getSkillKudos());
         if (proof.getSkillKudos() != null && !proof.getSkillKudos().isEmpty())
             proof.getSkillKudos().clear();
         proofRepository.save(proof);
@@ -388,34 +665,99 @@ public class ProofService {
                 .orElseThrow(() -> new SponsorNotFoundException("Sponsor was not found"));
     }
 
-    private void validatePostingKudos(Sponsor sponsor, Long sumKudos, Proof proof) {
+    private void validatePostingKudos(long balance, Long sumKudos, Proof proof) {
         if (!proof.getStatus().equals(PUBLISHED))
             throw new ProofNotFoundException("Proof was not found");
-        else if (sponsor.getKudos() - sumKudos < 0)
+        else if (balance - sumKudos < 0)
             throw new IllegalPostingKudos("You do not have balance for posting kudos");
         else if (KUDOS_MAX_VALUE - proof.getKudos() < sumKudos) {
             throw new IllegalPostingKudos("You reached max value of posting kudos");
         }
     }
 
-    private Page<? extends ProofGeneralInfo> getPageProofsWithGeneralInfo(Long principalId,
-                                                                          PageRequest pageRequest, String [] skills) {
+    private PageWithMetadata<? extends ProofGeneralInfo> getProofsWithGeneralInfo(Long principalId,
+                                                                                  PageRequest pageRequest,
+                                                                                  String [] skills,
+                                                                                  boolean withTotal) {
 
         int skillsSize = (skills == null) ? 0 : skills.length;
+        Optional<List<Long>> indexedIds = findIndexedProofIds(skills);
+
+        if (indexedIds.isPresent())
+            return getProofsWithGeneralInfoByIds(principalId, pageRequest, indexedIds.get(), withTotal);
 
+        LongSupplier count = () -> proofRepository.countAllByStatus(PUBLISHED, skills, skillsSize);
         if (accessVerifyService.hasRole(SPONSOR)){
-            Page<Object[]> proofsAndKudosSum = proofRepository
+            Slice<Object[]> proofsAndKudosSum = proofRepository
                     .findProofsAndKudosSumBySponsorId(principalId, PUBLISHED, pageRequest, skills, skillsSize);
-            return mapper.toProofSponsorGeneralInfos(proofsAndKudosSum, pageRequest);
+            return PageWithMetadata.of(feedAssembler.toProofSponsorGeneralInfos(proofsAndKudosSum.getContent()),
+                    proofsAndKudosSum, withTotal, count);
         }
         else if (accessVerifyService.hasRole(TALENT)){
-            Page<Object[]> proofsAndIsMyProofList = proofRepository
+            Slice<Object[]> proofsAndIsMyProofList = proofRepository
                     .findProofsAndIsMyProofByTalentId(principalId, PUBLISHED, pageRequest, skills, skillsSize);
-            return mapper.toProofTalentGeneralInfos(proofsAndIsMyProofList, pageRequest);
+            return PageWithMetadata.of(feedAssembler.toProofTalentGeneralInfos(proofsAndIsMyProofList.getContent()),
+                    proofsAndIsMyProofList, withTotal, count);
+        }
+        else {
+            Slice<Proof> proofs = proofRepository.findAllByStatus(PUBLISHED, pageRequest, skills, skillsSize);
+            return PageWithMetadata.of(feedAssembler.toProofGeneralInfos(proofs.getContent()),
+                    proofs, withTotal, count);
+        }
+    }
+
+    private PageWithMetadata<? extends ProofGeneralInfo> getProofsWithGeneralInfoByIds(Long principalId,
+                                                                                       PageRequest pageRequest,
+                                                                                       List<Long> ids,
+                                                                                       boolean withTotal) {
+        if (ids.isEmpty())
+            return PageWithMetadata.of(List.of(), new SliceImpl<>(List.of(), pageRequest, false), withTotal, () -> 0);
+
+        LongSupplier count = () -> proofRepository.countByStatusAndIdIn(PUBLISHED, ids);
+        if (accessVerifyService.hasRole(SPONSOR)){
+            Slice<Object[]> proofsAndKudosSum = proofRepository
+                    .findProofsAndKudosSumBySponsorIdAndIdIn(principalId, PUBLISHED, ids, pageRequest);
+            return PageWithMetadata.of(feedAssembler.toProofSponsorGeneralInfos(proofsAndKudosSum.getContent()),
+                    proofsAndKudosSum, withTotal, count);
+        }
+        else if (accessVerifyService.hasRole(TALENT)){
+            Slice<Object[]> proofsAndIsMyProofList = proofRepository
+                    .findProofsAndIsMyProofByTalentIdAndIdIn(principalId, PUBLISHED, ids, pageRequest);
+            return PageWithMetadata.of(feedAssembler.toProofTalentGeneralInfos(proofsAndIsMyProofList.getContent()),
+                    proofsAndIsMyProofList, withTotal, count);
+        }
+        else {
+            Slice<Proof> proofs = proofRepository.findAllByStatusAndIdIn(PUBLISHED, ids, pageRequest);
+            return PageWithMetadata.of(feedAssembler.toProofGeneralInfos(proofs.getContent()),
+                    proofs, withTotal, count);
+        }
+    }
+
+    private Optional<List<Long>> findIndexedProofIds(String [] skills) {
+        if (skills == null || skills.length == 0)
+            return Optional.empty();
+        return skillIndexService.findProofIds(skills);
+    }
+
+    private List<? extends ProofGeneralInfo> toProofGeneralInfos(List<Proof> proofs) {
+        Long principalId = accessVerifyService.getPrincipalId();
+
+        if (accessVerifyService.hasRole(SPONSOR)) {
+            Map<Long, Long> kudosSumByProofId = new HashMap<>();
+            if (!proofs.isEmpty())
+                sponsorProofKudosRepository.findTotalsBySponsorIdAndProofIds(principalId,
+                                proofs.stream().map(Proof::getId).toList())
+                        .forEach(tuple -> kudosSumByProofId.put((Long) tuple[0], (Long) tuple[1]));
+            return feedAssembler.toProofSponsorGeneralInfos(proofs.stream()
+                    .map(proof -> new Object[]{proof, kudosSumByProofId.getOrDefault(proof.getId(), 0L)})
+                    .toList());
         }
+        else if (accessVerifyService.hasRole(TALENT))
+            return feedAssembler.toProofTalentGeneralInfos(proofs.stream()
+                    .map(proof -> new Object[]{proof, hasTalentProof(principalId, proof)})
+                    .toList());
         else
-            return mapper.toProofGeneralInfos(proofRepository
-                    .findAllByStatus(ContentStatus.PUBLISHED, pageRequest, skills, skillsSize));
+            return feedAssembler.toProofGeneralInfos(proofs);
     }
 
     private void validateGetTalentProofs(Long talentId, ContentStatus contentStatus) {
@@ -426,22 +768,6 @@ public class ProofService {
 
     }
 
-    private Page<? extends ProofDetailInfo> getPageProofsWithDetailInfo(Long principalId,
-                                                                        Long talentId,
-                                                                        ContentStatus contentStatus,
-                                                                        PageRequest pageRequest) {
-        if (accessVerifyService.hasRole(SPONSOR)){
-            Page<Object[]> talentProofs = proofRepository
-                    .findAllTalentProofsBySponsorIdAndStatus(principalId, talentId, contentStatus, pageRequest);
-            return mapper.toProofSponsorDetailInfos(talentProofs, pageRequest);
-        }
-        else{
-            Page<Object[]> talentProofs = proofRepository
-                    .findAllTalentProofsByTalentIdAndStatus(principalId, talentId, contentStatus, pageRequest);
-            return mapper.toProofTalentDetailInfos(talentProofs, pageRequest);
-        }
-    }
-
     private Sort getSortByString(String sort, ContentStatus status){
         String sortField = status.equals(DRAFT) ? "id" : "published";
 
@@ -469,8 +795,10 @@ public class ProofService {
 
 
         proof.setSkillKudos(new HashSet<>(skillKudosRepository.saveAll(skillKudos)));
+        talentStatisticService.addSkills(proof.getTalent().getId(), skills);
 
         proofRepository.save(proof);
+        skillIndexService.indexProof(proof.getId(), skillsIds);
     }
 
     private void validateNotContainsDuplicates(int uniqueSkillIds, int countSkillsIds) {
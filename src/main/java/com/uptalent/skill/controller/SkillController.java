@@ -1,25 +1,44 @@
 package com.uptalent.skill.controller;
 
+import com.uptalent.skill.model.SkillInfo;
 import com.uptalent.skill.model.SkillTalentInfo;
 import com.uptalent.skill.service.SkillService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
 
+import static com.uptalent.util.ETagUtils.conditionalGet;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/skills")
+@Validated
 public class SkillController {
     private final SkillService skillService;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public List<SkillTalentInfo> getAllSkills() {
-        return skillService.getAllSkills();
+    public ResponseEntity<List<SkillTalentInfo>> getAllSkills(NativeWebRequest request) {
+        return conditionalGet(request, skillService.getSkillsETag(), skillService::getAllSkills);
+    }
+
+    @GetMapping("/trending")
+    public List<SkillInfo> getTrendingSkills(
+            @Min(value = 1, message = "Days should be greater or equals 1")
+            @Max(value = 30, message = "Days should be less or equals 30")
+            @RequestParam(defaultValue = "7") int days,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "10") int size) {
+        return skillService.getTrendingSkills(days, size);
     }
 }
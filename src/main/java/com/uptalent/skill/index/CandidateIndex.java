@@ -0,0 +1,292 @@
+package com.uptalent.skill.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Inverted index of talents by skill, each posting list sorted by kudos of the talent in the skill.
+ * Every vacancy skill which the talent has adds 1 to the score of the talent and the kudos boost adds
+ * up to KUDOS_BOOST more, relative to the most kudosed talent in the skill. So a talent with more
+ * matched skills always scores more than a talent with fewer, and top candidates are searched bucket by
+ * bucket of matched skills, the most matched first, until no talent of the next bucket can get into the top.
+ * Buckets of several matched skills are scored whole, the single skill bucket is merged from the posting
+ * lists in the order of kudos.
+ */
+public class CandidateIndex {
+    static final double KUDOS_BOOST = 0.5;
+
+    private static final Comparator<Posting> MOST_KUDOSED_FIRST = Comparator
+            .comparingLong(Posting::kudos).reversed()
+            .thenComparingInt(Posting::talentId);
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingDouble(Candidate::score).reversed()
+            .thenComparing(Candidate::talentId, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, RoaringBitmap> skillsByTalent = new HashMap<>();
+    private Map<Integer, Map<Integer, Long>> kudosByTalent = new HashMap<>();
+    private Map<Integer, NavigableSet<Posting>> talentsBySkill = new HashMap<>();
+    private Map<Integer, RoaringBitmap> talentIdsBySkill = new HashMap<>();
+    private List<Runnable> pendingUpdates;
+
+    public record Candidate(Long talentId, int matchedSkills, long matchedSkillsKudos, double score) {
+    }
+
+    private record Posting(int talentId, long kudos) {
+    }
+
+    /**
+     * @param talentSkillPairs rows of talent id and skill id of talent skills
+     * @param talentSkillKudos rows of talent id, skill id and kudos, one talent and skill can have many rows
+     */
+    public void rebuild(List<Object[]> talentSkillPairs, List<Object[]> talentSkillKudos) {
+        rebuild(() -> talentSkillPairs, () -> talentSkillKudos);
+    }
+
+    /**
+     * Updates which arrive while the rows are loaded are queued and applied again to the rebuilt index,
+     * so they are not lost when the rows were read before the updates committed. Kudos which commit
+     * just before the rows are read can be counted twice until the next rebuild.
+     */
+    public synchronized void rebuild(Supplier<List<Object[]>> talentSkillPairsLoader,
+                                     Supplier<List<Object[]>> talentSkillKudosLoader) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, RoaringBitmap> skillsByTalent = new HashMap<>();
+        Map<Integer, Map<Integer, Long>> kudosByTalent = new HashMap<>();
+        Map<Integer, NavigableSet<Posting>> talentsBySkill = new HashMap<>();
+        Map<Integer, RoaringBitmap> talentIdsBySkill = new HashMap<>();
+        try {
+            for (Object[] pair : talentSkillPairsLoader.get())
+                skillsByTalent.computeIfAbsent(toIntId((Long) pair[0]), id -> new RoaringBitmap())
+                        .add(toIntId((Long) pair[1]));
+            for (Object[] row : talentSkillKudosLoader.get())
+                kudosByTalent.computeIfAbsent(toIntId((Long) row[0]), id -> new HashMap<>())
+                        .merge(toIntId((Long) row[1]), ((Number) row[2]).longValue(), Long::sum);
+            skillsByTalent.forEach((talentId, skills) -> {
+                Map<Integer, Long> kudos = kudosByTalent.getOrDefault(talentId, Map.of());
+                skills.forEach((int skillId) -> {
+                    talentsBySkill.computeIfAbsent(skillId, id -> new TreeSet<>(MOST_KUDOSED_FIRST))
+                            .add(new Posting(talentId, kudos.getOrDefault(skillId, 0L)));
+                    talentIdsBySkill.computeIfAbsent(skillId, id -> new RoaringBitmap()).add(talentId);
+                });
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.skillsByTalent = skillsByTalent;
+            this.kudosByTalent = kudosByTalent;
+            this.talentsBySkill = talentsBySkill;
+            this.talentIdsBySkill = talentIdsBySkill;
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceTalent(Long talentId, Collection<Long> skillIds) {
+        int id = toIntId(talentId);
+        RoaringBitmap skills = new RoaringBitmap();
+        if (skillIds != null)
+            skillIds.forEach(skillId -> skills.add(toIntId(skillId)));
+
+        update(() -> {
+            removePostings(id);
+            if (skills.isEmpty()) {
+                skillsByTalent.remove(id);
+                return;
+            }
+            skillsByTalent.put(id, skills);
+            skills.forEach((int skillId) -> {
+                talentsBySkill.computeIfAbsent(skillId, key -> new TreeSet<>(MOST_KUDOSED_FIRST))
+                        .add(new Posting(id, getKudos(id, skillId)));
+                talentIdsBySkill.computeIfAbsent(skillId, key -> new RoaringBitmap()).add(id);
+            });
+        });
+    }
+
+    public void removeTalent(Long talentId) {
+        int id = toIntId(talentId);
+        update(() -> {
+            removePostings(id);
+            skillsByTalent.remove(id);
+            kudosByTalent.remove(id);
+        });
+    }
+
+    /**
+     * Kudos of skills which the talent does not have are kept too, they count once the talent adds the skill.
+     */
+    public void addKudos(Long talentId, Map<Long, Long> kudosBySkillId) {
+        int id = toIntId(talentId);
+        update(() -> {
+            RoaringBitmap skills = skillsByTalent.get(id);
+            Map<Integer, Long> talentKudos = kudosByTalent.computeIfAbsent(id, key -> new HashMap<>());
+            kudosBySkillId.forEach((skillId, kudos) -> {
+                int skill = toIntId(skillId);
+                long oldKudos = talentKudos.getOrDefault(skill, 0L);
+                talentKudos.put(skill, oldKudos + kudos);
+                if (skills != null && skills.contains(skill)) {
+                    NavigableSet<Posting> talents = talentsBySkill.get(skill);
+                    talents.remove(new Posting(id, oldKudos));
+                    talents.add(new Posting(id, oldKudos + kudos));
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns at most limit talents which have any of the skills, the best scored first.
+     */
+    public List<Candidate> findTopCandidates(Collection<Long> skillIds, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Integer> skills = new ArrayList<>();
+            for (int skillId : new TreeSet<>(skillIds.stream().map(this::toIntId).toList()))
+                if (talentsBySkill.containsKey(skillId))
+                    skills.add(skillId);
+            double[] maxKudosLogs = new double[skills.size()];
+            for (int i = 0; i < skills.size(); i++)
+                maxKudosLogs[i] = Math.log1p(talentsBySkill.get(skills.get(i)).first().kudos());
+
+            // talentsWithSkills[m] holds talents which have at least m of the skills
+            RoaringBitmap[] talentsWithSkills = new RoaringBitmap[skills.size() + 2];
+            for (int m = 0; m < talentsWithSkills.length; m++)
+                talentsWithSkills[m] = new RoaringBitmap();
+            for (int i = 0; i < skills.size(); i++) {
+                RoaringBitmap talents = talentIdsBySkill.get(skills.get(i));
+                for (int m = i + 1; m >= 2; m--)
+                    talentsWithSkills[m].or(RoaringBitmap.and(talentsWithSkills[m - 1], talents));
+                talentsWithSkills[1].or(talents);
+            }
+
+            PriorityQueue<Candidate> top = new PriorityQueue<>(BEST_FIRST.reversed());
+            for (int m = skills.size(); m >= 1; m--) {
+                // a talent with m matched skills scores at most m full kudos boosted contributions
+                if (top.size() == limit && top.peek().score() > m * (1 + KUDOS_BOOST))
+                    break;
+                RoaringBitmap bucket = RoaringBitmap.andNot(talentsWithSkills[m], talentsWithSkills[m + 1]);
+                if (m == 1)
+                    mergeSingleSkillTalents(bucket, skills, maxKudosLogs, top, limit);
+                else
+                    bucket.forEach((int talentId) -> offer(top, score(talentId, skills, maxKudosLogs), limit));
+            }
+
+            List<Candidate> candidates = new ArrayList<>(top);
+            candidates.sort(BEST_FIRST);
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every talent of the bucket is in one posting list only and scores its contribution in the list,
+     * so the lists are merged until no talent further down them can get into the top.
+     */
+    private void mergeSingleSkillTalents(RoaringBitmap bucket, List<Integer> skills, double[] maxKudosLogs,
+                                         PriorityQueue<Candidate> top, int limit) {
+        List<Iterator<Posting>> cursors = new ArrayList<>();
+        for (int skillId : skills)
+            cursors.add(talentsBySkill.get(skillId).iterator());
+        double[] lastContributions = new double[skills.size()];
+        while (true) {
+            for (int i = 0; i < cursors.size(); i++) {
+                if (!cursors.get(i).hasNext())
+                    continue;
+                Posting posting = cursors.get(i).next();
+                lastContributions[i] = contribution(posting.kudos(), maxKudosLogs[i]);
+                if (bucket.contains(posting.talentId()))
+                    offer(top, score(posting.talentId(), skills, maxKudosLogs), limit);
+            }
+
+            double threshold = 0;
+            for (int i = 0; i < cursors.size(); i++)
+                if (cursors.get(i).hasNext())
+                    threshold = Math.max(threshold, lastContributions[i]);
+            if (threshold == 0 || (top.size() == limit && top.peek().score() > threshold))
+                return;
+        }
+    }
+
+    private void offer(PriorityQueue<Candidate> top, Candidate candidate, int limit) {
+        top.offer(candidate);
+        if (top.size() > limit)
+            top.poll();
+    }
+
+    private void update(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (pendingUpdates != null)
+                pendingUpdates.add(update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Candidate score(int talentId, List<Integer> skills, double[] maxKudosLogs) {
+        RoaringBitmap talentSkills = skillsByTalent.get(talentId);
+        int matchedSkills = 0;
+        long matchedSkillsKudos = 0;
+        double score = 0;
+        for (int i = 0; i < skills.size(); i++) {
+            if (!talentSkills.contains(skills.get(i)))
+                continue;
+            long kudos = getKudos(talentId, skills.get(i));
+            matchedSkills++;
+            matchedSkillsKudos += kudos;
+            score += contribution(kudos, maxKudosLogs[i]);
+        }
+        return new Candidate((long) talentId, matchedSkills, matchedSkillsKudos, score);
+    }
+
+    private double contribution(long kudos, double maxKudosLog) {
+        return maxKudosLog == 0 ? 1 : 1 + KUDOS_BOOST * Math.log1p(kudos) / maxKudosLog;
+    }
+
+    private void removePostings(int talentId) {
+        RoaringBitmap skills = skillsByTalent.get(talentId);
+        if (skills == null)
+            return;
+        skills.forEach((int skillId) -> {
+            NavigableSet<Posting> talents = talentsBySkill.get(skillId);
+            if (talents != null) {
+                talents.remove(new Posting(talentId, getKudos(talentId, skillId)));
+                talentIdsBySkill.get(skillId).remove(talentId);
+                if (talents.isEmpty()) {
+                    talentsBySkill.remove(skillId);
+                    talentIdsBySkill.remove(skillId);
+                }
+            }
+        });
+    }
+
+    private long getKudos(int talentId, int skillId) {
+        return kudosByTalent.getOrDefault(talentId, Map.of()).getOrDefault(skillId, 0L);
+    }
+
+    private int toIntId(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,139 @@
+package com.uptalent.skill.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Inverted index from skill id to the compressed set of owner ids (proofs, talents or vacancies)
+ * which have this skill.
+ */
+public class SkillBitmapIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, RoaringBitmap> ownersBySkillId = new HashMap<>();
+    private Map<Integer, Set<Long>> skillIdsByOwner = new HashMap<>();
+    private List<Runnable> pendingUpdates;
+
+    public void rebuild(List<Object[]> ownerSkillPairs) {
+        rebuild(() -> ownerSkillPairs);
+    }
+
+    /**
+     * Replacements and removals which arrive while the pairs are loaded are applied again to the rebuilt
+     * index, so owners changed after the pairs were read keep their new skills.
+     */
+    public synchronized void rebuild(Supplier<List<Object[]>> ownerSkillPairsLoader) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, RoaringBitmap> ownersBySkillId = new HashMap<>();
+        Map<Integer, Set<Long>> skillIdsByOwner = new HashMap<>();
+        try {
+            for (Object[] pair : ownerSkillPairsLoader.get()) {
+                int ownerId = toOwnerId((Long) pair[0]);
+                Long skillId = (Long) pair[1];
+                ownersBySkillId.computeIfAbsent(skillId, id -> new RoaringBitmap()).add(ownerId);
+                skillIdsByOwner.computeIfAbsent(ownerId, id -> new HashSet<>()).add(skillId);
+            }
+            ownersBySkillId.values().forEach(RoaringBitmap::runOptimize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.ownersBySkillId = ownersBySkillId;
+            this.skillIdsByOwner = skillIdsByOwner;
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replace(Long ownerId, Collection<Long> skillIds) {
+        int owner = toOwnerId(ownerId);
+        Set<Long> skills = (skillIds == null) ? Set.of() : new HashSet<>(skillIds);
+        update(() -> {
+            removeOwner(owner);
+            if (!skills.isEmpty()) {
+                skills.forEach(skillId -> ownersBySkillId
+                        .computeIfAbsent(skillId, id -> new RoaringBitmap())
+                        .add(owner));
+                skillIdsByOwner.put(owner, new HashSet<>(skills));
+            }
+        });
+    }
+
+    public void remove(Long ownerId) {
+        int owner = toOwnerId(ownerId);
+        update(() -> removeOwner(owner));
+    }
+
+    /**
+     * Every group holds the ids of skills sharing one name: owners matching any skill of a group
+     * are united, and the groups are intersected.
+     */
+    public RoaringBitmap matchAll(Collection<? extends Collection<Long>> skillIdGroups) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (Collection<Long> group : skillIdGroups) {
+                RoaringBitmap groupOwners = new RoaringBitmap();
+                group.stream()
+                        .map(ownersBySkillId::get)
+                        .filter(Objects::nonNull)
+                        .forEach(groupOwners::or);
+
+                result = (result == null) ? groupOwners : RoaringBitmap.and(result, groupOwners);
+                if (result.isEmpty())
+                    break;
+            }
+            return (result == null) ? new RoaringBitmap() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (pendingUpdates != null)
+                pendingUpdates.add(update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeOwner(int ownerId) {
+        Set<Long> skillIds = skillIdsByOwner.remove(ownerId);
+        if (skillIds == null)
+            return;
+        for (Long skillId : skillIds) {
+            RoaringBitmap owners = ownersBySkillId.get(skillId);
+            if (owners != null) {
+                owners.remove(ownerId);
+                if (owners.isEmpty())
+                    ownersBySkillId.remove(skillId);
+            }
+        }
+    }
+
+    private int toOwnerId(Long ownerId) {
+        return Math.toIntExact(ownerId);
+    }
+}
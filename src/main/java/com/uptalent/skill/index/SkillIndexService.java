@@ -0,0 +1,160 @@
+package com.uptalent.skill.index;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.skill.index.CandidateIndex.Candidate;
+import com.uptalent.skill.index.VacancyMatchIndex.VacancyMatch;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.skill.repository.SkillRepository;
+import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.vacancy.repository.VacancyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class SkillIndexService {
+    private final SkillRepository skillRepository;
+    private final SkillKudosRepository skillKudosRepository;
+    private final TalentRepository talentRepository;
+    private final VacancyRepository vacancyRepository;
+
+    private final SkillBitmapIndex proofIndex = new SkillBitmapIndex();
+    private final SkillBitmapIndex talentIndex = new SkillBitmapIndex();
+    private final SkillBitmapIndex vacancyIndex = new SkillBitmapIndex();
+    private final VacancyMatchIndex vacancyMatchIndex = new VacancyMatchIndex();
+    private final CandidateIndex candidateIndex = new CandidateIndex();
+
+    @Value("${skill.index.max-matched-ids}")
+    private int MAX_MATCHED_IDS;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildSkillOwners();
+        rebuildCandidates();
+    }
+
+    @Scheduled(cron = "${skill.index.rebuild-cron}")
+    public void rebuildSkillOwners() {
+        proofIndex.rebuild(skillKudosRepository::findAllProofSkillPairs);
+        talentIndex.rebuild(talentRepository::findAllTalentSkillPairs);
+        vacancyIndex.rebuild(vacancyRepository::findAllVacancySkillPairs);
+        vacancyMatchIndex.rebuild(talentRepository::findAllTalentSkillPairs,
+                vacancyRepository::findAllVacancySkillPairs,
+                () -> vacancyRepository.findAllVacancyMatchRules().stream()
+                        .map(tuple -> new Object[]{tuple[0], tuple[1], PUBLISHED.equals(tuple[2])})
+                        .toList());
+        log.info("Skill index was rebuilt");
+    }
+
+    @Scheduled(cron = "${skill.index.candidates-rebuild-cron}")
+    public void rebuildCandidates() {
+        candidateIndex.rebuild(talentRepository::findAllTalentSkillPairs,
+                skillKudosRepository::sumKudosByTalentIdAndSkillId);
+        log.info("Candidate index was rebuilt");
+    }
+
+    /**
+     * Returns ids of proofs which have all skills, or empty optional when the filter is too wide
+     * to be passed to the database as an id list.
+     */
+    public Optional<List<Long>> findProofIds(String [] skills) {
+        return match(proofIndex, skills);
+    }
+
+    public Optional<List<Long>> findTalentIds(String [] skills) {
+        return match(talentIndex, skills);
+    }
+
+    public Optional<List<Long>> findVacancyIds(String [] skills) {
+        return match(vacancyIndex, skills);
+    }
+
+    public List<VacancyMatch> findMatchedVacancies(Long talentId) {
+        return vacancyMatchIndex.findMatches(talentId);
+    }
+
+    /**
+     * Returns at most limit talents which have any of the skills, ranked by matched skills boosted by
+     * kudos of the talent in them.
+     */
+    public List<Candidate> findTopCandidates(Collection<Long> skillIds, int limit) {
+        return candidateIndex.findTopCandidates(skillIds, limit);
+    }
+
+    @EventListener
+    public void addKudos(KudosPosted event) {
+        runAfterCommit(() -> candidateIndex.addKudos(event.talentId(), event.kudosBySkillId()));
+    }
+
+    public void indexProof(Long proofId, Collection<Long> skillIds) {
+        runAfterCommit(() -> proofIndex.replace(proofId, skillIds));
+    }
+
+    public void indexTalent(Long talentId, Collection<Long> skillIds) {
+        runAfterCommit(() -> {
+            talentIndex.replace(talentId, skillIds);
+            vacancyMatchIndex.replaceTalent(talentId, skillIds);
+            candidateIndex.replaceTalent(talentId, skillIds);
+        });
+    }
+
+    public void indexVacancy(Long vacancyId, Collection<Long> skillIds, int skillsMatchedPercent, boolean published) {
+        runAfterCommit(() -> {
+            vacancyIndex.replace(vacancyId, skillIds);
+            vacancyMatchIndex.replaceVacancy(vacancyId, skillIds, skillsMatchedPercent, published);
+        });
+    }
+
+    public void removeProof(Long proofId) {
+        runAfterCommit(() -> proofIndex.remove(proofId));
+    }
+
+    public void removeTalents(Collection<Long> talentIds) {
+        runAfterCommit(() -> talentIds.forEach(talentId -> {
+            talentIndex.remove(talentId);
+            vacancyMatchIndex.removeTalent(talentId);
+            candidateIndex.removeTalent(talentId);
+        }));
+    }
+
+    public void removeVacancy(Long vacancyId) {
+        runAfterCommit(() -> {
+            vacancyIndex.remove(vacancyId);
+            vacancyMatchIndex.removeVacancy(vacancyId);
+        });
+    }
+
+    private Optional<List<Long>> match(SkillBitmapIndex index, String [] skills) {
+        Set<String> skillNames = new HashSet<>(Arrays.asList(skills));
+        Map<String, List<Long>> skillIdsByName = skillRepository.findAllByNameIn(skillNames).stream()
+                .collect(Collectors.groupingBy(Skill::getName,
+                        Collectors.mapping(Skill::getId, Collectors.toList())));
+
+        if (skillIdsByName.size() != skillNames.size())
+            return Optional.of(List.of());
+
+        RoaringBitmap matched = index.matchAll(skillIdsByName.values());
+        if (matched.getCardinality() > MAX_MATCHED_IDS)
+            return Optional.empty();
+
+        List<Long> ids = new ArrayList<>(matched.getCardinality());
+        matched.forEach((int id) -> ids.add((long) id));
+        return Optional.of(ids);
+    }
+}
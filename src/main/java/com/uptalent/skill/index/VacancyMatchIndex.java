@@ -0,0 +1,216 @@
+package com.uptalent.skill.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Skill bitsets of talents and vacancies. A talent matches a vacancy when the talent has at least
+ * skillsMatchedPercent of the vacancy skills. Only published vacancies are recommended.
+ */
+public class VacancyMatchIndex {
+    private static final Comparator<VacancyMatch> BEST_FIRST = ((Comparator<VacancyMatch>) (first, second) ->
+            Long.compare((long) second.matchedSkills() * first.vacancySkills(),
+                    (long) first.matchedSkills() * second.vacancySkills()))
+            .thenComparing(VacancyMatch::matchedSkills, Comparator.reverseOrder())
+            .thenComparing(VacancyMatch::vacancyId, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, RoaringBitmap> skillsByTalent = new HashMap<>();
+    private Map<Integer, IndexedVacancy> vacancies = new HashMap<>();
+    private Map<Integer, RoaringBitmap> publishedVacanciesBySkill = new HashMap<>();
+    private List<Runnable> pendingUpdates;
+
+    public record VacancyMatch(Long vacancyId, int matchedSkills, int vacancySkills) {
+    }
+
+    private record IndexedVacancy(RoaringBitmap skills, int requiredSkills, boolean published) {
+    }
+
+    /**
+     * Rules are [vacancyId, skillsMatchedPercent, published] of every vacancy.
+     */
+    public void rebuild(List<Object[]> talentSkillPairs, List<Object[]> vacancySkillPairs, List<Object[]> vacancyRules) {
+        rebuild(() -> talentSkillPairs, () -> vacancySkillPairs, () -> vacancyRules);
+    }
+
+    /**
+     * Updates which arrive while the rows are loaded are applied again to the rebuilt index,
+     * so talents and vacancies changed after the rows were read keep their new skills.
+     */
+    public synchronized void rebuild(Supplier<List<Object[]>> talentSkillPairsLoader,
+                                     Supplier<List<Object[]>> vacancySkillPairsLoader,
+                                     Supplier<List<Object[]>> vacancyRulesLoader) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, RoaringBitmap> skillsByTalent;
+        Map<Integer, IndexedVacancy> vacancies = new HashMap<>();
+        Map<Integer, RoaringBitmap> publishedVacanciesBySkill = new HashMap<>();
+        try {
+            skillsByTalent = groupSkills(talentSkillPairsLoader.get());
+            Map<Integer, RoaringBitmap> skillsByVacancy = groupSkills(vacancySkillPairsLoader.get());
+            for (Object[] rule : vacancyRulesLoader.get()) {
+                int vacancyId = toIntId((Long) rule[0]);
+                IndexedVacancy vacancy = toIndexedVacancy(skillsByVacancy.getOrDefault(vacancyId, new RoaringBitmap()),
+                        (Integer) rule[1], (Boolean) rule[2]);
+                vacancies.put(vacancyId, vacancy);
+                if (vacancy.published())
+                    vacancy.skills().forEach((int skillId) -> publishedVacanciesBySkill
+                            .computeIfAbsent(skillId, id -> new RoaringBitmap())
+                            .add(vacancyId));
+            }
+            publishedVacanciesBySkill.values().forEach(RoaringBitmap::runOptimize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.skillsByTalent = skillsByTalent;
+            this.vacancies = vacancies;
+            this.publishedVacanciesBySkill = publishedVacanciesBySkill;
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceTalent(Long talentId, Collection<Long> skillIds) {
+        int id = toIntId(talentId);
+        RoaringBitmap skills = toBitmap(skillIds);
+        update(() -> {
+            if (skills.isEmpty())
+                skillsByTalent.remove(id);
+            else
+                skillsByTalent.put(id, skills);
+        });
+    }
+
+    public void removeTalent(Long talentId) {
+        int id = toIntId(talentId);
+        update(() -> skillsByTalent.remove(id));
+    }
+
+    public void replaceVacancy(Long vacancyId, Collection<Long> skillIds, int skillsMatchedPercent,
+                               boolean published) {
+        int id = toIntId(vacancyId);
+        IndexedVacancy vacancy = toIndexedVacancy(toBitmap(skillIds), skillsMatchedPercent, published);
+        update(() -> {
+            removeVacancy(id);
+            vacancies.put(id, vacancy);
+            if (published)
+                vacancy.skills().forEach((int skillId) -> publishedVacanciesBySkill
+                        .computeIfAbsent(skillId, key -> new RoaringBitmap())
+                        .add(id));
+        });
+    }
+
+    public void removeVacancy(Long vacancyId) {
+        int id = toIntId(vacancyId);
+        update(() -> removeVacancy(id));
+    }
+
+    /**
+     * Returns published vacancies which the talent matches, the best covered vacancy skills first.
+     */
+    public List<VacancyMatch> findMatches(Long talentId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap talentSkills = getTalentSkills(talentId);
+            RoaringBitmap candidates = new RoaringBitmap();
+            talentSkills.forEach((int skillId) -> {
+                RoaringBitmap skillVacancies = publishedVacanciesBySkill.get(skillId);
+                if (skillVacancies != null)
+                    candidates.or(skillVacancies);
+            });
+
+            List<VacancyMatch> matches = new ArrayList<>();
+            candidates.forEach((int vacancyId) -> {
+                IndexedVacancy vacancy = vacancies.get(vacancyId);
+                int matchedSkills = RoaringBitmap.andCardinality(talentSkills, vacancy.skills());
+                if (matchedSkills >= vacancy.requiredSkills())
+                    matches.add(new VacancyMatch((long) vacancyId, matchedSkills, vacancy.skills().getCardinality()));
+            });
+            matches.sort(BEST_FIRST);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (pendingUpdates != null)
+                pendingUpdates.add(update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private RoaringBitmap getTalentSkills(Long talentId) {
+        return skillsByTalent.getOrDefault(toIntId(talentId), new RoaringBitmap());
+    }
+
+    private void removeVacancy(int vacancyId) {
+        IndexedVacancy vacancy = vacancies.remove(vacancyId);
+        if (vacancy == null || !vacancy.published())
+            return;
+        vacancy.skills().forEach((int skillId) -> {
+            RoaringBitmap skillVacancies = publishedVacanciesBySkill.get(skillId);
+            if (skillVacancies != null) {
+                skillVacancies.remove(vacancyId);
+                if (skillVacancies.isEmpty())
+                    publishedVacanciesBySkill.remove(skillId);
+            }
+        });
+    }
+
+    /**
+     * Rounds skillsMatchedPercent of the vacancy skills up and requires at least one skill,
+     * so a low percent does not match talents without any of the vacancy skills.
+     */
+    public static int getRequiredSkills(int skillsMatchedPercent, int vacancySkills) {
+        return Math.max(1, (skillsMatchedPercent * vacancySkills + 99) / 100);
+    }
+
+    private IndexedVacancy toIndexedVacancy(RoaringBitmap skills, int skillsMatchedPercent, boolean published) {
+        return new IndexedVacancy(skills, getRequiredSkills(skillsMatchedPercent, skills.getCardinality()), published);
+    }
+
+    private Map<Integer, RoaringBitmap> groupSkills(List<Object[]> ownerSkillPairs) {
+        Map<Integer, RoaringBitmap> skillsByOwner = new HashMap<>();
+        for (Object[] pair : ownerSkillPairs)
+            skillsByOwner.computeIfAbsent(toIntId((Long) pair[0]), id -> new RoaringBitmap())
+                    .add(toIntId((Long) pair[1]));
+        skillsByOwner.values().forEach(RoaringBitmap::runOptimize);
+        return skillsByOwner;
+    }
+
+    private RoaringBitmap toBitmap(Collection<Long> skillIds) {
+        RoaringBitmap skills = new RoaringBitmap();
+        if (skillIds != null)
+            skillIds.forEach(skillId -> skills.add(toIntId(skillId)));
+        return skills;
+    }
+
+    private int toIntId(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -4,6 +4,8 @@ import com.uptalent.proof.kudos.model.entity.KudosHistory;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity(name = "skill_kudos_history")
 @Table(name = "skill_kudos_history")
 @Setter
@@ -13,7 +15,9 @@ import lombok.*;
 @Builder
 public class SkillKudosHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_kudos_history_id_generator")
+    @SequenceGenerator(name = "skill_kudos_history_id_generator",
+            sequenceName = "skill_kudos_history_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -24,5 +28,8 @@ public class SkillKudosHistory {
     @JoinColumn(name = "kudos_history_id", referencedColumnName = "id")
     private KudosHistory kudosHistory;
 
+    @Column(nullable = false, name = "sent")
+    private LocalDateTime sent;
+
     private Long kudos;
 }
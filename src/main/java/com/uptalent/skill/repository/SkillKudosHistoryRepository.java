@@ -1,17 +1,35 @@
 package com.uptalent.skill.repository;
 
-import com.uptalent.skill.model.SkillInfo;
 import com.uptalent.skill.model.entity.SkillKudosHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface SkillKudosHistoryRepository extends JpaRepository<SkillKudosHistory, Long> {
-    @Query("select new com.uptalent.skill.model.SkillInfo(sk.name, sum(skh.kudos)) from skill_kudos_history skh " +
+    @Query("select kh.sponsor.id, sk.name, sum(skh.kudos) from skill_kudos_history skh " +
             "join skh.skill sk " +
             "join skh.kudosHistory kh " +
-            "where kh.sponsor.id = :sponsorId and proof.id = :proofId " +
-            "group by sk.name")
-    List<SkillInfo> findSumSkillsBySponsorIdAndProofId(Long sponsorId, Long proofId);
+            "where kh.proof.id = :proofId and kh.sponsor.id in :sponsorIds " +
+            "group by kh.sponsor.id, sk.name")
+    List<Object[]> findSumSkillsByProofIdAndSponsorIdIn(Long proofId, Collection<Long> sponsorIds);
+
+    @Query("select skh.kudosHistory.id, sk.name, skh.kudos from skill_kudos_history skh " +
+            "join skh.skill sk " +
+            "where skh.kudosHistory.id in :kudosHistoryIds")
+    List<Object[]> findSkillInfosByKudosHistoryIdIn(Collection<Long> kudosHistoryIds);
+
+    @Query("select kh.proof.id, sk.name, sum(skh.kudos) from skill_kudos_history skh " +
+            "join skh.skill sk " +
+            "join skh.kudosHistory kh " +
+            "where kh.sponsor.id = :sponsorId and kh.proof.id in :proofIds " +
+            "group by kh.proof.id, sk.name")
+    List<Object[]> findSumSkillsBySponsorIdAndProofIdIn(Long sponsorId, Collection<Long> proofIds);
+
+    @Query("select skh.skill.id, cast(skh.sent as LocalDate), sum(skh.kudos) from skill_kudos_history skh " +
+            "where skh.skill is not null and skh.sent >= :from " +
+            "group by skh.skill.id, cast(skh.sent as LocalDate)")
+    List<Object[]> sumKudosBySkillIdAndDaySince(LocalDateTime from);
 }
@@ -3,6 +3,29 @@ package com.uptalent.skill.repository;
 
 import com.uptalent.skill.model.entity.SkillKudos;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface SkillKudosRepository extends JpaRepository<SkillKudos, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface SkillKudosRepository extends JpaRepository<SkillKudos, Long>, SkillKudosRepositoryCustom {
+    @Query("select sk.proof.id, sk.skill.id from skill_kudos sk where sk.proof is not null")
+    List<Object[]> findAllProofSkillPairs();
+
+    @Query("select sk.proof.id, s.id, s.name, sk.kudos from skill_kudos sk join sk.skill s " +
+            "where sk.proof.id in :proofIds")
+    List<Object[]> findSkillProofInfosByProofIds(Collection<Long> proofIds);
+
+    @Query("select s.id, s.name, sum(sk.kudos), count(sk) from skill_kudos sk join sk.skill s " +
+            "where sk.proof.talent.id = :talentId group by s.id, s.name")
+    List<Object[]> sumKudosBySkillByTalentId(Long talentId);
+
+    @Query("select p.talent.id, sk.skill.id, sum(sk.kudos) from skill_kudos sk join sk.proof p " +
+            "group by p.talent.id, sk.skill.id")
+    List<Object[]> sumKudosByTalentIdAndSkillId();
+
+    @Query("select p.talent.id, sk.skill.id, sum(sk.kudos) from skill_kudos sk join sk.proof p " +
+            "where p.talent.credentials.verified = TRUE " +
+            "group by p.talent.id, sk.skill.id")
+    List<Object[]> sumVerifiedKudosByTalentIdAndSkillId();
 }
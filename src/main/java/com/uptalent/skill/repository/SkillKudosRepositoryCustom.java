@@ -0,0 +1,11 @@
+package com.uptalent.skill.repository;
+
+import java.util.Map;
+
+public interface SkillKudosRepositoryCustom {
+    /**
+     * Atomically adds kudos to skills of a proof with a single statement.
+     * @return number of updated skill kudos rows
+     */
+    int addKudos(Long proofId, Map<Long, Long> kudosBySkillId);
+}
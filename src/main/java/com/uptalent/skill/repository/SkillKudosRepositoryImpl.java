@@ -0,0 +1,35 @@
+package com.uptalent.skill.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class SkillKudosRepositoryImpl implements SkillKudosRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addKudos(Long proofId, Map<Long, Long> kudosBySkillId) {
+        if (kudosBySkillId.isEmpty())
+            return 0;
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(kudosBySkillId.entrySet());
+        StringBuilder sql = new StringBuilder("UPDATE skill_kudos SET kudos = kudos + CASE skill_id");
+        for (int i = 0; i < entries.size(); i++)
+            sql.append(" WHEN :skillId").append(i).append(" THEN :kudos").append(i);
+        sql.append(" END WHERE proof_id = :proofId AND skill_id IN (:skillIds)");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("proofId", proofId)
+                .setParameter("skillIds", kudosBySkillId.keySet());
+        for (int i = 0; i < entries.size(); i++) {
+            query.setParameter("skillId" + i, entries.get(i).getKey());
+            query.setParameter("kudos" + i, entries.get(i).getValue());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,20 +1,46 @@
 package com.uptalent.skill.service;
 
+import com.uptalent.leaderboard.LeaderboardService;
+import com.uptalent.leaderboard.TopKCounter.Count;
 import com.uptalent.mapper.SkillMapper;
+import com.uptalent.skill.model.SkillInfo;
 import com.uptalent.skill.model.SkillTalentInfo;
+import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.skill.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SkillService {
     private final SkillRepository skillRepository;
     private final SkillMapper skillMapper;
+    private final LeaderboardService leaderboardService;
 
     public List<SkillTalentInfo> getAllSkills() {
         return skillMapper.toSkillInfos(skillRepository.findAll());
     }
+
+    public List<SkillInfo> getTrendingSkills(int days, int size) {
+        List<Count<Long>> trendingSkills = leaderboardService.getTrendingSkills(days, size);
+        Map<Long, String> namesById = skillRepository.findAllById(trendingSkills.stream().map(Count::key).toList())
+                .stream()
+                .collect(Collectors.toMap(Skill::getId, Skill::getName));
+        return trendingSkills.stream()
+                .map(count -> new SkillInfo(namesById.get(count.key()), count.count()))
+                .toList();
+    }
+
+    /**
+     * Skills are only added by migrations, so their count and greatest id identify the catalog.
+     */
+    public Optional<String> getSkillsETag() {
+        Object[] countAndMaxId = skillRepository.findCountAndMaxId().get(0);
+        return Optional.of(countAndMaxId[0] + "-" + countAndMaxId[1]);
+    }
 }
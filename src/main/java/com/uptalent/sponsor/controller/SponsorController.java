@@ -74,7 +74,8 @@ public class SponsorController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Get list of kudosed proofs",
-            description = "The ability to see the number of Kudos I have given to proofs")
+            description = "The ability to see the number of Kudos I have given to proofs. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all proofs")
     @ApiResponses({
             @ApiResponse(responseCode = "200",
                     content = { @Content(schema = @Schema(implementation = KudosedProof.class),
@@ -89,8 +90,9 @@ public class SponsorController {
                                                               @Min(value = 0, message = "Page should be greater or equals 0")
                                                               @RequestParam(defaultValue = "0") int page,
                                                               @Positive(message = "Size should be positive")
-                                                                  @RequestParam(defaultValue = "3") int size) {
-        return sponsorService.getListKudosedProofBySponsorId(sponsorId, page, size);
+                                                                  @RequestParam(defaultValue = "3") int size,
+                                                              @RequestParam(defaultValue = "false") boolean slice) {
+        return sponsorService.getListKudosedProofBySponsorId(sponsorId, page, size, !slice);
     }
 
     @SecurityRequirement(name = "bearerAuth")
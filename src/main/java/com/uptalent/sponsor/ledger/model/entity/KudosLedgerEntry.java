@@ -0,0 +1,40 @@
+package com.uptalent.sponsor.ledger.model.entity;
+
+import com.uptalent.sponsor.ledger.model.enums.KudosLedgerEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Credit or debit of a sponsor balance. Entries are only inserted, the balance is the latest snapshot
+ * plus the deltas of the entries after it.
+ */
+@Entity(name = "kudos_ledger")
+@Table(name = "kudos_ledger")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KudosLedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "sponsor_id")
+    private Long sponsorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "type", length = 20)
+    private KudosLedgerEntryType type;
+
+    @Column(nullable = false, name = "delta")
+    private long delta;
+
+    @Column(name = "kudos_history_id")
+    private Long kudosHistoryId;
+
+    @Column(nullable = false, name = "created")
+    private LocalDateTime created;
+}
@@ -0,0 +1,31 @@
+package com.uptalent.sponsor.ledger.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Balance of a sponsor including all ledger entries up to ledgerEntryId.
+ */
+@Entity(name = "kudos_ledger_snapshot")
+@Table(name = "kudos_ledger_snapshot")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KudosLedgerSnapshot {
+    @Id
+    @Column(name = "sponsor_id")
+    private Long sponsorId;
+
+    @Column(nullable = false, name = "ledger_entry_id")
+    private Long ledgerEntryId;
+
+    @Column(nullable = false, name = "balance")
+    private long balance;
+
+    @Column(nullable = false, name = "created")
+    private LocalDateTime created;
+}
@@ -0,0 +1,7 @@
+package com.uptalent.sponsor.ledger.model.enums;
+
+public enum KudosLedgerEntryType {
+    INITIAL,
+    DEPOSIT,
+    POSTING
+}
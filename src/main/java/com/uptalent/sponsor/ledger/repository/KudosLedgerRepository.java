@@ -0,0 +1,44 @@
+package com.uptalent.sponsor.ledger.repository;
+
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface KudosLedgerRepository extends JpaRepository<KudosLedgerEntry, Long> {
+    // advisory lock keys are sponsor ids, no other advisory locks are taken in the database
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:sponsorId)", nativeQuery = true)
+    int lockBySponsorId(Long sponsorId);
+
+    @Query("select coalesce(sum(l.delta), 0) from kudos_ledger l " +
+            "where l.sponsorId = :sponsorId and l.id > :afterEntryId")
+    long sumDeltaBySponsorIdAndIdGreaterThan(Long sponsorId, Long afterEntryId);
+
+    @Query("select s.id from sponsor s where exists (select l.id from kudos_ledger l where l.sponsorId = s.id " +
+            "and l.id > coalesce((select ls.ledgerEntryId from kudos_ledger_snapshot ls " +
+            "where ls.sponsorId = s.id), 0)) " +
+            "order by s.id")
+    List<Long> findSponsorIdsWithEntriesAfterSnapshot();
+
+    /**
+     * Returns [sponsorId, last entry id, sum of deltas] of the entries after the snapshot of every sponsor.
+     */
+    @Query("select l.sponsorId, max(l.id), sum(l.delta) from kudos_ledger l " +
+            "where l.sponsorId in :sponsorIds and l.id > coalesce((select ls.ledgerEntryId " +
+            "from kudos_ledger_snapshot ls where ls.sponsorId = l.sponsorId), 0) " +
+            "group by l.sponsorId")
+    List<Object[]> findDeltasAfterSnapshotBySponsorIdIn(Collection<Long> sponsorIds);
+
+    /**
+     * Returns [sponsorId, count, sum of kudos] of the kudos history sent since the given time
+     * whose posting entries do not debit the same amount.
+     */
+    @Query("select kh.sponsor.id, count(kh), sum(kh.totalKudos) from kudos_history kh " +
+            "where kh.sent >= :since and kh.totalKudos <> coalesce((select -sum(l.delta) from kudos_ledger l " +
+            "where l.kudosHistoryId = kh.id and l.type = 'POSTING'), 0) " +
+            "group by kh.sponsor.id")
+    List<Object[]> findNotDebitedHistorySince(LocalDateTime since);
+}
@@ -0,0 +1,7 @@
+package com.uptalent.sponsor.ledger.repository;
+
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface KudosLedgerSnapshotRepository extends JpaRepository<KudosLedgerSnapshot, Long> {
+}
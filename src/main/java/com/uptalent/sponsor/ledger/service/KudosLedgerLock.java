@@ -0,0 +1,15 @@
+package com.uptalent.sponsor.ledger.service;
+
+import java.util.Collection;
+
+/**
+ * Serializes balance changes of sponsors until the transaction ends. Ledger entries are plain inserts which
+ * never conflict, so without the lock two postings could both pass the balance check, and a snapshot could
+ * be taken past an entry which commits later with a lower id.
+ */
+public interface KudosLedgerLock {
+    /**
+     * Locks the sponsors in the order of ids, so transactions locking several sponsors cannot deadlock.
+     */
+    void lock(Collection<Long> sponsorIds);
+}
@@ -0,0 +1,93 @@
+package com.uptalent.sponsor.ledger.service;
+
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerSnapshot;
+import com.uptalent.sponsor.ledger.repository.KudosLedgerRepository;
+import com.uptalent.sponsor.ledger.repository.KudosLedgerSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves balance snapshots of the kudos ledger forward and checks that kudos history is debited in the ledger.
+ */
+@Component
+@Slf4j
+public class KudosLedgerMaintainer {
+    private final KudosLedgerRepository kudosLedgerRepository;
+    private final KudosLedgerSnapshotRepository kudosLedgerSnapshotRepository;
+    private final KudosLedgerLock kudosLedgerLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int snapshotBatchSize;
+    private final int reconciliationDays;
+
+    public KudosLedgerMaintainer(KudosLedgerRepository kudosLedgerRepository,
+                                 KudosLedgerSnapshotRepository kudosLedgerSnapshotRepository,
+                                 KudosLedgerLock kudosLedgerLock,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${kudos.ledger.snapshot-batch-size}") int snapshotBatchSize,
+                                 @Value("${kudos.ledger.reconciliation-days}") int reconciliationDays) {
+        this.kudosLedgerRepository = kudosLedgerRepository;
+        this.kudosLedgerSnapshotRepository = kudosLedgerSnapshotRepository;
+        this.kudosLedgerLock = kudosLedgerLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotBatchSize = snapshotBatchSize;
+        this.reconciliationDays = reconciliationDays;
+    }
+
+    @Scheduled(cron = "${kudos.ledger.snapshot-cron}")
+    public void takeSnapshots() {
+        List<Long> sponsorIds = transactionTemplate.execute(status ->
+                kudosLedgerRepository.findSponsorIdsWithEntriesAfterSnapshot());
+        for (int from = 0; from < sponsorIds.size(); from += snapshotBatchSize) {
+            List<Long> batch = sponsorIds.subList(from, Math.min(from + snapshotBatchSize, sponsorIds.size()));
+            transactionTemplate.executeWithoutResult(status -> takeSnapshots(batch));
+        }
+        if (!sponsorIds.isEmpty())
+            log.info("Kudos ledger snapshots of {} sponsors were taken", sponsorIds.size());
+    }
+
+    private void takeSnapshots(List<Long> sponsorIds) {
+        // entries of a sponsor are added under the kudos ledger lock, so none of them is left uncommitted
+        // with an id below the new snapshot
+        kudosLedgerLock.lock(sponsorIds);
+        Map<Long, KudosLedgerSnapshot> snapshots = kudosLedgerSnapshotRepository.findAllById(sponsorIds).stream()
+                .collect(Collectors.toMap(KudosLedgerSnapshot::getSponsorId, Function.identity()));
+        LocalDateTime created = LocalDateTime.now();
+        kudosLedgerSnapshotRepository.saveAll(kudosLedgerRepository.findDeltasAfterSnapshotBySponsorIdIn(sponsorIds)
+                .stream()
+                .map(tuple -> {
+                    KudosLedgerSnapshot snapshot = snapshots.getOrDefault((Long) tuple[0],
+                            new KudosLedgerSnapshot((Long) tuple[0], 0L, 0L, created));
+                    snapshot.setLedgerEntryId((Long) tuple[1]);
+                    snapshot.setBalance(snapshot.getBalance() + (Long) tuple[2]);
+                    snapshot.setCreated(created);
+                    return snapshot;
+                })
+                .toList());
+    }
+
+    /**
+     * Returns ids of sponsors whose recent kudos history is not debited in the ledger by the same amount.
+     */
+    @Scheduled(cron = "${kudos.ledger.reconciliation-cron}")
+    public List<Long> reconcile() {
+        LocalDateTime since = LocalDate.now().minusDays(reconciliationDays).atStartOfDay();
+        List<Object[]> mismatches = transactionTemplate.execute(status ->
+                kudosLedgerRepository.findNotDebitedHistorySince(since));
+        mismatches.forEach(tuple -> log.warn("Kudos ledger of sponsor {} does not match {} kudos history " +
+                "entries with {} kudos since {}", tuple[0], tuple[1], tuple[2], since));
+        return mismatches.stream()
+                .map(tuple -> (Long) tuple[0])
+                .toList();
+    }
+}
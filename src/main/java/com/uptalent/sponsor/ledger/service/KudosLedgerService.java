@@ -0,0 +1,78 @@
+package com.uptalent.sponsor.ledger.service;
+
+import com.uptalent.proof.kudos.model.entity.KudosHistory;
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerEntry;
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerSnapshot;
+import com.uptalent.sponsor.ledger.model.enums.KudosLedgerEntryType;
+import com.uptalent.sponsor.ledger.repository.KudosLedgerRepository;
+import com.uptalent.sponsor.ledger.repository.KudosLedgerSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.uptalent.sponsor.ledger.model.enums.KudosLedgerEntryType.*;
+
+/**
+ * Sponsor balances kept as an append-only ledger. Every change is an inserted entry, and the balance is
+ * the latest snapshot plus the deltas of the entries after it, see KudosLedgerMaintainer.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class KudosLedgerService {
+    private final KudosLedgerRepository kudosLedgerRepository;
+    private final KudosLedgerSnapshotRepository kudosLedgerSnapshotRepository;
+    private final KudosLedgerLock kudosLedgerLock;
+
+    @Transactional(readOnly = true)
+    public long getBalance(Long sponsorId) {
+        KudosLedgerSnapshot snapshot = kudosLedgerSnapshotRepository.findById(sponsorId).orElse(null);
+        if (snapshot == null)
+            return kudosLedgerRepository.sumDeltaBySponsorIdAndIdGreaterThan(sponsorId, 0L);
+        return snapshot.getBalance()
+                + kudosLedgerRepository.sumDeltaBySponsorIdAndIdGreaterThan(sponsorId, snapshot.getLedgerEntryId());
+    }
+
+    /**
+     * Locks the balance of the sponsor until commit and returns it, so the balance cannot change
+     * before the entries of this transaction are added.
+     */
+    public long lockBalance(Long sponsorId) {
+        kudosLedgerLock.lock(List.of(sponsorId));
+        return getBalance(sponsorId);
+    }
+
+    public void addInitialKudos(Long sponsorId, long kudos) {
+        kudosLedgerRepository.save(newEntry(sponsorId, INITIAL, kudos, null));
+    }
+
+    public boolean depositKudos(Long sponsorId, long kudos, long maxKudos) {
+        if (lockBalance(sponsorId) > maxKudos - kudos)
+            return false;
+        kudosLedgerRepository.save(newEntry(sponsorId, DEPOSIT, kudos, null));
+        return true;
+    }
+
+    /**
+     * Debits the saved kudos history, the balance has to be checked with lockBalance before.
+     */
+    public void withdrawKudos(Long sponsorId, List<KudosHistory> kudosHistories) {
+        kudosLedgerRepository.saveAll(kudosHistories.stream()
+                .map(kudosHistory -> newEntry(sponsorId, POSTING, -kudosHistory.getTotalKudos(),
+                        kudosHistory.getId()))
+                .toList());
+    }
+
+    private KudosLedgerEntry newEntry(Long sponsorId, KudosLedgerEntryType type, long delta, Long kudosHistoryId) {
+        return KudosLedgerEntry.builder()
+                .sponsorId(sponsorId)
+                .type(type)
+                .delta(delta)
+                .kudosHistoryId(kudosHistoryId)
+                .created(LocalDateTime.now())
+                .build();
+    }
+}
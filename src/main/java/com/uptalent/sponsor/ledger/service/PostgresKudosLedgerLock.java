@@ -0,0 +1,30 @@
+package com.uptalent.sponsor.ledger.service;
+
+import com.uptalent.sponsor.ledger.repository.KudosLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Takes transaction-level advisory locks keyed by sponsor id, so the sponsor row stays free for profile
+ * updates and for foreign key checks of rows referencing the sponsor.
+ */
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+public class PostgresKudosLedgerLock implements KudosLedgerLock {
+    private final KudosLedgerRepository kudosLedgerRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Collection<Long> sponsorIds) {
+        sponsorIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(kudosLedgerRepository::lockBySponsorId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.uptalent.sponsor.ledger.service;
+
+import com.uptalent.sponsor.repository.SponsorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Locks sponsor rows for profiles without Postgres, since H2 has no advisory locks.
+ */
+@Component
+@Profile("!prod")
+@RequiredArgsConstructor
+public class SponsorRowKudosLedgerLock implements KudosLedgerLock {
+    private final SponsorRepository sponsorRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Collection<Long> sponsorIds) {
+        sponsorRepository.lockAllByIdIn(sponsorIds);
+    }
+}
@@ -37,9 +37,6 @@ public class Sponsor {
     @Column(name = "avatar")
     private String avatar;
 
-    @Column(name = "kudos")
-    private long kudos;
-
     @OneToMany(mappedBy = "sponsor")
     private Set<KudosHistory> kudosHistory;
 
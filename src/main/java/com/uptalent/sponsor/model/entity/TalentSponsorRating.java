@@ -0,0 +1,22 @@
+package com.uptalent.sponsor.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entry of the bounded sponsor leaderboard of a talent, see SponsorRatingService.
+ */
+@Entity(name = "talent_sponsor_rating")
+@Table(name = "talent_sponsor_rating")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TalentSponsorRating {
+    @EmbeddedId
+    private TalentSponsorRatingId id;
+
+    @Column(nullable = false, name = "total_kudos")
+    private long totalKudos;
+}
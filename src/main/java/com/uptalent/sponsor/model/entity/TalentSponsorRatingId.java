@@ -0,0 +1,21 @@
+package com.uptalent.sponsor.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TalentSponsorRatingId implements Serializable {
+    @Column(nullable = false, name = "talent_id")
+    private Long talentId;
+
+    @Column(nullable = false, name = "sponsor_id")
+    private Long sponsorId;
+}
@@ -0,0 +1,25 @@
+package com.uptalent.sponsor.repository;
+
+import com.uptalent.sponsor.model.entity.TalentSponsorRating;
+import com.uptalent.sponsor.model.entity.TalentSponsorRatingId;
+import com.uptalent.sponsor.model.response.SponsorRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface TalentSponsorRatingRepository extends JpaRepository<TalentSponsorRating, TalentSponsorRatingId> {
+    @Query("select new com.uptalent.sponsor.model.response.SponsorRating(s.fullname, s.avatar, r.totalKudos) " +
+            "from talent_sponsor_rating r " +
+            "join sponsor s on s.id = r.id.sponsorId " +
+            "where r.id.talentId = :talentId " +
+            "order by r.totalKudos desc")
+    List<SponsorRating> findSponsorRatingByTalentId(Long talentId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from talent_sponsor_rating r where r.id.talentId = :talentId")
+    List<TalentSponsorRating> findForUpdateByTalentId(Long talentId);
+}
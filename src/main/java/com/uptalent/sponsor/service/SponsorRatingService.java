@@ -0,0 +1,82 @@
+package com.uptalent.sponsor.service;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.sponsor.model.entity.TalentSponsorRating;
+import com.uptalent.sponsor.model.entity.TalentSponsorRatingId;
+import com.uptalent.sponsor.model.response.SponsorRating;
+import com.uptalent.sponsor.repository.TalentSponsorRatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the top RATING_SIZE sponsors of every talent in talent_sponsor_rating. Totals only grow on
+ * posting, so a sponsor which is not in the rating never has more kudos than the last entry of it,
+ * and the rating is rebuilt from sponsor_proof_kudos when totals shrink.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SponsorRatingService {
+    public static final int RATING_SIZE = 10;
+
+    private final TalentSponsorRatingRepository talentSponsorRatingRepository;
+    private final SponsorProofKudosRepository sponsorProofKudosRepository;
+
+    @Transactional(readOnly = true)
+    public List<SponsorRating> getSponsorRating(Long talentId) {
+        return talentSponsorRatingRepository.findSponsorRatingByTalentId(talentId, PageRequest.of(0, RATING_SIZE));
+    }
+
+    @EventListener
+    public void addKudos(KudosPosted event) {
+        Long talentId = event.talentId();
+        Long sponsorId = event.sponsorId();
+        List<TalentSponsorRating> rating = new ArrayList<>(talentSponsorRatingRepository
+                .findForUpdateByTalentId(talentId));
+        long totalKudos = sponsorProofKudosRepository.sumTotalBySponsorIdAndTalentId(sponsorId, talentId);
+
+        TalentSponsorRating sponsorRating = rating.stream()
+                .filter(entry -> entry.getId().getSponsorId().equals(sponsorId))
+                .findFirst()
+                .orElseGet(() -> {
+                    TalentSponsorRating entry = new TalentSponsorRating(
+                            new TalentSponsorRatingId(talentId, sponsorId), 0L);
+                    rating.add(entry);
+                    return entry;
+                });
+        sponsorRating.setTotalKudos(totalKudos);
+
+        // a new sponsor with the same total as the last entry stays out of the rating
+        rating.sort(Comparator.comparingLong(TalentSponsorRating::getTotalKudos).reversed());
+        List<TalentSponsorRating> evicted = rating.subList(Math.min(RATING_SIZE, rating.size()), rating.size());
+        if (evicted.contains(sponsorRating))
+            evicted.remove(sponsorRating);
+        else
+            talentSponsorRatingRepository.save(sponsorRating);
+        talentSponsorRatingRepository.deleteAll(evicted);
+    }
+
+    public void rebuildRating(Long talentId) {
+        Map<Long, TalentSponsorRating> rating = talentSponsorRatingRepository.findForUpdateByTalentId(talentId)
+                .stream()
+                .collect(Collectors.toMap(entry -> entry.getId().getSponsorId(), Function.identity()));
+
+        sponsorProofKudosRepository.findSponsorTotalsByTalentId(talentId, PageRequest.of(0, RATING_SIZE))
+                .forEach(tuple -> {
+                    TalentSponsorRating entry = rating.remove((Long) tuple[0]);
+                    if (entry == null)
+                        entry = new TalentSponsorRating(new TalentSponsorRatingId(talentId, (Long) tuple[0]), 0L);
+                    entry.setTotalKudos((Long) tuple[1]);
+                    talentSponsorRatingRepository.save(entry);
+                });
+        talentSponsorRatingRepository.deleteAll(rating.values());
+    }
+}
@@ -7,15 +7,17 @@ import com.uptalent.credentials.repository.CredentialsRepository;
 import com.uptalent.email.EmailSender;
 import com.uptalent.email.model.EmailType;
 import com.uptalent.jwt.JwtTokenProvider;
-import com.uptalent.mapper.KudosHistoryMapper;
 import com.uptalent.mapper.SponsorMapper;
 import com.uptalent.pagination.PageWithMetadata;
 import com.uptalent.auth.model.response.AuthResponse;
-import com.uptalent.proof.kudos.model.entity.KudosHistory;
 import com.uptalent.proof.kudos.model.response.KudosedProof;
 import com.uptalent.proof.kudos.model.response.KudosedProofHistory;
+import com.uptalent.proof.kudos.repository.KudosHistoryRollupRepository;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.skill.model.SkillInfo;
 import com.uptalent.skill.repository.SkillKudosHistoryRepository;
 import com.uptalent.sponsor.exception.IllegalAddingKudosException;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
 import com.uptalent.sponsor.exception.SponsorNotFoundException;
 import com.uptalent.sponsor.model.entity.Sponsor;
 import com.uptalent.sponsor.model.request.IncreaseKudos;
@@ -32,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -40,8 +43,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.uptalent.credentials.model.enums.Role.SPONSOR;
 
@@ -54,8 +61,11 @@ public class SponsorService {
     private final CredentialsRepository credentialsRepository;
     private final PasswordEncoder passwordEncoder;
     private final AccessVerifyService accessVerifyService;
-    private final KudosHistoryMapper kudosHistoryMapper;
+    private final KudosHistoryReader kudosHistoryReader;
     private final SkillKudosHistoryRepository skillKudosHistoryRepository;
+    private final KudosHistoryRollupRepository kudosHistoryRollupRepository;
+    private final KudosLedgerService kudosLedgerService;
+    private final SponsorRatingService sponsorRatingService;
 
     private final EmailSender sender;
     @Value("${sponsor.initial-kudos-number}")
@@ -84,8 +94,8 @@ public class SponsorService {
         var savedSponsor = sponsorRepository.save(Sponsor.builder()
                 .credentials(credentials)
                 .fullname(sponsorRegistration.getFullname())
-                .kudos(INITIAL_KUDOS_NUMBER)
                 .build());
+        kudosLedgerService.addInitialKudos(savedSponsor.getId(), INITIAL_KUDOS_NUMBER);
         String link = "https://white-plant-071773303.3.azurestaticapps.net/";
         sender.sendMail(
                 credentials.getEmail(),
@@ -99,17 +109,38 @@ public class SponsorService {
     }
 
     @Transactional(readOnly = true)
-    public PageWithMetadata<KudosedProof> getListKudosedProofBySponsorId(Long sponsorId, int page, int size) {
+    public PageWithMetadata<KudosedProof> getListKudosedProofBySponsorId(Long sponsorId, int page, int size,
+                                                                         boolean withTotal) {
         String errorMessage = "You do not have permission to the list";
         accessVerifyService.tryGetAccess(sponsorId, SPONSOR, errorMessage);
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<KudosedProof> kudosedProofPage = sponsorRepository.findAllKudosedProofBySponsorId(sponsorId, pageRequest);
+        Slice<KudosedProof> kudosedProofSlice = sponsorRepository.findAllKudosedProofBySponsorId(sponsorId,
+                pageRequest);
 
-        kudosedProofPage.stream().forEach(kp -> kp.setSkills(skillKudosHistoryRepository
-                                .findSumSkillsBySponsorIdAndProofId(sponsorId, kp.getProofId())));
+        setSumSkills(sponsorId, kudosedProofSlice.getContent());
 
-        return new PageWithMetadata<>(kudosedProofPage.getContent(), kudosedProofPage.getTotalPages());
+        return PageWithMetadata.of(kudosedProofSlice.getContent(), kudosedProofSlice, withTotal,
+                () -> sponsorRepository.countKudosedProofBySponsorId(sponsorId));
+    }
+
+    private void setSumSkills(Long sponsorId, List<KudosedProof> kudosedProofs) {
+        if (kudosedProofs.isEmpty())
+            return;
+        List<Long> proofIds = kudosedProofs.stream()
+                .map(KudosedProof::getProofId)
+                .toList();
+        // months which were rolled up out of kudos_history are summed in kudos_history_rollup
+        Map<Long, Map<String, Long>> kudosBySkillNameByProofId = new HashMap<>();
+        Stream.concat(skillKudosHistoryRepository.findSumSkillsBySponsorIdAndProofIdIn(sponsorId, proofIds).stream(),
+                        kudosHistoryRollupRepository.findSumSkillsBySponsorIdAndProofIdIn(sponsorId, proofIds).stream())
+                .forEach(tuple -> kudosBySkillNameByProofId
+                        .computeIfAbsent((Long) tuple[0], proofId -> new LinkedHashMap<>())
+                        .merge((String) tuple[1], (Long) tuple[2], Long::sum));
+        kudosedProofs.forEach(kudosedProof -> kudosedProof.setSkills(kudosBySkillNameByProofId
+                .getOrDefault(kudosedProof.getProofId(), Map.of()).entrySet().stream()
+                .map(entry -> new SkillInfo(entry.getKey(), entry.getValue()))
+                .toList()));
     }
 
     @Transactional(readOnly = true)
@@ -119,13 +150,10 @@ public class SponsorService {
         accessVerifyService.tryGetAccess(sponsorId, SPONSOR, errorMessage);
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<KudosHistory> kudosedProofHistoriesPage =
-                sponsorRepository.findAllKudosedProofHistoryBySponsorIdAndProofId(sponsorId, proofId, pageRequest);
-
-        List<KudosedProofHistory> kudosedProofHistories = kudosedProofHistoriesPage.getContent().stream()
-                .map(kudosHistoryMapper::toKudosedProofHistory).toList();
+        Page<KudosedProofHistory> kudosedProofHistoriesPage =
+                kudosHistoryReader.getKudosedProofHistory(sponsorId, proofId, pageRequest);
 
-        return new PageWithMetadata<>(kudosedProofHistories,
+        return new PageWithMetadata<>(kudosedProofHistoriesPage.getContent(),
                 kudosedProofHistoriesPage.getTotalPages());
     }
 
@@ -138,7 +166,7 @@ public class SponsorService {
                 "You are not allowed to get this sponsor"
         );
 
-        return SponsorMapper.toSponsorProfile(foundSponsor);
+        return SponsorMapper.toSponsorProfile(foundSponsor, kudosLedgerService.getBalance(sponsorId));
     }
 
     public SponsorProfile editSponsor(Long sponsorId, SponsorEdit updatedSponsor) {
@@ -151,31 +179,26 @@ public class SponsorService {
 
         sponsorToUpdate.setFullname(updatedSponsor.getFullname());
         Sponsor savedSponsor = sponsorRepository.save(sponsorToUpdate);
-        return SponsorMapper.toSponsorProfile(savedSponsor);
+        return SponsorMapper.toSponsorProfile(savedSponsor, kudosLedgerService.getBalance(sponsorId));
     }
 
     public void addKudos(Long sponsorId, IncreaseKudos increaseKudos) {
-        Sponsor sponsorToUpdate = getSponsorById(sponsorId);
+        getSponsorById(sponsorId);
         accessVerifyService.tryGetAccess(
                 sponsorId,
                 SPONSOR,
                 "You are not allowed to edit this sponsor"
         );
 
-        if (KUDOS_MAX_VALUE - sponsorToUpdate.getKudos() < increaseKudos.getBalance()) {
+        if (!kudosLedgerService.depositKudos(sponsorId, increaseKudos.getBalance(), KUDOS_MAX_VALUE)) {
             throw new IllegalAddingKudosException("You reached max value of balance");
         }
-
-        sponsorToUpdate.setKudos(sponsorToUpdate.getKudos() + increaseKudos.getBalance());
-        sponsorRepository.save(sponsorToUpdate);
     }
 
     public List<SponsorRating> getSponsorRating() {
         Long talentId = accessVerifyService.getPrincipalId();
 
-        PageRequest limitRequest = PageRequest.of(0, 10);
-        return sponsorRepository.getSponsorRatingByTalentId(talentId, limitRequest)
-                .getContent();
+        return sponsorRatingService.getSponsorRating(talentId);
     }
     private Sponsor getSponsorById(Long sponsorId) {
         return sponsorRepository.findById(sponsorId)
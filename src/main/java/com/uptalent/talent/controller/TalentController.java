@@ -10,6 +10,7 @@ import com.uptalent.talent.model.request.TalentRegistration;
 import com.uptalent.talent.model.response.TalentGeneralInfo;
 import com.uptalent.talent.model.response.TalentOwnProfile;
 import com.uptalent.talent.model.response.TalentProfile;
+import com.uptalent.talent.model.response.TopTalent;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -23,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,11 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.List;
+
+import static com.uptalent.util.ETagUtils.conditionalGet;
 
 
 @RestController
@@ -52,7 +59,8 @@ public class TalentController {
     @Operation(
             summary = "Retrieve list of talents",
             description = "As a guest, I want to be able to view talent information as a list on the page " +
-                    "and see a limited information.")
+                    "and see a limited information. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all talents.")
     @ApiResponses({
             @ApiResponse(responseCode = "200",
                     content = { @Content(schema = @Schema(implementation = TalentGeneralInfo.class),
@@ -65,8 +73,9 @@ public class TalentController {
             @RequestParam(defaultValue = "0") int page,
             @Positive(message = "Size should be positive")
             @RequestParam(defaultValue = "9") int size,
-            @RequestParam(required = false) String [] skills){
-        return talentService.getAllTalents(page, size, skills);
+            @RequestParam(required = false) String [] skills,
+            @RequestParam(defaultValue = "false") boolean slice){
+        return talentService.getAllTalents(page, size, skills, !slice);
     }
 
     @SecurityRequirement(name = "bearerAuth")
@@ -87,9 +96,9 @@ public class TalentController {
                     content = { @Content(schema = @Schema(implementation = HttpResponse.class),
                             mediaType = "application/json") }) })
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TalentProfile getTalentProfile(@PathVariable Long id){
-        return talentService.getTalentProfileById(id);
+    public ResponseEntity<TalentProfile> getTalentProfile(@PathVariable Long id, NativeWebRequest request){
+        return conditionalGet(request, talentService.getTalentProfileETag(id),
+                () -> talentService.getTalentProfileById(id));
     }
 
     @Operation(
@@ -184,4 +193,25 @@ public class TalentController {
     public TalentStatistic getTalentStatistic(@PathVariable Long talentId) {
         return talentService.getStatistic(talentId);
     }
+
+    @Operation(
+            summary = "Retrieve top talents",
+            description = "As a guest, I want to see talents with the most kudos overall or by one skill.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = TopTalent.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Illegal query params"),
+            @ApiResponse(responseCode = "404", description = "Skill was not found",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })})
+    @GetMapping("/top")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TopTalent> getTopTalents(
+            @RequestParam(required = false) String skill,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "10") int size) {
+        return talentService.getTopTalents(skill, size);
+    }
 }
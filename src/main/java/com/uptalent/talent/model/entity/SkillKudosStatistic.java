@@ -0,0 +1,21 @@
+package com.uptalent.talent.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SkillKudosStatistic {
+    @Column(length = 30, nullable = false, name = "name")
+    private String name;
+
+    @Column(nullable = false, name = "kudos")
+    private long kudos;
+
+    @Column(nullable = false, name = "proofs")
+    private int proofs;
+}
@@ -8,6 +8,7 @@ import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.vacancy.submission.model.entity.Submission;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OptimisticLock;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
@@ -51,6 +52,7 @@ public class Talent {
 
 
     @ManyToMany(mappedBy = "talents")
+    @OptimisticLock(excluded = false)
     private Set<Skill> skills;
 
     @Column(name = "location")
@@ -72,6 +74,10 @@ public class Talent {
     @OneToMany(mappedBy = "talent")
     private List<Submission> submissions;
 
+    @Version
+    @Column(nullable = false, name = "version")
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,38 @@
+package com.uptalent.talent.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read model of talent statistic which is kept up to date on kudos posting and proof changes.
+ */
+@Entity(name = "talent_statistic")
+@Table(name = "talent_statistic")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TalentKudosStatistic {
+    @Id
+    @Column(name = "talent_id")
+    private Long talentId;
+
+    @Column(nullable = false, name = "total_kudos")
+    private long totalKudos;
+
+    @Column(name = "most_kudosed_proof_id")
+    private Long mostKudosedProofId;
+
+    @Column(nullable = false, name = "most_kudosed_proof_kudos")
+    private long mostKudosedProofKudos;
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "talent_skill_statistic", joinColumns = @JoinColumn(name = "talent_id"))
+    @MapKeyColumn(name = "skill_id")
+    private Map<Long, SkillKudosStatistic> skills = new HashMap<>();
+}
@@ -0,0 +1,16 @@
+package com.uptalent.talent.model.response;
+
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopTalent {
+    private Long id;
+    private String lastname;
+    private String firstname;
+    private String avatar;
+    private Long kudos;
+}
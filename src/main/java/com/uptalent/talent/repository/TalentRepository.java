@@ -3,21 +3,25 @@ package com.uptalent.talent.repository;
 import com.uptalent.talent.model.entity.Talent;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @Repository
 public interface TalentRepository extends JpaRepository<Talent, Long> {
     @Query("SELECT t from talent t where t.credentials.verified = TRUE ORDER BY t.id DESC")
-    Page<Talent> findAllByOrderByIdDesc(Pageable pageable);
+    Slice<Talent> findAllByOrderByIdDesc(Pageable pageable);
+
+    long countByCredentialsVerifiedTrue();
 
     @Query("SELECT t.avatar FROM talent t WHERE t.id = :talentId")
     Optional<String> findAvatarByTalentId(Long talentId);
@@ -27,7 +31,22 @@ public interface TalentRepository extends JpaRepository<Talent, Long> {
 
     @Query("select t from talent t where " +
             "coalesce((SELECT count(sk) FROM t.skills sk WHERE sk.name IN :skills GROUP BY t.id), 0) = :skillsSize ")
-    Page<Talent> filterAllBySkills(String [] skills, int skillsSize, PageRequest of);
+    Slice<Talent> filterAllBySkills(String [] skills, int skillsSize, PageRequest of);
+
+    @Query("select count(t) from talent t where " +
+            "coalesce((SELECT count(sk) FROM t.skills sk WHERE sk.name IN :skills GROUP BY t.id), 0) = :skillsSize ")
+    long countAllBySkills(String [] skills, int skillsSize);
+
+    @Query("select t from talent t where t.id in :ids")
+    Slice<Talent> findAllByIdIn(Collection<Long> ids, Pageable pageable);
+
+    long countByIdIn(Collection<Long> ids);
+
+    @Query("select distinct t from talent t left join fetch t.skills where t.id in :ids")
+    List<Talent> findAllWithSkillsByIdIn(Collection<Long> ids);
+
+    @Query("select t.id, s.id from talent t join t.skills s")
+    List<Object[]> findAllTalentSkillPairs();
 
     @Query("select sum(p.kudos) from proof p join talent t on t.id = p.talent.id where t.id = :talentId")
     Long getTotalCountKudosByTalentId(Long talentId);
@@ -35,10 +54,16 @@ public interface TalentRepository extends JpaRepository<Talent, Long> {
     @Query("SELECT t FROM talent t WHERE t.id = :id AND t.credentials.verified = TRUE")
     Optional<Talent> findByIdAndCredentialsVerified(Long id);
 
+    @Query("SELECT t.version FROM talent t WHERE t.id = :id AND t.credentials.verified = TRUE")
+    Optional<Long> findVersionByIdAndCredentialsVerified(Long id);
+
+    @Query("SELECT t.id FROM talent t WHERE t.id IN :ids AND t.credentials.verified = TRUE")
+    Set<Long> findVerifiedIdsByIdIn(Collection<Long> ids);
+
     @Modifying(clearAutomatically=true, flushAutomatically=true)
     @Query(value = "UPDATE talent t " +
             "SET t.avatar=NULL," +
-            "t.firstname='Deleted', t.lastname='Talent', t.banner=NULL " +
+            "t.firstname='Deleted', t.lastname='Talent', t.banner=NULL, t.version = t.version + 1 " +
             "WHERE t.id IN :ids")
     void updateTalentDeleteData(List<Long> ids);
 
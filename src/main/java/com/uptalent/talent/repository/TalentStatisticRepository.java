@@ -0,0 +1,23 @@
+package com.uptalent.talent.repository;
+
+import com.uptalent.talent.model.entity.TalentKudosStatistic;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TalentStatisticRepository extends JpaRepository<TalentKudosStatistic, Long> {
+    @Query("select ts from talent_statistic ts left join fetch ts.skills where ts.talentId = :talentId")
+    Optional<TalentKudosStatistic> findWithSkillsByTalentId(Long talentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ts from talent_statistic ts where ts.talentId = :talentId")
+    Optional<TalentKudosStatistic> findForUpdateByTalentId(Long talentId);
+
+    @Query("select t.id from talent t " +
+            "where not exists (select ts.talentId from talent_statistic ts where ts.talentId = t.id)")
+    List<Long> findTalentIdsWithoutStatistic();
+}
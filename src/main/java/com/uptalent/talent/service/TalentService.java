@@ -9,6 +9,8 @@ import com.uptalent.email.EmailSender;
 import com.uptalent.email.model.EmailType;
 import com.uptalent.filestore.FileStoreService;
 import com.uptalent.jwt.JwtTokenProvider;
+import com.uptalent.leaderboard.LeaderboardService;
+import com.uptalent.leaderboard.TopKCounter.Count;
 import com.uptalent.mapper.ProofMapper;
 import com.uptalent.mapper.TalentMapper;
 import com.uptalent.pagination.PageWithMetadata;
@@ -16,7 +18,8 @@ import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.model.response.ProofDetailInfo;
 import com.uptalent.proof.model.response.ProofTalentDetailInfo;
 import com.uptalent.proof.repository.ProofRepository;
-import com.uptalent.skill.model.SkillInfo;
+import com.uptalent.skill.exception.SkillNotFoundException;
+import com.uptalent.skill.index.SkillIndexService;
 import com.uptalent.skill.model.SkillTalentInfo;
 import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.skill.repository.SkillRepository;
@@ -24,6 +27,7 @@ import com.uptalent.sponsor.repository.SponsorRepository;
 import com.uptalent.talent.exception.TalentIllegalEditingException;
 import com.uptalent.talent.exception.TalentNotFoundException;
 import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.model.entity.TalentKudosStatistic;
 import com.uptalent.talent.model.property.TalentAgeRange;
 import com.uptalent.talent.model.request.TalentEdit;
 import com.uptalent.talent.model.request.TalentRegistration;
@@ -32,13 +36,15 @@ import com.uptalent.talent.model.response.TalentOwnProfile;
 import com.uptalent.talent.model.response.TalentProfile;
 import com.uptalent.auth.model.response.AuthResponse;
 import com.uptalent.talent.model.response.TalentStatistic;
+import com.uptalent.talent.model.response.TopTalent;
 import com.uptalent.talent.repository.TalentRepository;
 import com.uptalent.util.service.AccessVerifyService;
 import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.scheduling.annotation.Async;
@@ -51,6 +57,7 @@ import java.time.LocalDate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import static com.uptalent.credentials.model.enums.Role.TALENT;
@@ -69,14 +76,33 @@ public class TalentService {
     private final ProofRepository proofRepository;
     private final TalentAgeRange talentAgeRange;
     private final ProofMapper proofMapper;
+    private final SkillIndexService skillIndexService;
+    private final TalentStatisticService talentStatisticService;
+    private final LeaderboardService leaderboardService;
 
     private final EmailSender sender;
 
 
-    public PageWithMetadata<TalentGeneralInfo> getAllTalents(int page, int size, String [] skills){
-        Page<Talent> talentPage = retrieveAllTalents(page, size, skills);
-        List<TalentGeneralInfo> talentGeneralInfos = talentMapper.toTalentGeneralInfos(talentPage.getContent());
-        return new PageWithMetadata<>(talentGeneralInfos, talentPage.getTotalPages());
+    public PageWithMetadata<TalentGeneralInfo> getAllTalents(int page, int size, String [] skills,
+                                                             boolean withTotal){
+        if (skills == null || skills.length == 0) {
+            Slice<Talent> talentSlice = talentRepository.findAllByOrderByIdDesc(PageRequest.of(page, size));
+            return toTalentGeneralInfos(talentSlice, withTotal, talentRepository::countByCredentialsVerifiedTrue);
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("id").descending());
+        Optional<List<Long>> indexedIds = skillIndexService.findTalentIds(skills);
+        if (indexedIds.isEmpty()) {
+            Slice<Talent> talentSlice = talentRepository.filterAllBySkills(skills, skills.length, pageRequest);
+            return toTalentGeneralInfos(talentSlice, withTotal,
+                    () -> talentRepository.countAllBySkills(skills, skills.length));
+        }
+
+        List<Long> ids = indexedIds.get();
+        if (ids.isEmpty())
+            return toTalentGeneralInfos(new SliceImpl<>(List.of(), pageRequest, false), withTotal, () -> 0);
+        return toTalentGeneralInfos(talentRepository.findAllByIdIn(ids, pageRequest), withTotal,
+                () -> talentRepository.countByIdIn(ids));
     }
 
     @Transactional
@@ -105,6 +131,7 @@ public class TalentService {
                     .build());
 
         updateSkillsIfExists(talentRegistration.getSkills(), savedTalent);
+        talentStatisticService.createStatistic(savedTalent.getId());
         String link = "https://white-plant-071773303.3.azurestaticapps.net/";
         sender.sendMail(
                 credentials.getEmail(),
@@ -128,6 +155,11 @@ public class TalentService {
         }
     }
 
+    public Optional<String> getTalentProfileETag(Long id) {
+        return talentRepository.findVersionByIdAndCredentialsVerified(id)
+                .map(version -> accessVerifyService.isPersonalProfile(id, TALENT) ? version + "-own" : version.toString());
+    }
+
     @Transactional
     public TalentOwnProfile updateTalent(Long id, TalentEdit updatedTalent) {
         Talent talentToUpdate = getTalentById(id);
@@ -192,19 +224,39 @@ public class TalentService {
 
 
     public TalentStatistic getStatistic(Long talentId) {
-        Talent talent = getTalentById(talentId);
-        Long totalCountKudos = talentRepository.getTotalCountKudosByTalentId(talentId);
-        totalCountKudos = (totalCountKudos == null) ? 0L : totalCountKudos;
-        Set<SkillInfo> mostKudosedSkills = getMostKudosedSkills(talentId);
-        ProofDetailInfo mostKudosedProof = getMostKudosedProof(talentId, accessVerifyService.getRole());
+        getTalentById(talentId);
+        TalentKudosStatistic statistic = talentStatisticService.getStatistic(talentId);
+        ProofDetailInfo mostKudosedProof = getMostKudosedProof(talentId, statistic.getMostKudosedProofId(),
+                accessVerifyService.getRole());
 
         return TalentStatistic.builder()
-                .totalCountKudos(totalCountKudos)
-                .mostKudosedSkills(mostKudosedSkills)
+                .totalCountKudos(statistic.getTotalKudos())
+                .mostKudosedSkills(talentStatisticService.getMostKudosedSkills(statistic))
                 .mostKudosedProof(mostKudosedProof)
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public List<TopTalent> getTopTalents(String skill, int size) {
+        Long skillId = skill == null ? null : skillRepository.findAllByNameIn(List.of(skill)).stream()
+                .findFirst()
+                .map(Skill::getId)
+                .orElseThrow(() -> new SkillNotFoundException("Skill was not found"));
+        List<Count<Long>> topTalents = leaderboardService.getTopTalents(skillId, size);
+
+        Map<Long, Talent> talentsById = talentRepository.findAllById(topTalents.stream().map(Count::key).toList())
+                .stream()
+                .collect(Collectors.toMap(Talent::getId, talent -> talent));
+        return topTalents.stream()
+                .filter(count -> talentsById.containsKey(count.key()))
+                .map(count -> {
+                    Talent talent = talentsById.get(count.key());
+                    return new TopTalent(talent.getId(), talent.getLastname(), talent.getFirstname(),
+                            talent.getAvatar(), count.count());
+                })
+                .toList();
+    }
+
     private Talent getTalentById(Long id) {
         return talentRepository.findByIdAndCredentialsVerified(id)
                 .orElseThrow(() -> new TalentNotFoundException("Talent was not found"));
@@ -224,6 +276,9 @@ public class TalentService {
                 .filter(skills -> !skills.isEmpty())
                 .map(skills -> getAllMappedSkills(skillTalentInfo, talent))
                 .ifPresent(talent::setSkills);
+        Set<Skill> skills = Optional.ofNullable(talent.getSkills()).orElse(Set.of());
+        skillIndexService.indexTalent(talent.getId(),
+                skills.stream().map(Skill::getId).collect(Collectors.toSet()));
     }
     private void clearSkillsFromTalent(Talent talent) {
         talent.getSkills().forEach(skill -> skill.getTalents().remove(talent));
@@ -231,37 +286,24 @@ public class TalentService {
         talentRepository.save(talent);
     }
 
-    private Page<Talent> retrieveAllTalents(int page, int size, String[] skills) {
-        if (skills != null)
-            return talentRepository.filterAllBySkills(skills, skills.length,
-                    PageRequest.of(page, size, Sort.by("id").descending()));
-        else
-            return talentRepository.findAllByOrderByIdDesc(PageRequest.of(page, size));
-    }
-
-    private Set<SkillInfo> getMostKudosedSkills(Long talentId) {
-        PageRequest limitSkills = PageRequest.of(0, 3);
-        return new LinkedHashSet<>(skillRepository
-                .getMostKudosedSkillsByTalentId(talentId, limitSkills)
-                .getContent());
+    private PageWithMetadata<TalentGeneralInfo> toTalentGeneralInfos(Slice<Talent> talentSlice, boolean withTotal,
+                                                                      LongSupplier count) {
+        List<TalentGeneralInfo> talentGeneralInfos = talentMapper.toTalentGeneralInfos(talentSlice.getContent());
+        return PageWithMetadata.of(talentGeneralInfos, talentSlice, withTotal, count);
     }
 
-    private ProofDetailInfo getMostKudosedProof(Long talentId, Role role) {
-        PageRequest limitProof = PageRequest.of(0, 1);
-        Page<Proof> mostKudosedProofResult = proofRepository.getMostKudosedProofByTalentId(talentId, limitProof);
-        if (mostKudosedProofResult.getTotalElements() == 0) {
+    private ProofDetailInfo getMostKudosedProof(Long talentId, Long proofId, Role role) {
+        if (proofId == null)
             return null;
+        Proof proof = proofRepository.findById(proofId).orElse(null);
+        if (proof == null) {
+            return null;
+        } else if (role.equals(TALENT)) {
+            return proofMapper.toProofTalentDetailInfo(proof, verifyOwnProof(talentId));
         } else {
-            Proof proof = mostKudosedProofResult.getContent().get(0);
-            if (role.equals(TALENT)) {
-                return proofMapper.toProofTalentDetailInfo(proof, verifyOwnProof(talentId));
-            } else {
-                return proofMapper.toProofSponsorDetailInfo(proof, sponsorRepository
-                        .sumKudosBySponsorAndProof(accessVerifyService.getPrincipalId(), proof.getId()));
-            }
+            return proofMapper.toProofSponsorDetailInfo(proof, sponsorRepository
+                    .sumKudosBySponsorAndProof(accessVerifyService.getPrincipalId(), proof.getId()));
         }
-
-
     }
 
     private boolean verifyOwnProof(Long talentId) {
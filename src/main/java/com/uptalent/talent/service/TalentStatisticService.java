@@ -0,0 +1,204 @@
+package com.uptalent.talent.service;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.skill.model.SkillInfo;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.talent.model.entity.SkillKudosStatistic;
+import com.uptalent.talent.model.entity.TalentKudosStatistic;
+import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.repository.TalentStatisticRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+
+/**
+ * Maintains talent_statistic incrementally. Every change is applied after proofs and skill kudos were
+ * changed, so the statistic row is locked after the proof row like in kudos posting, and a missing row
+ * is computed from the already changed state instead of being updated. Kudos and publications are applied
+ * from the outbox, so their proof can already be deleted or hidden again and then is skipped.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class TalentStatisticService {
+    private static final int MOST_KUDOSED_SKILLS_LIMIT = 3;
+
+    private final TalentStatisticRepository talentStatisticRepository;
+    private final TalentRepository talentRepository;
+    private final ProofRepository proofRepository;
+    private final SkillKudosRepository skillKudosRepository;
+
+    @Transactional(readOnly = true)
+    public TalentKudosStatistic getStatistic(Long talentId) {
+        return talentStatisticRepository.findWithSkillsByTalentId(talentId)
+                .orElseGet(() -> computeStatistic(talentId));
+    }
+
+    public Set<SkillInfo> getMostKudosedSkills(TalentKudosStatistic statistic) {
+        return statistic.getSkills().values().stream()
+                .sorted(Comparator.comparingLong(SkillKudosStatistic::getKudos).reversed()
+                        .thenComparing(SkillKudosStatistic::getName))
+                .limit(MOST_KUDOSED_SKILLS_LIMIT)
+                .map(skill -> new SkillInfo(skill.getName(), skill.getKudos()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public void createStatistic(Long talentId) {
+        talentStatisticRepository.save(TalentKudosStatistic.builder().talentId(talentId).build());
+    }
+
+    @EventListener
+    public void addKudos(KudosPosted event) {
+        lockStatistic(event.talentId())
+                .filter(statistic -> proofRepository.existsById(event.proofId()))
+                .ifPresent(statistic -> addKudos(statistic, event.proofId(), event.proofKudos(),
+                        event.kudosBySkillId()));
+    }
+
+    public void addSkills(Long talentId, Collection<Skill> skills) {
+        lockStatistic(talentId).ifPresent(statistic -> skills.forEach(skill -> statistic.getSkills()
+                .merge(skill.getId(), new SkillKudosStatistic(skill.getName(), 0L, 1),
+                        (current, added) -> new SkillKudosStatistic(current.getName(), current.getKudos(),
+                                current.getProofs() + 1))));
+    }
+
+    public void removeSkills(Long talentId, Collection<SkillKudos> skillKudos) {
+        if (skillKudos == null || skillKudos.isEmpty())
+            return;
+        lockStatistic(talentId).ifPresent(statistic -> removeSkills(statistic, skillKudos));
+    }
+
+    public void removeProof(Long talentId, Long proofId, long proofKudos, Collection<SkillKudos> skillKudos) {
+        lockStatistic(talentId).ifPresent(statistic -> {
+            statistic.setTotalKudos(statistic.getTotalKudos() - proofKudos);
+            removeSkills(statistic, skillKudos);
+            if (proofId.equals(statistic.getMostKudosedProofId()))
+                refreshMostKudosedProof(statistic);
+        });
+    }
+
+    public void updateMostKudosedProof(Proof proof, long proofKudos) {
+        lockStatistic(proof.getTalent().getId()).ifPresent(statistic -> {
+            boolean mostKudosed = proof.getId().equals(statistic.getMostKudosedProofId());
+            if (!PUBLISHED.equals(proof.getStatus())) {
+                if (mostKudosed)
+                    refreshMostKudosedProof(statistic);
+            } else if (mostKudosed || statistic.getMostKudosedProofId() == null
+                    || proofKudos > statistic.getMostKudosedProofKudos()) {
+                setMostKudosedProof(statistic, proof.getId(), proofKudos);
+            }
+        });
+    }
+
+    @EventListener
+    public void updateMostKudosedProof(ProofPublished event) {
+        proofRepository.findById(event.proofId())
+                .filter(proof -> PUBLISHED.equals(proof.getStatus()))
+                .ifPresent(proof -> updateMostKudosedProof(proof, proof.getKudos()));
+    }
+
+    public void refreshMostKudosedProofs(Collection<Long> talentIds) {
+        talentIds.forEach(talentId -> lockStatistic(talentId).ifPresent(this::refreshMostKudosedProof));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingStatistics() {
+        List<Long> talentIds = talentStatisticRepository.findTalentIdsWithoutStatistic();
+        talentIds.forEach(talentId -> talentStatisticRepository.save(computeStatistic(talentId)));
+        if (!talentIds.isEmpty())
+            log.info("Statistic of {} talents was computed", talentIds.size());
+    }
+
+    private Optional<TalentKudosStatistic> lockStatistic(Long talentId) {
+        Optional<TalentKudosStatistic> statistic = talentStatisticRepository.findForUpdateByTalentId(talentId);
+        if (statistic.isEmpty())
+            talentStatisticRepository.save(computeStatistic(talentId));
+        return statistic;
+    }
+
+    private void addKudos(TalentKudosStatistic statistic, Long proofId, long proofKudos,
+                          Map<Long, Long> kudosBySkillId) {
+        Map<Long, SkillKudosStatistic> skills = statistic.getSkills();
+        if (!skills.keySet().containsAll(kudosBySkillId.keySet())) {
+            rebuildStatistic(statistic);
+            return;
+        }
+        kudosBySkillId.forEach((skillId, kudos) -> {
+            SkillKudosStatistic skill = skills.get(skillId);
+            skills.put(skillId, new SkillKudosStatistic(skill.getName(), skill.getKudos() + kudos,
+                    skill.getProofs()));
+        });
+        statistic.setTotalKudos(statistic.getTotalKudos() + kudosBySkillId.values().stream()
+                .mapToLong(Long::longValue)
+                .sum());
+        if (proofId.equals(statistic.getMostKudosedProofId())
+                || proofKudos > statistic.getMostKudosedProofKudos())
+            setMostKudosedProof(statistic, proofId, proofKudos);
+    }
+
+    private void removeSkills(TalentKudosStatistic statistic, Collection<SkillKudos> skillKudos) {
+        Map<Long, SkillKudosStatistic> skills = statistic.getSkills();
+        for (SkillKudos removedSkill : skillKudos) {
+            SkillKudosStatistic skill = skills.get(removedSkill.getSkill().getId());
+            if (skill == null) {
+                rebuildStatistic(statistic);
+                return;
+            }
+            if (skill.getProofs() > 1)
+                skills.put(removedSkill.getSkill().getId(), new SkillKudosStatistic(skill.getName(),
+                        skill.getKudos() - removedSkill.getKudos(), skill.getProofs() - 1));
+            else
+                skills.remove(removedSkill.getSkill().getId());
+        }
+    }
+
+    private void rebuildStatistic(TalentKudosStatistic statistic) {
+        log.warn("Statistic of talent {} was out of sync and is rebuilt", statistic.getTalentId());
+        TalentKudosStatistic computedStatistic = computeStatistic(statistic.getTalentId());
+        statistic.setTotalKudos(computedStatistic.getTotalKudos());
+        statistic.getSkills().clear();
+        statistic.getSkills().putAll(computedStatistic.getSkills());
+        setMostKudosedProof(statistic, computedStatistic.getMostKudosedProofId(),
+                computedStatistic.getMostKudosedProofKudos());
+    }
+
+    private TalentKudosStatistic computeStatistic(Long talentId) {
+        Long totalKudos = talentRepository.getTotalCountKudosByTalentId(talentId);
+        TalentKudosStatistic statistic = TalentKudosStatistic.builder()
+                .talentId(talentId)
+                .totalKudos(totalKudos == null ? 0L : totalKudos)
+                .build();
+        skillKudosRepository.sumKudosBySkillByTalentId(talentId).forEach(tuple -> statistic.getSkills()
+                .put((Long) tuple[0], new SkillKudosStatistic((String) tuple[1], (Long) tuple[2],
+                        ((Long) tuple[3]).intValue())));
+        refreshMostKudosedProof(statistic);
+        return statistic;
+    }
+
+    private void refreshMostKudosedProof(TalentKudosStatistic statistic) {
+        proofRepository.getMostKudosedProofByTalentId(statistic.getTalentId(), PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .ifPresentOrElse(proof -> setMostKudosedProof(statistic, proof.getId(), proof.getKudos()),
+                        () -> setMostKudosedProof(statistic, null, 0L));
+    }
+
+    private void setMostKudosedProof(TalentKudosStatistic statistic, Long proofId, long proofKudos) {
+        statistic.setMostKudosedProofId(proofId);
+        statistic.setMostKudosedProofKudos(proofKudos);
+    }
+}
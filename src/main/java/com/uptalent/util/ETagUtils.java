@@ -0,0 +1,35 @@
+package com.uptalent.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public final class ETagUtils {
+    private ETagUtils() {
+    }
+
+    /**
+     * Answers 304 without calling the loader when If-None-Match matches the given ETag.
+     * Responses without ETag are always loaded and sent in full.
+     */
+    public static <T> ResponseEntity<T> conditionalGet(NativeWebRequest request, Optional<String> eTag,
+                                                       Supplier<T> loader) {
+        if (eTag.isEmpty())
+            return ResponseEntity.ok(loader.get());
+
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        if (request.checkNotModified(eTag.get()))
+            return null;
+
+        return ResponseEntity.ok(loader.get());
+    }
+}
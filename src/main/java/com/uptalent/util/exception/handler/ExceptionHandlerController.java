@@ -1,5 +1,8 @@
 package com.uptalent.util.exception.handler;
 
+import com.uptalent.idempotency.exception.IdempotencyKeyConflictException;
+import com.uptalent.idempotency.exception.InvalidIdempotencyKeyException;
+import com.uptalent.pagination.exception.InvalidCursorException;
 import com.uptalent.payload.HttpResponse;
 import com.uptalent.talent.exception.DeniedAccessException;
 import com.uptalent.util.exception.IllegalContentModifyingException;
@@ -12,6 +15,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -43,6 +47,18 @@ public class ExceptionHandlerController extends ResponseEntityExceptionHandler {
         return new HttpResponse(e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public HttpResponse handlerInvalidCursorException(InvalidCursorException e) {
+        return new HttpResponse(e.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public HttpResponse handlerInvalidIdempotencyKeyException(InvalidIdempotencyKeyException e) {
+        return new HttpResponse(e.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.FORBIDDEN)
     @ExceptionHandler(DeniedAccessException.class)
     public HttpResponse handlerExistsTalentException(DeniedAccessException e) {
@@ -71,4 +87,16 @@ public class ExceptionHandlerController extends ResponseEntityExceptionHandler {
     public HttpResponse handlerIllegalContentModifyingException(IllegalContentModifyingException e) {
         return new HttpResponse(e.getMessage());
     }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public HttpResponse handlerObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        return new HttpResponse("Content was modified concurrently, try again");
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public HttpResponse handlerIdempotencyKeyConflictException(IdempotencyKeyConflictException e) {
+        return new HttpResponse(e.getMessage());
+    }
 }
@@ -1,10 +1,13 @@
 package com.uptalent.vacancy.controller;
 
 import com.uptalent.answer.model.request.FeedbackContent;
+import com.uptalent.idempotency.IdempotencyStore;
 import com.uptalent.pagination.PageWithMetadata;
 import com.uptalent.payload.HttpResponse;
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.util.annotation.EnumValue;
+import com.uptalent.vacancy.model.response.RecommendedVacancy;
+import com.uptalent.vacancy.model.response.VacancyCandidate;
 import com.uptalent.vacancy.model.response.VacancyGeneralInfo;
 import com.uptalent.vacancy.service.VacancyService;
 import com.uptalent.vacancy.model.response.VacancyDetailInfo;
@@ -25,6 +28,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -33,9 +37,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.net.URI;
 
+import static com.uptalent.idempotency.IdempotencyStore.IDEMPOTENCY_KEY;
+import static com.uptalent.util.ETagUtils.conditionalGet;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/vacancies")
@@ -50,6 +58,7 @@ import java.net.URI;
 )
 public class VacancyController {
     private final VacancyService vacancyService;
+    private final IdempotencyStore idempotencyStore;
 
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
@@ -95,9 +104,8 @@ public class VacancyController {
                     content = { @Content(schema = @Schema(implementation = HttpResponse.class),
                             mediaType = "application/json") })})
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public VacancyDetailInfo getVacancyDetailInfo(@PathVariable Long id) {
-        return vacancyService.getVacancy(id);
+    public ResponseEntity<VacancyDetailInfo> getVacancyDetailInfo(@PathVariable Long id, NativeWebRequest request) {
+        return conditionalGet(request, vacancyService.getVacancyETag(id), () -> vacancyService.getVacancy(id));
     }
 
     @SecurityRequirement(name = "bearerAuth")
@@ -133,7 +141,8 @@ public class VacancyController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Retrieve list of vacancies from sponsor profile",
-            description = "As a sponsor, I want my vacancies to be displayed on my profile.")
+            description = "As a sponsor, I want my vacancies to be displayed on my profile. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all vacancies.")
     @ApiResponses({
             @ApiResponse(responseCode = "200",
                     content = { @Content(schema = @Schema(implementation = VacancyDetailInfo.class),
@@ -161,8 +170,9 @@ public class VacancyController {
             @RequestParam(defaultValue = "published")
             @EnumValue(enumClass = ContentStatus.class) String status,
             @RequestParam(defaultValue = "desc") String sort,
-            @PathVariable("sponsor-id") Long sponsorId) {
-        return vacancyService.getSponsorVacancies(page, size, sort, sponsorId, status);
+            @PathVariable("sponsor-id") Long sponsorId,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        return vacancyService.getSponsorVacancies(page, size, sort, sponsorId, status, !slice);
     }
 
     @SecurityRequirement(name = "bearerAuth")
@@ -189,7 +199,8 @@ public class VacancyController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Get all vacancies",
-            description = "As a user, I want to get a list of vacancies.")
+            description = "As a user, I want to get a list of vacancies. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all vacancies.")
     @ApiResponses({
             @ApiResponse(responseCode = "200",
                     content = { @Content(schema = @Schema(implementation = VacancyGeneralInfo.class),
@@ -206,8 +217,72 @@ public class VacancyController {
             @Positive(message = "Size should be positive")
             @RequestParam(defaultValue = "9") int size,
             @RequestParam(defaultValue = "desc") String sort,
-            @RequestParam(required = false) String [] skills) {
-        return vacancyService.getVacancies(page, size, sort, skills);
+            @RequestParam(required = false) String [] skills,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        return vacancyService.getVacancies(page, size, sort, skills, !slice);
+    }
+
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get recommended vacancies",
+            description = "As a talent, I want to see published vacancies which match my skills, " +
+                    "the best matched first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = RecommendedVacancy.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Invalid query params",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "401", description = "Log in to get access to the page",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })
+    })
+    @GetMapping("/recommended")
+    @PreAuthorize("hasAuthority('TALENT')")
+    @ResponseStatus(HttpStatus.OK)
+    public PageWithMetadata<RecommendedVacancy> getRecommendedVacancies(
+            @Min(value = 0, message = "Page should be greater or equals 0")
+            @RequestParam(defaultValue = "0") int page,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "9") int size) {
+        return vacancyService.getRecommendedVacancies(page, size);
+    }
+
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get vacancy candidates",
+            description = "As a sponsor, I want to see talents which match my vacancy, the most skilled first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    content = { @Content(schema = @Schema(implementation = VacancyCandidate.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", description = "Invalid query params",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "401", description = "Log in to get access to the page",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "403", description = "Unrelated vacancy",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") }),
+            @ApiResponse(responseCode = "404", description = "Vacancy was not found",
+                    content = { @Content(schema = @Schema(implementation = HttpResponse.class),
+                            mediaType = "application/json") })
+    })
+    @GetMapping("/{id}/candidates")
+    @PreAuthorize("hasAuthority('SPONSOR')")
+    @ResponseStatus(HttpStatus.OK)
+    public PageWithMetadata<VacancyCandidate> getVacancyCandidates(
+            @PathVariable Long id,
+            @Min(value = 0, message = "Page should be greater or equals 0")
+            @Max(value = 99, message = "Page should be less or equals 99")
+            @RequestParam(defaultValue = "0") int page,
+            @Positive(message = "Size should be positive")
+            @Max(value = 100, message = "Size should be less or equals 100")
+            @RequestParam(defaultValue = "9") int size) {
+        return vacancyService.getVacancyCandidates(id, page, size);
     }
 
 
@@ -233,14 +308,19 @@ public class VacancyController {
     @PreAuthorize("hasAuthority('TALENT')")
     @ResponseStatus(HttpStatus.CREATED)
     public FullSubmissionResponse createSubmission(@PathVariable Long vacancyId,
-                                                                      @Valid @RequestBody SubmissionRequest submissionRequest){
-        return vacancyService.createSubmission(vacancyId, submissionRequest);
+                                                   @Valid @RequestBody SubmissionRequest submissionRequest,
+                                                   @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                                   String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyKey, "POST /vacancies/" + vacancyId + "/submissions",
+                submissionRequest, FullSubmissionResponse.class,
+                () -> vacancyService.createSubmission(vacancyId, submissionRequest));
     }
 
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Get talent's submissions",
-            description = "As a talent, I want to view my submissions.")
+            description = "As a talent, I want to view my submissions. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all submissions.")
     @ApiResponses({
             @ApiResponse(responseCode = "200",
                     content = { @Content(schema = @Schema(implementation = TalentSubmission.class),
@@ -259,14 +339,16 @@ public class VacancyController {
             @Min(value = 0, message = "Page should be greater or equals 0")
             @RequestParam(defaultValue = "0") int page,
             @Positive(message = "Size should be positive")
-            @RequestParam(defaultValue = "9") int size){
-        return vacancyService.getTalentSubmissions(page, size);
+            @RequestParam(defaultValue = "9") int size,
+            @RequestParam(defaultValue = "false") boolean slice){
+        return vacancyService.getTalentSubmissions(page, size, !slice);
     }
 
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "As sponsor I want to send feedback to submission",
-            description = "As a talent, I want to view my submissions.")
+            description = "As a talent, I want to view my submissions. " +
+                    "Pass slice=true to get has_next instead of total_pages without counting all submissions.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successfully sent"),
             @ApiResponse(responseCode = "400", description = "Invalid query params",
@@ -54,4 +54,8 @@ public class Vacancy {
 
     @OneToMany(mappedBy = "vacancy")
     private List<Submission> submissions;
+
+    @Version
+    @Column(nullable = false, name = "version")
+    private long version;
 }
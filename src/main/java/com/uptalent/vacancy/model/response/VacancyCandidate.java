@@ -0,0 +1,22 @@
+package com.uptalent.vacancy.model.response;
+
+import com.uptalent.skill.model.SkillTalentInfo;
+import lombok.*;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+public class VacancyCandidate {
+    private Long id;
+    private String lastname;
+    private String firstname;
+    private String avatar;
+    private Set<SkillTalentInfo> skills;
+    private int matchedSkills;
+    private long matchedSkillsKudos;
+}
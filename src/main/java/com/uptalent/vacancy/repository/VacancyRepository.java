@@ -2,26 +2,60 @@ package com.uptalent.vacancy.repository;
 
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.vacancy.model.entity.Vacancy;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface VacancyRepository extends JpaRepository<Vacancy, Long> {
     @Query("SELECT v " +
             "FROM vacancy v " +
             "WHERE v.status = :contentStatus AND v.sponsor.id = :sponsorId")
-    Page<Vacancy> findVacanciesBySponsorId(Long sponsorId,
-                                                    ContentStatus contentStatus,
-                                                    Pageable pageable);
+    Slice<Vacancy> findVacanciesBySponsorId(Long sponsorId,
+                                            ContentStatus contentStatus,
+                                            Pageable pageable);
+
+    long countBySponsorIdAndStatus(Long sponsorId, ContentStatus status);
+
     @Query("SELECT v " +
             "FROM vacancy v " +
             "WHERE v.status = :contentStatus AND " +
             "coalesce((SELECT count(sk) FROM v.skills sk WHERE sk.name IN :skills GROUP BY v.id), 0) = :skillsSize")
-    Page<Vacancy> findVacancies(ContentStatus contentStatus,
-                                           Pageable pageable, String [] skills, int skillsSize);
+    Slice<Vacancy> findVacancies(ContentStatus contentStatus,
+                                 Pageable pageable, String [] skills, int skillsSize);
+
+    @Query("SELECT count(v) " +
+            "FROM vacancy v " +
+            "WHERE v.status = :contentStatus AND " +
+            "coalesce((SELECT count(sk) FROM v.skills sk WHERE sk.name IN :skills GROUP BY v.id), 0) = :skillsSize")
+    long countVacancies(ContentStatus contentStatus, String [] skills, int skillsSize);
+
+    @Query("SELECT v " +
+            "FROM vacancy v " +
+            "WHERE v.status = :contentStatus AND v.id IN :ids")
+    Slice<Vacancy> findVacanciesByIdIn(ContentStatus contentStatus, Collection<Long> ids, Pageable pageable);
+
+    long countByStatusAndIdIn(ContentStatus status, Collection<Long> ids);
+
+    @Query("SELECT v.version, v.status, s.id, s.fullname, s.avatar " +
+            "FROM vacancy v JOIN v.sponsor s WHERE v.id = :vacancyId")
+    List<Object[]> findVersionAndAuthorById(Long vacancyId);
+
+    @Query("SELECT v.id, s.id FROM vacancy v JOIN v.skills s")
+    List<Object[]> findAllVacancySkillPairs();
+
+    @Query("SELECT v.id, v.skillsMatchedPercent, v.status FROM vacancy v")
+    List<Object[]> findAllVacancyMatchRules();
+
+    @Query("SELECT DISTINCT v " +
+            "FROM vacancy v LEFT JOIN FETCH v.skills " +
+            "WHERE v.status = :contentStatus AND v.id IN :ids")
+    List<Vacancy> findAllWithSkillsByIdIn(ContentStatus contentStatus, Collection<Long> ids);
 
     @Query("SELECT CASE WHEN count(v) > 0 THEN TRUE ELSE FALSE END from vacancy v join v.submissions s " +
             "where v.id = :vacancyId and s.id = :submissionId")
@@ -4,13 +4,22 @@ import com.uptalent.answer.exception.FeedbackNotFoundException;
 import com.uptalent.answer.model.entity.Answer;
 import com.uptalent.answer.model.request.FeedbackContent;
 import com.uptalent.answer.repository.FeedbackRepository;
+import com.uptalent.cache.FeedCache;
+import com.uptalent.cache.FeedCacheKey;
 import com.uptalent.credentials.model.enums.Role;
+import com.uptalent.email.EmailSender;
 import com.uptalent.mapper.FeedbackMapper;
 import com.uptalent.mapper.VacancyMapper;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.outbox.event.SubmissionSent;
 import com.uptalent.pagination.PageWithMetadata;
 import com.uptalent.proof.exception.WrongSortOrderException;
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.skill.exception.SkillNotFoundException;
+import com.uptalent.skill.index.CandidateIndex.Candidate;
+import com.uptalent.skill.index.SkillIndexService;
+import com.uptalent.skill.index.VacancyMatchIndex;
+import com.uptalent.skill.index.VacancyMatchIndex.VacancyMatch;
 import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.skill.repository.SkillRepository;
 import com.uptalent.sponsor.exception.SponsorNotFoundException;
@@ -25,7 +34,9 @@ import com.uptalent.util.service.AccessVerifyService;
 import com.uptalent.vacancy.exception.NoSuchMatchedSkillsException;
 import com.uptalent.vacancy.exception.VacancyNotFoundException;
 import com.uptalent.vacancy.model.entity.Vacancy;
+import com.uptalent.vacancy.model.response.RecommendedVacancy;
 import com.uptalent.vacancy.model.response.TalentVacancyDetailInfo;
+import com.uptalent.vacancy.model.response.VacancyCandidate;
 import com.uptalent.vacancy.model.response.VacancyGeneralInfo;
 import com.uptalent.vacancy.repository.VacancyRepository;
 import com.uptalent.vacancy.model.response.VacancyDetailInfo;
@@ -41,8 +52,10 @@ import com.uptalent.vacancy.submission.model.response.TalentSubmission;
 import com.uptalent.vacancy.submission.repository.SubmissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -54,11 +67,14 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.uptalent.credentials.model.enums.Role.SPONSOR;
 import static com.uptalent.credentials.model.enums.Role.TALENT;
 import static com.uptalent.proof.model.enums.ContentStatus.*;
 import static com.uptalent.util.RegexValidation.*;
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
 import static com.uptalent.vacancy.submission.model.enums.SubmissionStatus.SENT;
 
 @Service
@@ -75,6 +91,10 @@ public class VacancyService {
     private final SubmissionRepository submissionRepository;
     private final FeedbackRepository feedbackRepository;
     private final FeedbackMapper feedbackMapper;
+    private final SkillIndexService skillIndexService;
+    private final FeedCache feedCache;
+    private final OutboxPublisher outboxPublisher;
+    private final EmailSender emailSender;
 
     @Transactional
     public URI createVacancy(VacancyModify vacancyModify) {
@@ -94,6 +114,9 @@ public class VacancyService {
         }
 
         vacancy = vacancyRepository.save(vacancy);
+        indexSkills(vacancy);
+        if (vacancy.getStatus().equals(PUBLISHED))
+            feedCache.evictVacancyFeed();
 
         return ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -130,14 +153,33 @@ public class VacancyService {
         }
     }
 
+    /**
+     * Only the public view of a published vacancy gets an ETag, views of talents and of the owner
+     * also depend on submissions and feedbacks.
+     */
+    public Optional<String> getVacancyETag(Long vacancyId) {
+        if (accessVerifyService.hasRole(TALENT))
+            return Optional.empty();
+
+        return vacancyRepository.findVersionAndAuthorById(vacancyId).stream()
+                .findFirst()
+                .filter(tuple -> PUBLISHED.equals(tuple[1])
+                        && !Objects.equals(tuple[2], accessVerifyService.getPrincipalId()))
+                .map(tuple -> tuple[0] + "-" + Integer.toHexString(Objects.hash(tuple[3], tuple[4])));
+    }
+
     @Transactional
     public VacancyDetailInfo updateVacancy(Long id, VacancyModify vacancyModify) {
         Vacancy vacancy = getVacancyById(id);
         verifySponsorContainVacancy(accessVerifyService.getPrincipalId(), vacancy);
 
-        Consumer<Vacancy> modifyingStrategy = selectVacancyModifyStrategy(vacancyModify, vacancy.getStatus());
+        ContentStatus previousStatus = vacancy.getStatus();
+        Consumer<Vacancy> modifyingStrategy = selectVacancyModifyStrategy(vacancyModify, previousStatus);
 
         modifyingStrategy.accept(vacancy);
+        indexSkills(vacancy);
+        if (previousStatus.equals(PUBLISHED) || vacancy.getStatus().equals(PUBLISHED))
+            feedCache.evictVacancyFeed();
         return vacancyMapper.toVacancyDetailInfo(vacancy);
     }
 
@@ -169,7 +211,8 @@ public class VacancyService {
     }
 
     public PageWithMetadata<VacancyDetailInfo> getSponsorVacancies(int page, int size, String sort,
-                                                                       Long sponsorId, String status) {
+                                                                   Long sponsorId, String status,
+                                                                   boolean withTotal) {
 
         ContentStatus contentStatus = ContentStatus.valueOf(status.toUpperCase());
         Sort sortOrder = getSortByString(sort, contentStatus);
@@ -179,11 +222,13 @@ public class VacancyService {
             accessVerifyService.tryGetAccess(sponsorId, SPONSOR,
                     "You do not have permission to get list of vacancies");
 
-        Page<Vacancy> vacanciesPage = vacancyRepository.findVacanciesBySponsorId(sponsorId, contentStatus, pageRequest);
-        List<VacancyDetailInfo> vacancyDetailInfos = vacanciesPage.getContent().stream()
+        Slice<Vacancy> vacanciesSlice = vacancyRepository.findVacanciesBySponsorId(sponsorId, contentStatus,
+                pageRequest);
+        List<VacancyDetailInfo> vacancyDetailInfos = vacanciesSlice.getContent().stream()
                 .map(vacancyMapper::toVacancyDetailInfo).toList();
 
-        return new PageWithMetadata<>(vacancyDetailInfos, vacanciesPage.getTotalPages());
+        return PageWithMetadata.of(vacancyDetailInfos, vacanciesSlice, withTotal,
+                () -> vacancyRepository.countBySponsorIdAndStatus(sponsorId, contentStatus));
     }
 
     private void publishVacancy(VacancyModify vacancyModify, Vacancy vacancy) {
@@ -195,14 +240,87 @@ public class VacancyService {
         vacancy.setStatus(PUBLISHED);
     }
 
-    public PageWithMetadata<VacancyGeneralInfo> getVacancies(int page, int size, String sort, String [] skills) {
+    public PageWithMetadata<VacancyGeneralInfo> getVacancies(int page, int size, String sort, String [] skills,
+                                                             boolean withTotal) {
+        if (!withTotal)
+            return loadVacancies(page, size, sort, skills, false);
+        return feedCache.getVacancyFeed(FeedCacheKey.of(page, size, sort, skills),
+                () -> loadVacancies(page, size, sort, skills, true));
+    }
+
+    private PageWithMetadata<VacancyGeneralInfo> loadVacancies(int page, int size, String sort, String [] skills,
+                                                               boolean withTotal) {
         Sort sortOrder = getSortByString(sort, PUBLISHED);
         PageRequest pageRequest = PageRequest.of(page, size, sortOrder);
         int skillsSize = (skills == null) ? 0 : skills.length;
-        Page<Vacancy> vacanciesPage = vacancyRepository.findVacancies(PUBLISHED, pageRequest, skills, skillsSize);
-        List<Vacancy> retrievedVacancies = vacanciesPage.getContent();
+        Optional<List<Long>> indexedIds = (skillsSize == 0) ? Optional.empty()
+                : skillIndexService.findVacancyIds(skills);
+        Slice<Vacancy> vacanciesSlice = indexedIds
+                .map(ids -> ids.isEmpty()
+                        ? new SliceImpl<Vacancy>(List.of(), pageRequest, false)
+                        : vacancyRepository.findVacanciesByIdIn(PUBLISHED, ids, pageRequest))
+                .orElseGet(() -> vacancyRepository.findVacancies(PUBLISHED, pageRequest, skills, skillsSize));
+        List<Vacancy> retrievedVacancies = vacanciesSlice.getContent();
         List<VacancyGeneralInfo> proofGeneralInfos = vacancyMapper.toVacancyGeneralInfos(retrievedVacancies);
-        return new PageWithMetadata<>(proofGeneralInfos, vacanciesPage.getTotalPages());
+        return PageWithMetadata.of(proofGeneralInfos, vacanciesSlice, withTotal, () -> indexedIds
+                .map(ids -> ids.isEmpty() ? 0 : vacancyRepository.countByStatusAndIdIn(PUBLISHED, ids))
+                .orElseGet(() -> vacancyRepository.countVacancies(PUBLISHED, skills, skillsSize)));
+    }
+
+    /**
+     * Recommends published vacancies which the talent can apply to, ranked by the share of vacancy skills
+     * the talent has. Only the requested page is loaded from the database.
+     */
+    public PageWithMetadata<RecommendedVacancy> getRecommendedVacancies(int page, int size) {
+        Long talentId = accessVerifyService.getPrincipalId();
+        Set<Long> submittedVacancyIds = submissionRepository.findVacancyIdsByTalentId(talentId);
+        List<VacancyMatch> matches = skillIndexService.findMatchedVacancies(talentId).stream()
+                .filter(match -> !submittedVacancyIds.contains(match.vacancyId()))
+                .toList();
+        int totalPages = (matches.size() + size - 1) / size;
+        if ((long) page * size >= matches.size())
+            return new PageWithMetadata<>(List.of(), totalPages);
+
+        List<VacancyMatch> pageMatches = matches.subList(page * size, Math.min((page + 1) * size, matches.size()));
+        Map<Long, Vacancy> vacancies = vacancyRepository.findAllWithSkillsByIdIn(PUBLISHED, pageMatches.stream()
+                        .map(VacancyMatch::vacancyId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Vacancy::getId, Function.identity()));
+        List<RecommendedVacancy> recommendedVacancies = pageMatches.stream()
+                .filter(match -> vacancies.containsKey(match.vacancyId()))
+                .map(match -> vacancyMapper.toRecommendedVacancy(vacancies.get(match.vacancyId()),
+                        match.matchedSkills()))
+                .toList();
+        return new PageWithMetadata<>(recommendedVacancies, totalPages);
+    }
+
+    /**
+     * Ranks talents having any of the vacancy skills by matched skills boosted by their kudos in these skills.
+     * Candidates are merged from the in-memory skill index, only talents of the requested page are loaded.
+     * Every page merges the candidates of the pages before it, so the controller allows only the first 100 pages.
+     */
+    public PageWithMetadata<VacancyCandidate> getVacancyCandidates(Long vacancyId, int page, int size) {
+        Vacancy vacancy = getVacancyById(vacancyId);
+        verifySponsorContainVacancy(accessVerifyService.getPrincipalId(), vacancy);
+
+        int limit = (page + 1) * size + 1;
+        List<Candidate> candidates = skillIndexService.findTopCandidates(vacancy.getSkills().stream()
+                .map(Skill::getId)
+                .toList(), limit);
+        if ((long) page * size >= candidates.size())
+            return new PageWithMetadata<>(List.of(), null, false);
+
+        List<Candidate> pageCandidates = candidates.subList(page * size, Math.min((page + 1) * size,
+                candidates.size()));
+        Map<Long, Talent> talents = talentRepository.findAllWithSkillsByIdIn(pageCandidates.stream()
+                        .map(Candidate::talentId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Talent::getId, Function.identity()));
+        List<VacancyCandidate> vacancyCandidates = pageCandidates.stream()
+                .filter(candidate -> talents.containsKey(candidate.talentId()))
+                .map(candidate -> vacancyMapper.toVacancyCandidate(talents.get(candidate.talentId()), candidate))
+                .toList();
+        return new PageWithMetadata<>(vacancyCandidates, null, candidates.size() > (page + 1) * size);
     }
 
     @Transactional
@@ -210,6 +328,8 @@ public class VacancyService {
         Vacancy vacancyToDelete = getVacancyById(vacancyId);
         verifySponsorContainVacancy(accessVerifyService.getPrincipalId(), vacancyToDelete);
         vacancyRepository.delete(vacancyToDelete);
+        skillIndexService.removeVacancy(vacancyId);
+        feedCache.evictVacancyFeed();
     }
 
     @Transactional
@@ -229,24 +349,42 @@ public class VacancyService {
         submission.setVacancy(vacancy);
         submission.setSent(LocalDateTime.now());
         submission.setStatus(SENT);
+        submission = submissionRepository.save(submission);
+
+        outboxPublisher.publish(new SubmissionSent(submission.getId(), vacancyId, talent.getId(),
+                submission.getSent()));
+        return vacancyMapper.toFullSubmissionResponse(submission);
+    }
 
-        return vacancyMapper.toFullSubmissionResponse(submissionRepository.save(submission));
+    /**
+     * Notifies the sponsor of the vacancy about a submission relayed from the outbox. The mail is sent
+     * after the relay commits, so a relay which is retried does not send it twice.
+     */
+    @EventListener
+    public void notifySponsor(SubmissionSent event) {
+        submissionRepository.findById(event.submissionId()).ifPresent(submission -> {
+            Sponsor sponsor = submission.getVacancy().getSponsor();
+            String email = sponsor.getCredentials().getEmail();
+            String fullname = sponsor.getFullname();
+            String vacancyTitle = submission.getVacancy().getTitle();
+            String talentName = submission.getTalent().getFirstname() + " " + submission.getTalent().getLastname();
+            runAfterCommit(() -> emailSender.sendSubmissionMail(email, fullname, vacancyTitle, talentName,
+                    event.sent()));
+        });
     }
 
-    public PageWithMetadata<TalentSubmission> getTalentSubmissions(int page, int size) {
+    public PageWithMetadata<TalentSubmission> getTalentSubmissions(int page, int size, boolean withTotal) {
         PageRequest pageRequest = PageRequest.of(page, size);
         Long talentId = accessVerifyService.getPrincipalId();
-        Page<Submission> submissionsPage = submissionRepository.findSubmissionsByTalentId(pageRequest, talentId);
+        Slice<Submission> submissionsSlice = submissionRepository.findSubmissionsByTalentId(pageRequest, talentId);
 
-        List<TalentSubmission> talentSubmissions = submissionsPage
+        List<TalentSubmission> talentSubmissions = submissionsSlice
                 .stream()
-                .map(submission -> TalentSubmission.builder()
-                        .vacancySubmission(vacancyMapper.toVacancySubmission(submission.getVacancy()))
-                        .submissionResponse(vacancyMapper.toSubmissionResponse(submission))
-                        .feedbackResponse(vacancyMapper.toFeedbackResponse(submission.getAnswer()))
-                        .build()).toList();
+                .map(this::toTalentSubmission)
+                .toList();
 
-        return new PageWithMetadata<>(talentSubmissions, submissionsPage.getTotalPages());
+        return PageWithMetadata.of(talentSubmissions, submissionsSlice, withTotal,
+                () -> submissionRepository.countByTalentId(talentId));
     }
 
     @Transactional
@@ -340,6 +478,20 @@ public class VacancyService {
         vacancy.setSkills(skills);
     }
 
+    private void indexSkills(Vacancy vacancy) {
+        skillIndexService.indexVacancy(vacancy.getId(),
+                vacancy.getSkills().stream().map(Skill::getId).collect(Collectors.toSet()),
+                vacancy.getSkillsMatchedPercent(), vacancy.getStatus().equals(PUBLISHED));
+    }
+
+    private TalentSubmission toTalentSubmission(Submission submission) {
+        return TalentSubmission.builder()
+                .vacancySubmission(vacancyMapper.toVacancySubmission(submission.getVacancy()))
+                .submissionResponse(vacancyMapper.toSubmissionResponse(submission))
+                .feedbackResponse(vacancyMapper.toFeedbackResponse(submission.getAnswer()))
+                .build();
+    }
+
     private Vacancy getVacancyById(Long id) {
         return vacancyRepository.findById(id)
                 .orElseThrow(() -> new VacancyNotFoundException("Vacancy was not found"));
@@ -367,9 +519,14 @@ public class VacancyService {
     }
 
     private boolean hasMatchedSkills(Talent talent, Vacancy vacancy){
-        Set<Skill> talentSkills = talent.getSkills();
-        int requiredSkillsNumber = (int) (((double) vacancy.getSkillsMatchedPercent()/100) * vacancy.getSkills().size());
-        return talentSkills.size() >= requiredSkillsNumber;
+        Set<Long> vacancySkillIds = vacancy.getSkills().stream()
+                .map(Skill::getId)
+                .collect(Collectors.toSet());
+        long matchedSkills = talent.getSkills().stream()
+                .filter(skill -> vacancySkillIds.contains(skill.getId()))
+                .count();
+        return matchedSkills >= VacancyMatchIndex.getRequiredSkills(vacancy.getSkillsMatchedPercent(),
+                vacancySkillIds.size());
     }
 
     private void verifyMatchedSkills(Talent talent, Vacancy vacancy) {
@@ -1,14 +1,20 @@
 package com.uptalent.vacancy.submission.repository;
 
 import com.uptalent.vacancy.submission.model.entity.Submission;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface SubmissionRepository extends JpaRepository<Submission, Long> {
 
-    Page<Submission> findSubmissionsByTalentId(Pageable pageable, Long talentId);
+    Slice<Submission> findSubmissionsByTalentId(Pageable pageable, Long talentId);
+    long countByTalentId(Long talentId);
     Optional<Submission> findSubmissionByTalentIdAndVacancyId(Long talentId, Long vacancyId);
+
+    @Query("select s.vacancy.id from submission s where s.talent.id = :talentId")
+    Set<Long> findVacancyIdsByTalentId(Long talentId);
 }
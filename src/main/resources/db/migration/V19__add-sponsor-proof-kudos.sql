@@ -0,0 +1,13 @@
+CREATE TABLE sponsor_proof_kudos
+(
+    sponsor_id BIGINT NOT NULL REFERENCES sponsor (id) ON DELETE CASCADE,
+    proof_id   BIGINT NOT NULL REFERENCES proof (id) ON DELETE CASCADE,
+    total      BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (sponsor_id, proof_id)
+);
+
+INSERT INTO sponsor_proof_kudos (sponsor_id, proof_id, total)
+SELECT sponsor_id, proof_id, sum(kudos)
+FROM kudos_history
+WHERE sponsor_id IS NOT NULL
+GROUP BY sponsor_id, proof_id;
@@ -0,0 +1,8 @@
+ALTER TABLE proof
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE talent
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE vacancy
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+ALTER SEQUENCE skill_kudos_history_id_seq INCREMENT BY 50;
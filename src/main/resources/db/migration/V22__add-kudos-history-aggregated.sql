@@ -0,0 +1,4 @@
+ALTER TABLE kudos_history
+    ADD COLUMN aggregated BOOLEAN NOT NULL DEFAULT TRUE;
+
+CREATE INDEX idx_kudos_history_not_aggregated ON kudos_history (id) WHERE NOT aggregated;
@@ -0,0 +1,11 @@
+CREATE TABLE idempotency_record (
+    principal_id bigint NOT NULL,
+    role varchar(20) NOT NULL,
+    idempotency_key varchar(100) NOT NULL,
+    request_hash varchar(32) NOT NULL,
+    response varchar(10000),
+    created timestamp(6) NOT NULL,
+    PRIMARY KEY (principal_id, role, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_record_created ON idempotency_record (created);
@@ -0,0 +1,133 @@
+-- kudos_history and skill_kudos_history become range partitioned by month of sent.
+-- Keys of a partitioned table have to contain the partition key, so skill_kudos_history
+-- gets a copy of sent and references kudos_history by (id, sent).
+
+ALTER TABLE skill_kudos_history RENAME TO skill_kudos_history_old;
+ALTER TABLE skill_kudos_history_old RENAME CONSTRAINT skill_kudos_history_pkey TO skill_kudos_history_old_pkey;
+ALTER TABLE kudos_history RENAME TO kudos_history_old;
+ALTER TABLE kudos_history_old RENAME CONSTRAINT kudos_history_pkey TO kudos_history_old_pkey;
+DROP INDEX idx_kudos_history_not_aggregated;
+
+ALTER SEQUENCE kudos_history_id_seq OWNED BY NONE;
+ALTER SEQUENCE kudos_history_id_seq AS bigint;
+ALTER SEQUENCE skill_kudos_history_id_seq OWNED BY NONE;
+
+CREATE TABLE kudos_history
+(
+    id         BIGINT       NOT NULL DEFAULT nextval('kudos_history_id_seq'),
+    kudos      BIGINT       NOT NULL,
+    sent       TIMESTAMP(6) NOT NULL,
+    sponsor_id BIGINT       NOT NULL REFERENCES sponsor (id) ON DELETE CASCADE,
+    proof_id   BIGINT       NOT NULL REFERENCES proof (id) ON DELETE CASCADE,
+    aggregated BOOLEAN      NOT NULL DEFAULT TRUE,
+    PRIMARY KEY (id, sent)
+) PARTITION BY RANGE (sent);
+
+CREATE TABLE skill_kudos_history
+(
+    id               BIGINT       NOT NULL DEFAULT nextval('skill_kudos_history_id_seq'),
+    skill_id         BIGINT REFERENCES skill (id) ON DELETE CASCADE ON UPDATE CASCADE,
+    kudos_history_id BIGINT,
+    sent             TIMESTAMP(6) NOT NULL,
+    kudos            BIGINT,
+    PRIMARY KEY (id, sent),
+    FOREIGN KEY (kudos_history_id, sent) REFERENCES kudos_history (id, sent) ON DELETE CASCADE
+) PARTITION BY RANGE (sent);
+
+-- Indexes of the parent tables are created on every existing and future partition.
+CREATE INDEX idx_kudos_history_sponsor_proof_sent ON kudos_history (sponsor_id, proof_id, sent DESC);
+CREATE INDEX idx_kudos_history_proof ON kudos_history (proof_id);
+CREATE INDEX idx_kudos_history_not_aggregated ON kudos_history (id) WHERE NOT aggregated;
+CREATE INDEX idx_skill_kudos_history_kudos_history ON skill_kudos_history (kudos_history_id, sent);
+
+CREATE FUNCTION create_kudos_history_partitions(from_month DATE, to_month DATE) RETURNS VOID AS
+$$
+DECLARE
+    partition_month DATE := date_trunc('month', from_month);
+    suffix          TEXT;
+BEGIN
+    WHILE partition_month <= to_month
+        LOOP
+            suffix := to_char(partition_month, 'YYYY_MM');
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF kudos_history FOR VALUES FROM (%L) TO (%L)',
+                           'kudos_history_' || suffix, partition_month, partition_month + INTERVAL '1 month');
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF skill_kudos_history FOR VALUES FROM (%L) TO (%L)',
+                           'skill_kudos_history_' || suffix, partition_month, partition_month + INTERVAL '1 month');
+            partition_month := partition_month + INTERVAL '1 month';
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_kudos_history_partitions(
+               coalesce((SELECT min(sent) FROM kudos_history_old), now())::DATE,
+               greatest((SELECT max(sent) FROM kudos_history_old), now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO kudos_history (id, kudos, sent, sponsor_id, proof_id, aggregated)
+SELECT id, kudos, sent, sponsor_id, proof_id, aggregated
+FROM kudos_history_old;
+
+INSERT INTO skill_kudos_history (id, skill_id, kudos_history_id, sent, kudos)
+SELECT skh.id, skh.skill_id, skh.kudos_history_id, kh.sent, skh.kudos
+FROM skill_kudos_history_old skh
+         JOIN kudos_history_old kh ON kh.id = skh.kudos_history_id;
+
+ALTER SEQUENCE kudos_history_id_seq OWNED BY kudos_history.id;
+ALTER SEQUENCE skill_kudos_history_id_seq OWNED BY skill_kudos_history.id;
+
+DROP TABLE skill_kudos_history_old;
+DROP TABLE kudos_history_old;
+
+-- Monthly sums per sponsor, proof and skill of partitions which were rolled up.
+CREATE TABLE kudos_history_rollup
+(
+    sponsor_id BIGINT NOT NULL REFERENCES sponsor (id) ON DELETE CASCADE,
+    proof_id   BIGINT NOT NULL REFERENCES proof (id) ON DELETE CASCADE,
+    skill_id   BIGINT NOT NULL REFERENCES skill (id) ON DELETE CASCADE,
+    sent_month DATE   NOT NULL,
+    kudos      BIGINT NOT NULL,
+    PRIMARY KEY (sponsor_id, proof_id, skill_id, sent_month)
+);
+
+-- Rolls up and drops partitions of months before before_month. Partitions with history which the
+-- write-behind buffer has not flushed yet are kept until the next run.
+CREATE FUNCTION roll_up_kudos_history(before_month DATE) RETURNS INTEGER AS
+$$
+DECLARE
+    history_partition RECORD;
+    not_aggregated    BOOLEAN;
+    rolled_up         INTEGER := 0;
+BEGIN
+    FOR history_partition IN
+        SELECT c.relname                               AS name,
+               'skill_' || c.relname                   AS skill_name,
+               to_date(right(c.relname, 7), 'YYYY_MM') AS sent_month
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'kudos_history'::REGCLASS
+          AND c.relname ~ '^kudos_history_\d{4}_\d{2}$'
+        ORDER BY c.relname
+        LOOP
+            CONTINUE WHEN history_partition.sent_month >= date_trunc('month', before_month);
+
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE NOT aggregated)', history_partition.name)
+                INTO not_aggregated;
+            CONTINUE WHEN not_aggregated;
+
+            EXECUTE format('INSERT INTO kudos_history_rollup (sponsor_id, proof_id, skill_id, sent_month, kudos) ' ||
+                           'SELECT kh.sponsor_id, kh.proof_id, skh.skill_id, %L, coalesce(sum(skh.kudos), 0) ' ||
+                           'FROM %I kh JOIN %I skh ON skh.kudos_history_id = kh.id AND skh.sent = kh.sent ' ||
+                           'WHERE skh.skill_id IS NOT NULL ' ||
+                           'GROUP BY kh.sponsor_id, kh.proof_id, skh.skill_id ' ||
+                           'ON CONFLICT (sponsor_id, proof_id, skill_id, sent_month) ' ||
+                           'DO UPDATE SET kudos = kudos_history_rollup.kudos + excluded.kudos',
+                           history_partition.sent_month, history_partition.name, history_partition.skill_name);
+
+            EXECUTE format('ALTER TABLE skill_kudos_history DETACH PARTITION %I', history_partition.skill_name);
+            EXECUTE format('DROP TABLE %I', history_partition.skill_name);
+            EXECUTE format('ALTER TABLE kudos_history DETACH PARTITION %I', history_partition.name);
+            EXECUTE format('DROP TABLE %I', history_partition.name);
+            rolled_up := rolled_up + 1;
+        END LOOP;
+    RETURN rolled_up;
+END;
+$$ LANGUAGE plpgsql;
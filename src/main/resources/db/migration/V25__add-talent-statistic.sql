@@ -0,0 +1,38 @@
+CREATE TABLE talent_statistic
+(
+    talent_id                BIGINT PRIMARY KEY REFERENCES talent (id) ON DELETE CASCADE,
+    total_kudos              BIGINT NOT NULL DEFAULT 0,
+    most_kudosed_proof_id    BIGINT REFERENCES proof (id) ON DELETE SET NULL,
+    most_kudosed_proof_kudos BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE talent_skill_statistic
+(
+    talent_id BIGINT      NOT NULL REFERENCES talent_statistic (talent_id) ON DELETE CASCADE,
+    skill_id  BIGINT      NOT NULL REFERENCES skill (id) ON DELETE CASCADE,
+    name      VARCHAR(30) NOT NULL,
+    kudos     BIGINT      NOT NULL,
+    proofs    INTEGER     NOT NULL,
+    PRIMARY KEY (talent_id, skill_id)
+);
+
+INSERT INTO talent_statistic (talent_id, total_kudos, most_kudosed_proof_id, most_kudosed_proof_kudos)
+SELECT t.id,
+       coalesce((SELECT sum(p.kudos) FROM proof p WHERE p.talent_id = t.id), 0),
+       top.id,
+       coalesce(top.kudos, 0)
+FROM talent t
+         LEFT JOIN LATERAL (SELECT p.id, p.kudos
+                            FROM proof p
+                            WHERE p.talent_id = t.id
+                              AND p.status = 'PUBLISHED'
+                            ORDER BY p.kudos DESC
+                            LIMIT 1) top ON TRUE;
+
+INSERT INTO talent_skill_statistic (talent_id, skill_id, name, kudos, proofs)
+SELECT p.talent_id, s.id, s.name, sum(sk.kudos), count(*)
+FROM skill_kudos sk
+         JOIN skill s ON s.id = sk.skill_id
+         JOIN proof p ON p.id = sk.proof_id
+WHERE p.talent_id IS NOT NULL
+GROUP BY p.talent_id, s.id, s.name;
@@ -0,0 +1,20 @@
+-- Top 10 sponsors of every talent, see SponsorRatingService.RATING_SIZE.
+CREATE TABLE talent_sponsor_rating
+(
+    talent_id   BIGINT NOT NULL REFERENCES talent (id) ON DELETE CASCADE,
+    sponsor_id  BIGINT NOT NULL REFERENCES sponsor (id) ON DELETE CASCADE,
+    total_kudos BIGINT NOT NULL,
+    PRIMARY KEY (talent_id, sponsor_id)
+);
+
+INSERT INTO talent_sponsor_rating (talent_id, sponsor_id, total_kudos)
+SELECT talent_id, sponsor_id, total_kudos
+FROM (SELECT p.talent_id,
+             spk.sponsor_id,
+             sum(spk.total)                                                             AS total_kudos,
+             row_number() OVER (PARTITION BY p.talent_id ORDER BY sum(spk.total) DESC) AS place
+      FROM sponsor_proof_kudos spk
+               JOIN proof p ON p.id = spk.proof_id
+      WHERE p.talent_id IS NOT NULL
+      GROUP BY p.talent_id, spk.sponsor_id) totals
+WHERE place <= 10;
@@ -0,0 +1,8 @@
+CREATE TABLE outbox_event
+(
+    id       BIGSERIAL PRIMARY KEY,
+    type     VARCHAR(30)    NOT NULL,
+    payload  VARCHAR(10000) NOT NULL,
+    created  TIMESTAMP(6)   NOT NULL,
+    attempts INTEGER        NOT NULL DEFAULT 0
+);
@@ -0,0 +1 @@
+CREATE INDEX idx_sponsor_proof_kudos_proof_total ON sponsor_proof_kudos (proof_id, total DESC, sponsor_id DESC);
@@ -0,0 +1,51 @@
+-- Sponsor balances move from sponsor.kudos to an append-only ledger with one snapshot per sponsor.
+CREATE TABLE kudos_ledger
+(
+    id               BIGSERIAL PRIMARY KEY,
+    sponsor_id       BIGINT       NOT NULL REFERENCES sponsor (id) ON DELETE CASCADE,
+    type             VARCHAR(20)  NOT NULL,
+    delta            BIGINT       NOT NULL,
+    kudos_history_id BIGINT,
+    created          TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_kudos_ledger_sponsor_id ON kudos_ledger (sponsor_id, id);
+CREATE INDEX idx_kudos_ledger_kudos_history_id ON kudos_ledger (kudos_history_id);
+
+CREATE TABLE kudos_ledger_snapshot
+(
+    sponsor_id      BIGINT PRIMARY KEY REFERENCES sponsor (id) ON DELETE CASCADE,
+    ledger_entry_id BIGINT       NOT NULL,
+    balance         BIGINT       NOT NULL,
+    created         TIMESTAMP(6) NOT NULL
+);
+
+-- The initial credit is the current balance plus all kudos still in history, which are debited back entry by entry
+-- and as one entry of the rolled up months, so reconciliation with kudos_history holds from the start.
+INSERT INTO kudos_ledger (sponsor_id, type, delta, created)
+SELECT s.id, 'INITIAL', coalesce(s.kudos, 0) + coalesce(kh.kudos, 0) + coalesce(r.kudos, 0), now()
+FROM sponsor s
+         LEFT JOIN (SELECT sponsor_id, sum(kudos) AS kudos FROM kudos_history GROUP BY sponsor_id) kh
+                   ON kh.sponsor_id = s.id
+         LEFT JOIN (SELECT sponsor_id, sum(kudos) AS kudos FROM kudos_history_rollup GROUP BY sponsor_id) r
+                   ON r.sponsor_id = s.id
+ORDER BY s.id;
+
+INSERT INTO kudos_ledger (sponsor_id, type, delta, kudos_history_id, created)
+SELECT sponsor_id, 'POSTING', -kudos, id, sent
+FROM kudos_history
+ORDER BY id;
+
+INSERT INTO kudos_ledger (sponsor_id, type, delta, created)
+SELECT sponsor_id, 'POSTING', -sum(kudos), max(sent_month)
+FROM kudos_history_rollup
+GROUP BY sponsor_id
+ORDER BY sponsor_id;
+
+INSERT INTO kudos_ledger_snapshot (sponsor_id, ledger_entry_id, balance, created)
+SELECT sponsor_id, max(id), sum(delta), now()
+FROM kudos_ledger
+GROUP BY sponsor_id;
+
+ALTER TABLE sponsor
+    DROP COLUMN kudos;
@@ -0,0 +1 @@
+ALTER TABLE idempotency_record ALTER COLUMN response TYPE text;
@@ -0,0 +1,105 @@
+package com.uptalent.cache;
+
+import com.uptalent.config.CacheConfig;
+import com.uptalent.pagination.PageWithMetadata;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCacheTest {
+    private FeedCache feedCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        CacheConfig cacheConfig = new CacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "MAX_ITEMS", 5L);
+        ReflectionTestUtils.setField(cacheConfig, "TIME_TO_LIVE", Duration.ofMinutes(5));
+        CacheManager cacheManager = cacheConfig.cacheManager();
+
+        feedCache = new FeedCache(cacheManager);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Load feed page once for the same key")
+    public void loadFeedPageOnceForSameKey() {
+        feedCache.getProofFeed(FeedCacheKey.of(0, 9, "desc", new String[]{"Java", "SQL"}), this::loadPage);
+        feedCache.getProofFeed(FeedCacheKey.of(0, 9, "desc", new String[]{"SQL", "Java"}), this::loadPage);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Load feed page again after eviction")
+    public void loadFeedPageAgainAfterEviction() {
+        feedCache.getVacancyFeed(FeedCacheKey.of(0, 9, "desc", null), this::loadPage);
+        feedCache.evictVacancyFeed();
+        feedCache.getVacancyFeed(FeedCacheKey.of(0, 9, "desc", null), this::loadPage);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Evict only proof feed pages which hold kudosed proof")
+    public void evictOnlyPagesHoldingKudosedProof() {
+        FeedCacheKey firstPage = FeedCacheKey.of(0, 1, "desc", null);
+        FeedCacheKey secondPage = FeedCacheKey.of(1, 1, "desc", null);
+        feedCache.getProofFeed(firstPage, () -> loadProofPage(1L));
+        feedCache.getProofFeed(secondPage, () -> loadProofPage(3L));
+
+        feedCache.evictProofs(List.of(3L));
+        feedCache.getProofFeed(firstPage, () -> loadProofPage(1L));
+        feedCache.getProofFeed(secondPage, () -> loadProofPage(3L));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Do not keep proof feed page loaded while feed was evicted")
+    public void doNotKeepPageLoadedDuringEviction() {
+        FeedCacheKey key = FeedCacheKey.of(0, 1, "desc", null);
+        feedCache.getProofFeed(key, () -> {
+            feedCache.evictProofs(List.of(1L));
+            return loadProofPage(1L);
+        });
+        feedCache.getProofFeed(key, () -> loadProofPage(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Do not keep vacancy feed page loaded while feed was evicted")
+    public void doNotKeepVacancyPageLoadedDuringEviction() {
+        FeedCacheKey key = FeedCacheKey.of(0, 9, "desc", null);
+        feedCache.getVacancyFeed(key, () -> {
+            feedCache.evictVacancyFeed();
+            return loadPage();
+        });
+        feedCache.getVacancyFeed(key, this::loadPage);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private PageWithMetadata<ProofGeneralInfo> loadProofPage(Long... proofIds) {
+        loads.incrementAndGet();
+        return new PageWithMetadata<>(Arrays.stream(proofIds)
+                .map(proofId -> ProofGeneralInfo.builder().id(proofId).build())
+                .toList(), 2);
+    }
+
+    private PageWithMetadata<String> loadPage() {
+        loads.incrementAndGet();
+        return new PageWithMetadata<>(List.of("first", "second"), 1);
+    }
+}
@@ -0,0 +1,190 @@
+package com.uptalent.idempotency;
+
+import com.uptalent.credentials.model.enums.Role;
+import com.uptalent.idempotency.exception.IdempotencyKeyConflictException;
+import com.uptalent.idempotency.repository.IdempotencyRecordRepository;
+import com.uptalent.proof.kudos.model.request.PostKudos;
+import com.uptalent.proof.kudos.model.request.PostKudosBatch;
+import com.uptalent.proof.kudos.model.request.PostKudosBatchItem;
+import com.uptalent.proof.kudos.model.request.PostKudosSkill;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatch;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatchItem;
+import com.uptalent.proof.kudos.model.response.UpdatedProofKudos;
+import com.uptalent.skill.model.SkillProofInfo;
+import com.uptalent.util.service.AccessVerifyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(IdempotencyStore.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class IdempotencyStoreTest {
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @SpyBean
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @MockBean
+    private AccessVerifyService accessVerifyService;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        given(accessVerifyService.getPrincipalId()).willReturn(1L);
+        given(accessVerifyService.getRole()).willReturn(Role.SPONSOR);
+    }
+
+    @Test
+    @DisplayName("Replay stored response of request with the same idempotency key")
+    public void replayStoredResponse() {
+        UpdatedProofKudos first = postKudos("replay-key", 5L, this::updatedProofKudos);
+        UpdatedProofKudos retry = postKudos("replay-key", 5L, this::updatedProofKudos);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(retry).usingRecursiveComparison().isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Reject idempotency key which was used for another request")
+    public void rejectKeyUsedForAnotherRequest() {
+        postKudos("reused-key", 5L, this::updatedProofKudos);
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> postKudos("reused-key", 6L, this::updatedProofKudos));
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Execute request again when the first attempt failed")
+    public void executeAgainWhenFirstAttemptFailed() {
+        assertThrows(IllegalStateException.class, () -> postKudos("failed-key", 5L, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("Failed");
+        }));
+
+        postKudos("failed-key", 5L, this::updatedProofKudos);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Execute concurrent requests with the same idempotency key once")
+    public void executeConcurrentRequestsOnce() throws Exception {
+        Thread firstThread = Thread.currentThread();
+        CountDownLatch retryLookedUp = new CountDownLatch(1);
+        CountDownLatch firstCommitted = new CountDownLatch(1);
+        Answer<?> realRepository = mockingDetails(idempotencyRecordRepository).getMockCreationSettings().getDefaultAnswer();
+        // the retry finds no key while the first request is executing and inserts it after the first commits
+        willAnswer(invocation -> {
+            Object record = realRepository.answer(invocation);
+            if (Thread.currentThread() != firstThread && retryLookedUp.getCount() > 0) {
+                retryLookedUp.countDown();
+                firstCommitted.await(10, TimeUnit.SECONDS);
+            }
+            return record;
+        }).given(idempotencyRecordRepository).findById(any());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Future<UpdatedProofKudos>> retry = new ArrayList<>();
+            UpdatedProofKudos first = postKudos("concurrent-key", 5L, () -> {
+                retry.add(executor.submit(() -> postKudos("concurrent-key", 5L, this::updatedProofKudos)));
+                awaitQuietly(retryLookedUp);
+                return updatedProofKudos();
+            });
+            firstCommitted.countDown();
+
+            assertThat(retry.get(0).get(10, TimeUnit.SECONDS)).usingRecursiveComparison().isEqualTo(first);
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Replay stored response of kudos batch of maximum size")
+    public void replayStoredResponseOfMaximumBatch() {
+        List<PostKudosBatchItem> items = LongStream.rangeClosed(1, 50)
+                .mapToObj(proofId -> new PostKudosBatchItem(proofId, LongStream.rangeClosed(1, 30)
+                        .mapToObj(skillId -> new PostKudosSkill(1L, skillId))
+                        .toList()))
+                .toList();
+        Supplier<PostedKudosBatch> action = () -> {
+            executions.incrementAndGet();
+            return new PostedKudosBatch(9_999_999_999L, items.stream()
+                    .map(item -> new PostedKudosBatchItem(item.getProofId(), true, null, 9_999_999_999L,
+                            9_999_999_999L, item.getPostKudosSkills().stream()
+                            .map(skill -> new SkillProofInfo(skill.getSkillId(), "S".repeat(30), 9_999_999_999L))
+                            .toList()))
+                    .toList());
+        };
+
+        PostedKudosBatch first = idempotencyStore.execute("batch-key", "POST /kudos/batch",
+                new PostKudosBatch(items), PostedKudosBatch.class, action);
+        PostedKudosBatch retry = idempotencyStore.execute("batch-key", "POST /kudos/batch",
+                new PostKudosBatch(items), PostedKudosBatch.class, action);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(retry).usingRecursiveComparison().isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Execute every request without idempotency key")
+    public void executeEveryRequestWithoutKey() {
+        postKudos(null, 5L, this::updatedProofKudos);
+        postKudos(null, 5L, this::updatedProofKudos);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private UpdatedProofKudos postKudos(String idempotencyKey, long kudos, Supplier<UpdatedProofKudos> action) {
+        PostKudos postKudos = new PostKudos(new ArrayList<>(List.of(new PostKudosSkill(kudos, 1L))));
+        return idempotencyStore.execute(idempotencyKey, "POST /proofs/1/kudos", postKudos,
+                UpdatedProofKudos.class, action);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private UpdatedProofKudos updatedProofKudos() {
+        executions.incrementAndGet();
+        return new UpdatedProofKudos(5L, 5L, 45L, List.of(new SkillProofInfo(1L, "Java", 5L)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.uptalent.leaderboard;
+
+import com.uptalent.leaderboard.TopKCounter.Count;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KudosLeaderboardTest {
+    private static final Long JAVA = 1L;
+    private static final Long SQL = 2L;
+
+    private final LocalDate today = LocalDate.now();
+    private KudosLeaderboard leaderboard;
+
+    @BeforeEach
+    public void setUp() {
+        leaderboard = new KudosLeaderboard(30);
+        leaderboard.rebuild(
+                List.of(new Object[]{10L, JAVA, 5L}, new Object[]{10L, SQL, 1L},
+                        new Object[]{11L, SQL, 4L}, new Object[]{11L, SQL, 3L},
+                        new Object[]{12L, JAVA, 2L}),
+                List.of(new Object[]{JAVA, today.minusDays(20), 5L}, new Object[]{SQL, today.minusDays(3), 4L},
+                        new Object[]{JAVA, today, 2L}));
+    }
+
+    @Test
+    @DisplayName("Order talents by kudos overall and by skill")
+    public void orderTalentsByKudos() {
+        assertThat(leaderboard.getTopTalents(2))
+                .containsExactly(new Count<>(11L, 7L), new Count<>(10L, 6L));
+        assertThat(leaderboard.getTopTalents(JAVA, 10))
+                .containsExactly(new Count<>(10L, 5L), new Count<>(12L, 2L));
+
+        leaderboard.add(12L, true, Map.of(JAVA, 4L, SQL, 2L), today);
+
+        assertThat(leaderboard.getTopTalents(1)).containsExactly(new Count<>(12L, 8L));
+        assertThat(leaderboard.getTopTalents(JAVA, 1)).containsExactly(new Count<>(12L, 6L));
+    }
+
+    @Test
+    @DisplayName("Count kudos of not verified talent only for trending skills")
+    public void countKudosOfNotVerifiedTalentOnlyForTrendingSkills() {
+        leaderboard.add(13L, false, Map.of(SQL, 50L), today);
+
+        assertThat(leaderboard.getTopTalents(10)).extracting(Count::key).doesNotContain(13L);
+        assertThat(leaderboard.getTopTalents(SQL, 10)).extracting(Count::key).doesNotContain(13L);
+        assertThat(leaderboard.getTrendingSkills(today, 1, 1)).containsExactly(new Count<>(SQL, 50L));
+    }
+
+    @Test
+    @DisplayName("Remove kudos of deleted proof and deleted talents")
+    public void removeKudosAndTalents() {
+        leaderboard.remove(10L, Map.of(JAVA, 5L));
+        leaderboard.removeTalents(List.of(11L));
+
+        assertThat(leaderboard.getTopTalents(10))
+                .containsExactly(new Count<>(12L, 2L), new Count<>(10L, 1L));
+        assertThat(leaderboard.getTopTalents(SQL, 10)).containsExactly(new Count<>(10L, 1L));
+        assertThat(leaderboard.getTopTalents(JAVA, 10)).containsExactly(new Count<>(12L, 2L));
+    }
+
+    @Test
+    @DisplayName("Keep kudos which are added while the leaderboards are rebuilt")
+    public void keepKudosAddedDuringRebuild() {
+        leaderboard.rebuild(() -> {
+            leaderboard.add(12L, true, Map.of(JAVA, 10L), today);
+            leaderboard.removeTalents(List.of(10L));
+            return List.<Object[]>of(new Object[]{10L, JAVA, 5L}, new Object[]{12L, JAVA, 2L});
+        }, () -> List.<Object[]>of(new Object[]{JAVA, today, 2L}));
+
+        assertThat(leaderboard.getTopTalents(JAVA, 10)).containsExactly(new Count<>(12L, 12L));
+        assertThat(leaderboard.getTrendingSkills(today, 1, 10)).containsExactly(new Count<>(JAVA, 12L));
+    }
+
+    @Test
+    @DisplayName("Sum trending skills only over requested days")
+    public void sumTrendingSkillsOverDays() {
+        leaderboard.add(10L, true, Map.of(SQL, 1L), today);
+        leaderboard.add(10L, true, Map.of(SQL, 100L), today.minusDays(40));
+
+        assertThat(leaderboard.getTrendingSkills(today, 7, 10))
+                .containsExactly(new Count<>(SQL, 5L), new Count<>(JAVA, 2L));
+        assertThat(leaderboard.getTrendingSkills(today, 30, 1))
+                .containsExactly(new Count<>(JAVA, 7L));
+    }
+}
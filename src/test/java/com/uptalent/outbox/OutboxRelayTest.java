@@ -0,0 +1,146 @@
+package com.uptalent.outbox;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.outbox.event.SubmissionSent;
+import com.uptalent.outbox.model.entity.OutboxEvent;
+import com.uptalent.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.uptalent.util.TransactionUtils.runAfterCommit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxPublisher.class, OutboxPayloadMapper.class, OutboxRelay.class, OutboxRelayTest.RecordingListener.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class OutboxRelayTest {
+    private static final Long FAILING_PROOF_ID = -1L;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private RecordingListener listener;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.max-attempts}")
+    private int maxAttempts;
+
+    private final LocalDateTime sent = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+    @BeforeEach
+    public void setUp() {
+        listener.events.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Relay committed events to listeners and delete them")
+    public void relayCommittedEvents() {
+        KudosPosted kudosPosted = kudosPosted(3L);
+        ProofPublished proofPublished = new ProofPublished(7L, 4L, sent);
+        SubmissionSent submissionSent = new SubmissionSent(8L, 9L, 4L, sent);
+        publish(kudosPosted, proofPublished, submissionSent);
+
+        outboxRelay.relay();
+
+        assertThat(listener.events).containsExactly(kudosPosted, proofPublished, submissionSent);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Write events only in the transaction of the change")
+    public void writeEventsOnlyInTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxPublisher.publish(kudosPosted(3L)));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxPublisher.publish(kudosPosted(3L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Relay other events once and keep failing event after max attempts")
+    public void keepFailingEventAfterMaxAttempts() {
+        KudosPosted first = kudosPosted(3L);
+        KudosPosted failing = kudosPosted(FAILING_PROOF_ID);
+        KudosPosted last = kudosPosted(5L);
+        publish(first, failing, last);
+
+        for (int i = 0; i < maxAttempts + 1; i++)
+            outboxRelay.relay();
+
+        assertThat(listener.events).containsExactly(first, last);
+        assertThat(outboxEventRepository.findAll())
+                .singleElement()
+                .extracting(OutboxEvent::getAttempts)
+                .isEqualTo(maxAttempts);
+    }
+
+    private KudosPosted kudosPosted(Long proofId) {
+        return new KudosPosted(1L, 2L, proofId, 4L, 5L, 5L, Map.of(6L, 5L), sent);
+    }
+
+    private void publish(Object... events) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (Object event : events)
+                outboxPublisher.publish(event);
+        });
+    }
+
+    @Component
+    static class RecordingListener {
+        private final List<Object> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onKudosPosted(KudosPosted event) {
+            if (FAILING_PROOF_ID.equals(event.proofId()))
+                throw new IllegalStateException("Listener failed");
+            runAfterCommit(() -> events.add(event));
+        }
+
+        @EventListener
+        public void onProofPublished(ProofPublished event) {
+            runAfterCommit(() -> events.add(event));
+        }
+
+        @EventListener
+        public void onSubmissionSent(SubmissionSent event) {
+            runAfterCommit(() -> events.add(event));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.uptalent.proof;
+
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.InMemoryProofSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.HIDDEN;
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryProofSearchEngineTest {
+    @Mock
+    private ProofRepository proofRepository;
+
+    @InjectMocks
+    private InMemoryProofSearchEngine searchEngine;
+
+    @BeforeEach
+    public void setUp() {
+        given(proofRepository.findSearchableFieldsByStatus(PUBLISHED)).willReturn(List.of(
+                new Object[]{1L, "Payment service", "Spring Boot and Kafka", "Java microservice for payments"},
+                new Object[]{2L, "Java course", "Java basics", "Collections, streams and Java memory model"},
+                new Object[]{3L, "Landing page", "React", "Single page application"}));
+        searchEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("Search proofs ranked by relevance")
+    public void searchProofsRankedByRelevance() {
+        Page<Long> result = searchEngine.searchPublishedProofIds("java", PageRequest.of(0, 9));
+
+        assertThat(result.getContent()).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Search proofs which contain all words of query")
+    public void searchProofsWhichContainAllWords() {
+        assertThat(searchEngine.searchPublishedProofIds("Java, kafka!", PageRequest.of(0, 9)).getContent())
+                .containsExactly(1L);
+        assertThat(searchEngine.searchPublishedProofIds("java react", PageRequest.of(0, 9)).getContent())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Exclude hidden proof from search results")
+    public void excludeHiddenProofFromSearchResults() {
+        searchEngine.indexProof(Proof.builder()
+                .id(2L)
+                .title("Java course")
+                .summary("Java basics")
+                .content("Collections")
+                .status(HIDDEN)
+                .build());
+
+        Page<Long> result = searchEngine.searchPublishedProofIds("java", PageRequest.of(0, 1));
+
+        assertThat(result.getContent()).containsExactly(1L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,255 @@
+package com.uptalent.proof;
+
+import com.uptalent.cache.FeedCache;
+import com.uptalent.leaderboard.LeaderboardService;
+import com.uptalent.mapper.KudosHistoryMapperImpl;
+import com.uptalent.mapper.ProofMapperImpl;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.proof.kudos.model.request.PostKudosBatch;
+import com.uptalent.proof.kudos.model.request.PostKudosBatchItem;
+import com.uptalent.proof.kudos.model.request.PostKudosSkill;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatch;
+import com.uptalent.proof.kudos.model.response.PostedKudosBatchItem;
+import com.uptalent.proof.kudos.repository.KudosHistoryRepository;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.proof.kudos.service.KudosWriteBehindBuffer;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.model.enums.ContentStatus;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.ProofSearchEngine;
+import com.uptalent.proof.service.ProofFeedAssembler;
+import com.uptalent.proof.service.ProofService;
+import com.uptalent.skill.index.SkillIndexService;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.skill.repository.SkillRepository;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
+import com.uptalent.sponsor.ledger.service.SponsorRowKudosLedgerLock;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.repository.SponsorRepository;
+import com.uptalent.sponsor.service.SponsorRatingService;
+import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.service.TalentStatisticService;
+import com.uptalent.util.service.AccessVerifyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.DRAFT;
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({ProofService.class, ProofFeedAssembler.class, ProofMapperImpl.class, KudosHistoryMapperImpl.class,
+        KudosHistoryReader.class, KudosLedgerService.class, SponsorRowKudosLedgerLock.class})
+class KudosBatchPostingTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ProofService proofService;
+    @SpyBean
+    private ProofRepository proofRepository;
+    @Autowired
+    private SponsorRepository sponsorRepository;
+    @Autowired
+    private KudosLedgerService kudosLedgerService;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private SkillKudosRepository skillKudosRepository;
+    @Autowired
+    private KudosHistoryRepository kudosHistoryRepository;
+    @Autowired
+    private SponsorProofKudosRepository sponsorProofKudosRepository;
+    @Autowired
+    private TalentRepository talentRepository;
+
+    @MockBean
+    private AccessVerifyService accessVerifyService;
+    @MockBean
+    private SkillIndexService skillIndexService;
+    @MockBean
+    private ProofSearchEngine proofSearchEngine;
+    @MockBean
+    private FeedCache feedCache;
+    @MockBean
+    private TalentStatisticService talentStatisticService;
+    @MockBean
+    private SponsorRatingService sponsorRatingService;
+    @MockBean
+    private LeaderboardService leaderboardService;
+    @MockBean
+    private OutboxPublisher outboxPublisher;
+    @MockBean
+    private KudosWriteBehindBuffer kudosWriteBehindBuffer;
+
+    private Talent firstTalent;
+    private Talent secondTalent;
+    private Skill java;
+    private Skill sql;
+    private Sponsor sponsor;
+
+    @BeforeEach
+    public void setUp() {
+        firstTalent = saveTalent("First");
+        secondTalent = saveTalent("Second");
+        java = skillRepository.save(Skill.builder().name("Java").build());
+        sql = skillRepository.save(Skill.builder().name("SQL").build());
+        sponsor = sponsorRepository.save(Sponsor.builder().fullname("Sponsor").build());
+        kudosLedgerService.addInitialKudos(sponsor.getId(), 50L);
+
+        given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
+    }
+
+    @Test
+    @DisplayName("Post valid entries of batch and reject the others")
+    public void postValidEntriesAndRejectOthers() {
+        Proof first = saveProof(firstTalent, PUBLISHED, java, sql);
+        Proof second = saveProof(secondTalent, PUBLISHED, sql);
+        Proof draft = saveProof(secondTalent, DRAFT, java);
+
+        entityManager.flush();
+        entityManager.clear();
+        PostedKudosBatch postedKudosBatch = proofService.postKudosBatch(new PostKudosBatch(List.of(
+                item(first, new PostKudosSkill(3L, java.getId()), new PostKudosSkill(2L, sql.getId())),
+                item(second, new PostKudosSkill(4L, sql.getId())),
+                item(second, new PostKudosSkill(1L, sql.getId())),
+                item(draft, new PostKudosSkill(1L, java.getId())),
+                item(second, new PostKudosSkill(1L, java.getId())))));
+
+        assertThat(postedKudosBatch.getCurrentSponsorBalance()).isEqualTo(41L);
+        assertThat(postedKudosBatch.getItems())
+                .extracting(PostedKudosBatchItem::isPosted)
+                .containsExactly(true, true, false, false, false);
+        assertThat(postedKudosBatch.getItems())
+                .extracting(PostedKudosBatchItem::getMessage)
+                .containsExactly(null, null, "Proof should be posted once in a batch", "Proof was not found",
+                        "Proof should be posted once in a batch");
+        PostedKudosBatchItem firstItem = postedKudosBatch.getItems().get(0);
+        assertThat(firstItem.getCurrentCountKudos()).isEqualTo(5L);
+        assertThat(firstItem.getCurrentSumKudosBySponsor()).isEqualTo(5L);
+        assertThat(firstItem.getSkills()).hasSize(2);
+
+        assertThat(kudosLedgerService.getBalance(sponsor.getId())).isEqualTo(41L);
+        assertThat(proofRepository.findKudosById(first.getId())).isEqualTo(5L);
+        assertThat(proofRepository.findKudosById(second.getId())).isEqualTo(4L);
+        assertThat(kudosHistoryRepository.findAll())
+                .filteredOn(kudosHistory -> kudosHistory.getSponsor().getId().equals(sponsor.getId()))
+                .hasSize(2);
+        assertThat(sponsorProofKudosRepository.findAll())
+                .filteredOn(total -> total.getId().getSponsorId().equals(sponsor.getId()))
+                .hasSize(2);
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(outboxPublisher, times(2)).publish(events.capture());
+        assertThat(events.getAllValues())
+                .map(KudosPosted.class::cast)
+                .extracting(KudosPosted::talentId, KudosPosted::proofKudos)
+                .containsExactlyInAnyOrder(tuple(firstTalent.getId(), 5L), tuple(secondTalent.getId(), 4L));
+    }
+
+    @Test
+    @DisplayName("Reject entries which exceed the rest of sponsor balance")
+    public void rejectEntriesWhichExceedBalance() {
+        Proof first = saveProof(firstTalent, PUBLISHED, java);
+        Proof second = saveProof(secondTalent, PUBLISHED, java);
+        Proof third = saveProof(secondTalent, PUBLISHED, sql);
+
+        entityManager.flush();
+        entityManager.clear();
+        PostedKudosBatch postedKudosBatch = proofService.postKudosBatch(new PostKudosBatch(List.of(
+                item(first, new PostKudosSkill(30L, java.getId())),
+                item(second, new PostKudosSkill(30L, java.getId())),
+                item(third, new PostKudosSkill(20L, sql.getId())))));
+
+        assertThat(postedKudosBatch.getItems())
+                .extracting(PostedKudosBatchItem::isPosted)
+                .containsExactly(true, false, true);
+        assertThat(postedKudosBatch.getItems().get(1).getMessage())
+                .isEqualTo("You do not have balance for posting kudos");
+        assertThat(postedKudosBatch.getCurrentSponsorBalance()).isZero();
+        assertThat(proofRepository.findKudosById(second.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Reject entry whose skill was removed from proof concurrently")
+    public void rejectEntryWhoseSkillWasRemovedConcurrently() {
+        Proof first = saveProof(firstTalent, PUBLISHED, java, sql);
+        Proof second = saveProof(secondTalent, PUBLISHED, java);
+        Answer<?> realRepository = mockingDetails(proofRepository).getMockCreationSettings().getDefaultAnswer();
+        willAnswer(invocation -> {
+            Object proofs = realRepository.answer(invocation);
+            entityManager.getEntityManager()
+                    .createNativeQuery("DELETE FROM skill_kudos WHERE proof_id = :proofId AND skill_id = :skillId")
+                    .setParameter("proofId", first.getId())
+                    .setParameter("skillId", sql.getId())
+                    .executeUpdate();
+            return proofs;
+        }).given(proofRepository).findAllWithSkillKudosByIdIn(any());
+
+        entityManager.flush();
+        entityManager.clear();
+        PostedKudosBatch postedKudosBatch = proofService.postKudosBatch(new PostKudosBatch(List.of(
+                item(first, new PostKudosSkill(3L, java.getId()), new PostKudosSkill(2L, sql.getId())),
+                item(second, new PostKudosSkill(4L, java.getId())))));
+
+        assertThat(postedKudosBatch.getItems())
+                .extracting(PostedKudosBatchItem::isPosted)
+                .containsExactly(false, true);
+        assertThat(postedKudosBatch.getItems().get(0).getMessage()).isEqualTo("Proof does not contain all skills");
+        assertThat(postedKudosBatch.getCurrentSponsorBalance()).isEqualTo(46L);
+        assertThat(proofRepository.findKudosById(first.getId())).isZero();
+        assertThat(skillKudosRepository.findSkillProofInfosByProofIds(List.of(first.getId())))
+                .singleElement()
+                .satisfies(tuple -> assertThat(tuple[3]).isEqualTo(0L));
+        assertThat(proofRepository.findKudosById(second.getId())).isEqualTo(4L);
+        verify(outboxPublisher, times(1)).publish(any());
+    }
+
+    private PostKudosBatchItem item(Proof proof, PostKudosSkill... postKudosSkills) {
+        return new PostKudosBatchItem(proof.getId(), List.of(postKudosSkills));
+    }
+
+    private Talent saveTalent(String firstname) {
+        return talentRepository.save(Talent.builder()
+                .firstname(firstname)
+                .lastname("Lastname")
+                .build());
+    }
+
+    private Proof saveProof(Talent talent, ContentStatus status, Skill... skills) {
+        Proof proof = proofRepository.save(Proof.builder()
+                .iconNumber(1)
+                .title("Proof")
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(status)
+                .talent(talent)
+                .build());
+        for (Skill skill : skills)
+            skillKudosRepository.save(SkillKudos.builder().skill(skill).proof(proof).kudos(0L).build());
+        return proof;
+    }
+}
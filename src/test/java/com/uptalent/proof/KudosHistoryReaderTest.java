@@ -0,0 +1,165 @@
+package com.uptalent.proof;
+
+import com.uptalent.mapper.KudosHistoryMapperImpl;
+import com.uptalent.proof.kudos.model.entity.KudosHistory;
+import com.uptalent.proof.kudos.model.entity.KudosHistoryRollup;
+import com.uptalent.proof.kudos.model.entity.KudosHistoryRollupId;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudosId;
+import com.uptalent.proof.kudos.model.response.KudosSender;
+import com.uptalent.proof.kudos.model.response.KudosSenderSummary;
+import com.uptalent.proof.kudos.model.response.KudosedProofHistory;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.skill.model.SkillInfo;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudosHistory;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.talent.model.entity.Talent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({KudosHistoryReader.class, KudosHistoryMapperImpl.class})
+class KudosHistoryReaderTest {
+    private static final int HISTORY_SIZE = 7;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private KudosHistoryReader kudosHistoryReader;
+
+    private Proof proof;
+    private Sponsor sponsor;
+    private Sponsor otherSponsor;
+    private Skill java;
+    private final LocalDateTime sent = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+    @BeforeEach
+    public void setUp() {
+        Talent talent = entityManager.persist(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        proof = entityManager.persist(Proof.builder()
+                .iconNumber(1)
+                .title("Proof")
+                .summary("Summary")
+                .content("Content")
+                .published(sent)
+                .status(PUBLISHED)
+                .talent(talent)
+                .build());
+        sponsor = entityManager.persist(Sponsor.builder().fullname("Sponsor").build());
+        otherSponsor = entityManager.persist(Sponsor.builder().fullname("Other").build());
+        java = entityManager.persist(Skill.builder().name("Java").build());
+        Skill sql = entityManager.persist(Skill.builder().name("SQL").build());
+
+        for (int i = 0; i < HISTORY_SIZE; i++)
+            persistHistory(sponsor, sent.plusMinutes(i), java, sql);
+        persistHistory(otherSponsor, sent, java);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Page kudos history by history rows and fetch their skills")
+    public void pageKudosHistoryByHistoryRows() {
+        Page<KudosedProofHistory> firstPage = kudosHistoryReader
+                .getKudosedProofHistory(sponsor.getId(), proof.getId(), PageRequest.of(0, 3));
+        Page<KudosedProofHistory> lastPage = kudosHistoryReader
+                .getKudosedProofHistory(sponsor.getId(), proof.getId(), PageRequest.of(2, 3));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(HISTORY_SIZE);
+        assertThat(firstPage.getContent())
+                .extracting(KudosedProofHistory::getSent)
+                .containsExactly(sent.plusMinutes(6), sent.plusMinutes(5), sent.plusMinutes(4));
+        assertThat(firstPage.getContent().get(0).getSkills())
+                .containsExactlyInAnyOrder(new SkillInfo("Java", 1L), new SkillInfo("SQL", 1L));
+        assertThat(lastPage.getContent())
+                .extracting(KudosedProofHistory::getSent)
+                .containsExactly(sent);
+    }
+
+    @Test
+    @DisplayName("Read kudos senders of proof with their skills")
+    public void readKudosSenders() {
+        List<KudosSender> senders = kudosHistoryReader.getKudosSenders(proof.getId());
+
+        assertThat(senders).hasSize(HISTORY_SIZE + 1);
+        assertThat(senders.get(0).getFullname()).isEqualTo("Sponsor");
+        assertThat(senders.get(0).getKudos()).isEqualTo(2L);
+        assertThat(senders)
+                .filteredOn(sender -> sender.getFullname().equals("Other"))
+                .singleElement()
+                .satisfies(sender -> assertThat(sender.getSkills()).containsExactly(new SkillInfo("Java", 1L)));
+    }
+
+    @Test
+    @DisplayName("Page kudos senders aggregated per sponsor with history and rolled up months")
+    public void pageKudosSenderSummaries() {
+        Sponsor rolledUpSponsor = entityManager.persist(Sponsor.builder().fullname("Rolled up").build());
+        entityManager.persist(new KudosHistoryRollup(new KudosHistoryRollupId(rolledUpSponsor.getId(), proof.getId(),
+                java.getId(), sent.toLocalDate().withDayOfMonth(1).minusMonths(3)), 20L));
+        entityManager.persist(new KudosHistoryRollup(new KudosHistoryRollupId(sponsor.getId(), proof.getId(),
+                java.getId(), sent.toLocalDate().withDayOfMonth(1).minusMonths(3)), 5L));
+        persistTotal(sponsor, 2L * HISTORY_SIZE + 5);
+        persistTotal(rolledUpSponsor, 20L);
+        persistTotal(otherSponsor, 1L);
+        entityManager.flush();
+
+        Page<KudosSenderSummary> firstPage = kudosHistoryReader.getKudosSenderSummaries(proof.getId(),
+                PageRequest.of(0, 2));
+        Page<KudosSenderSummary> lastPage = kudosHistoryReader.getKudosSenderSummaries(proof.getId(),
+                PageRequest.of(1, 2));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent())
+                .extracting(KudosSenderSummary::getFullname)
+                .containsExactly("Rolled up", "Sponsor");
+        KudosSenderSummary rolledUp = firstPage.getContent().get(0);
+        assertThat(rolledUp.getLastSent()).isEqualTo(sent.toLocalDate().withDayOfMonth(1).minusMonths(3).atStartOfDay());
+        assertThat(rolledUp.getSkills()).containsExactly(new SkillInfo("Java", 20L));
+        KudosSenderSummary sender = firstPage.getContent().get(1);
+        assertThat(sender.getKudos()).isEqualTo(2L * HISTORY_SIZE + 5);
+        assertThat(sender.getLastSent()).isEqualTo(sent.plusMinutes(HISTORY_SIZE - 1));
+        assertThat(sender.getSkills())
+                .containsExactly(new SkillInfo("Java", HISTORY_SIZE + 5L), new SkillInfo("SQL", (long) HISTORY_SIZE));
+        assertThat(lastPage.getContent())
+                .extracting(KudosSenderSummary::getFullname)
+                .containsExactly("Other");
+    }
+
+    private void persistTotal(Sponsor sponsor, long total) {
+        entityManager.persist(new SponsorProofKudos(new SponsorProofKudosId(sponsor.getId(), proof.getId()), total));
+    }
+
+    private void persistHistory(Sponsor sponsor, LocalDateTime sent, Skill... skills) {
+        KudosHistory kudosHistory = entityManager.persist(KudosHistory.builder()
+                .sponsor(sponsor)
+                .proof(proof)
+                .sent(sent)
+                .totalKudos((long) skills.length)
+                .build());
+        for (Skill skill : skills)
+            entityManager.persist(SkillKudosHistory.builder()
+                    .skill(skill)
+                    .kudos(1L)
+                    .kudosHistory(kudosHistory)
+                    .sent(sent)
+                    .build());
+    }
+}
@@ -0,0 +1,168 @@
+package com.uptalent.proof;
+
+import com.uptalent.cache.FeedCache;
+import com.uptalent.leaderboard.LeaderboardService;
+import com.uptalent.mapper.KudosHistoryMapperImpl;
+import com.uptalent.mapper.ProofMapperImpl;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.proof.kudos.model.request.PostKudos;
+import com.uptalent.proof.kudos.model.request.PostKudosSkill;
+import com.uptalent.proof.kudos.model.response.UpdatedProofKudos;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.proof.kudos.service.KudosWriteBehindBuffer;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.search.ProofSearchEngine;
+import com.uptalent.proof.service.ProofFeedAssembler;
+import com.uptalent.proof.service.ProofService;
+import com.uptalent.skill.index.SkillIndexService;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerEntry;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
+import com.uptalent.sponsor.ledger.service.SponsorRowKudosLedgerLock;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.service.SponsorRatingService;
+import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.service.TalentStatisticService;
+import com.uptalent.util.service.AccessVerifyService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static com.uptalent.sponsor.ledger.model.enums.KudosLedgerEntryType.INITIAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Counts JDBC round-trips of posting kudos to a proof with few and with many skills.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProofService.class, ProofFeedAssembler.class, ProofMapperImpl.class, KudosHistoryMapperImpl.class,
+        KudosHistoryReader.class, KudosLedgerService.class, SponsorRowKudosLedgerLock.class})
+@Slf4j
+class KudosPostingBenchmarkTest {
+    private static final int SKILLS_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ProofService proofService;
+
+    @MockBean
+    private AccessVerifyService accessVerifyService;
+    @MockBean
+    private SkillIndexService skillIndexService;
+    @MockBean
+    private ProofSearchEngine proofSearchEngine;
+    @MockBean
+    private FeedCache feedCache;
+    @MockBean
+    private TalentStatisticService talentStatisticService;
+    @MockBean
+    private SponsorRatingService sponsorRatingService;
+    @MockBean
+    private LeaderboardService leaderboardService;
+    @MockBean
+    private OutboxPublisher outboxPublisher;
+    @MockBean
+    private KudosWriteBehindBuffer kudosWriteBehindBuffer;
+
+    private Statistics statistics;
+    private Proof proof;
+    private List<Skill> skills;
+
+    @BeforeEach
+    public void setUp() {
+        Sponsor sponsor = entityManager.persist(Sponsor.builder()
+                .fullname("Sponsor")
+                .build());
+        entityManager.persist(KudosLedgerEntry.builder()
+                .sponsorId(sponsor.getId())
+                .type(INITIAL)
+                .delta(100_000L)
+                .created(LocalDateTime.now())
+                .build());
+        Talent talent = entityManager.persist(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        proof = entityManager.persist(Proof.builder()
+                .iconNumber(1)
+                .title("Proof")
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(PUBLISHED)
+                .talent(talent)
+                .kudos(0L)
+                .build());
+
+        skills = new ArrayList<>();
+        for (int i = 0; i < SKILLS_COUNT; i++) {
+            Skill skill = entityManager.persist(Skill.builder().name("Skill" + i).build());
+            entityManager.persist(SkillKudos.builder().skill(skill).proof(proof).kudos(0L).build());
+            skills.add(skill);
+        }
+        entityManager.flush();
+
+        given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Post kudos with constant number of round-trips")
+    public void postKudosWithConstantNumberOfRoundTrips() {
+        long firstPostOfFewSkills = countRoundTripsOfPost(2);
+        long nextPostOfFewSkills = countRoundTripsOfPost(2);
+        long nextPostOfManySkills = countRoundTripsOfPost(SKILLS_COUNT);
+
+        log.info("Round-trips per kudos post: first of 2 skills {}, next of 2 skills {}, next of {} skills {}",
+                firstPostOfFewSkills, nextPostOfFewSkills, SKILLS_COUNT, nextPostOfManySkills);
+        assertThat(nextPostOfManySkills).isEqualTo(nextPostOfFewSkills);
+    }
+
+    @Test
+    @DisplayName("Return updated kudos of proof, skills and sponsor")
+    public void returnUpdatedKudos() {
+        countRoundTripsOfPost(2);
+        UpdatedProofKudos result = postKudos(2);
+
+        assertThat(result.getCurrentCountKudos()).isEqualTo(4L);
+        assertThat(result.getCurrentSumKudosBySponsor()).isEqualTo(4L);
+        assertThat(result.getCurrentSponsorBalance()).isEqualTo(100_000L - 4L);
+        assertThat(result.getSkills()).hasSize(2)
+                .allSatisfy(skill -> assertThat(skill.getKudos()).isEqualTo(2L));
+    }
+
+    private long countRoundTripsOfPost(int skillsCount) {
+        statistics.clear();
+        postKudos(skillsCount);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UpdatedProofKudos postKudos(int skillsCount) {
+        entityManager.clear();
+        List<PostKudosSkill> postKudosSkills = new ArrayList<>(skills.subList(0, skillsCount).stream()
+                .map(skill -> new PostKudosSkill(1L, skill.getId()))
+                .toList());
+        UpdatedProofKudos result = proofService.postKudos(new PostKudos(postKudosSkills), proof.getId());
+        entityManager.flush();
+        return result;
+    }
+}
@@ -0,0 +1,196 @@
+package com.uptalent.proof;
+
+import com.uptalent.cache.FeedCache;
+import com.uptalent.leaderboard.LeaderboardService;
+import com.uptalent.mapper.KudosHistoryMapperImpl;
+import com.uptalent.mapper.ProofMapperImpl;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.proof.kudos.exception.IllegalPostingKudos;
+import com.uptalent.proof.kudos.model.request.PostKudos;
+import com.uptalent.proof.kudos.model.request.PostKudosSkill;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.proof.kudos.service.KudosWriteBehindBuffer;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.ProofSearchEngine;
+import com.uptalent.proof.service.ProofFeedAssembler;
+import com.uptalent.proof.service.ProofService;
+import com.uptalent.skill.index.SkillIndexService;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.skill.repository.SkillRepository;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
+import com.uptalent.sponsor.ledger.service.SponsorRowKudosLedgerLock;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.repository.SponsorRepository;
+import com.uptalent.sponsor.service.SponsorRatingService;
+import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.service.TalentStatisticService;
+import com.uptalent.util.service.AccessVerifyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Posts kudos to one proof from many sponsors in parallel, each posting in its own transaction,
+ * and checks that no kudos are lost or created.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProofService.class, ProofFeedAssembler.class, ProofMapperImpl.class, KudosHistoryMapperImpl.class,
+        KudosHistoryReader.class, KudosLedgerService.class, SponsorRowKudosLedgerLock.class})
+class KudosPostingConcurrencyTest {
+    private static final int SPONSORS_COUNT = 8;
+    private static final int POSTS_PER_SPONSOR = 25;
+    private static final long INITIAL_BALANCE = 30;
+
+    @Autowired
+    private ProofService proofService;
+    @Autowired
+    private ProofRepository proofRepository;
+    @Autowired
+    private SponsorRepository sponsorRepository;
+    @Autowired
+    private KudosLedgerService kudosLedgerService;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private SkillKudosRepository skillKudosRepository;
+    @Autowired
+    private SponsorProofKudosRepository sponsorProofKudosRepository;
+    @Autowired
+    private TalentRepository talentRepository;
+
+    @MockBean
+    private AccessVerifyService accessVerifyService;
+    @MockBean
+    private SkillIndexService skillIndexService;
+    @MockBean
+    private ProofSearchEngine proofSearchEngine;
+    @MockBean
+    private FeedCache feedCache;
+    @MockBean
+    private TalentStatisticService talentStatisticService;
+    @MockBean
+    private SponsorRatingService sponsorRatingService;
+    @MockBean
+    private LeaderboardService leaderboardService;
+    @MockBean
+    private OutboxPublisher outboxPublisher;
+    @MockBean
+    private KudosWriteBehindBuffer kudosWriteBehindBuffer;
+
+    private final ThreadLocal<Long> currentSponsorId = new ThreadLocal<>();
+    private Proof proof;
+    private List<Skill> skills;
+    private List<Long> sponsorIds;
+
+    @BeforeEach
+    public void setUp() {
+        Talent talent = talentRepository.save(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        proof = proofRepository.save(Proof.builder()
+                .iconNumber(1)
+                .title("Viral proof")
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(PUBLISHED)
+                .talent(talent)
+                .build());
+        skills = skillRepository.saveAll(List.of(
+                Skill.builder().name("Java").build(),
+                Skill.builder().name("SQL").build()));
+        skills.forEach(skill -> skillKudosRepository.save(SkillKudos.builder()
+                .skill(skill)
+                .proof(proof)
+                .kudos(0L)
+                .build()));
+
+        sponsorIds = new ArrayList<>();
+        for (int i = 0; i < SPONSORS_COUNT; i++) {
+            Long sponsorId = sponsorRepository.save(Sponsor.builder()
+                    .fullname("Sponsor" + i)
+                    .build()).getId();
+            kudosLedgerService.addInitialKudos(sponsorId, INITIAL_BALANCE);
+            sponsorIds.add(sponsorId);
+        }
+
+        given(accessVerifyService.getPrincipalId()).willAnswer(invocation -> currentSponsorId.get());
+    }
+
+    @Test
+    @DisplayName("Conserve kudos when many sponsors post to one proof in parallel")
+    public void conserveKudosWhenSponsorsPostInParallel() throws Exception {
+        AtomicLong postedKudos = new AtomicLong();
+        AtomicLong rejectedPosts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(SPONSORS_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Long sponsorId : sponsorIds) {
+            futures.add(executor.submit(() -> {
+                currentSponsorId.set(sponsorId);
+                start.await();
+                for (int i = 0; i < POSTS_PER_SPONSOR; i++) {
+                    try {
+                        proofService.postKudos(generatePostKudos(), proof.getId());
+                        postedKudos.addAndGet(2);
+                    } catch (IllegalPostingKudos e) {
+                        rejectedPosts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        long balances = sponsorIds.stream()
+                .mapToLong(kudosLedgerService::getBalance)
+                .sum();
+        long proofKudos = proofRepository.findKudosById(proof.getId());
+        long skillKudos = skillKudosRepository.findSkillProofInfosByProofIds(List.of(proof.getId())).stream()
+                .mapToLong(tuple -> (Long) tuple[3])
+                .sum();
+        long sponsorProofKudos = sponsorProofKudosRepository.findAll().stream()
+                .mapToLong(total -> total.getTotal())
+                .sum();
+
+        assertThat(postedKudos.get()).isEqualTo(SPONSORS_COUNT * INITIAL_BALANCE);
+        assertThat(rejectedPosts.get()).isEqualTo(SPONSORS_COUNT * (POSTS_PER_SPONSOR - INITIAL_BALANCE / 2));
+        assertThat(balances).isZero();
+        assertThat(proofKudos).isEqualTo(postedKudos.get());
+        assertThat(skillKudos).isEqualTo(postedKudos.get());
+        assertThat(sponsorProofKudos).isEqualTo(postedKudos.get());
+    }
+
+    private PostKudos generatePostKudos() {
+        return new PostKudos(new ArrayList<>(skills.stream()
+                .map(skill -> new PostKudosSkill(1L, skill.getId()))
+                .toList()));
+    }
+}
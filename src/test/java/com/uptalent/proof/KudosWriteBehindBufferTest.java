@@ -0,0 +1,226 @@
+package com.uptalent.proof;
+
+import com.uptalent.cache.FeedCache;
+import com.uptalent.leaderboard.LeaderboardService;
+import com.uptalent.mapper.KudosHistoryMapperImpl;
+import com.uptalent.mapper.ProofMapperImpl;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.proof.kudos.model.entity.KudosHistory;
+import com.uptalent.proof.kudos.model.request.PostKudos;
+import com.uptalent.proof.kudos.model.request.PostKudosSkill;
+import com.uptalent.proof.kudos.model.response.UpdatedProofKudos;
+import com.uptalent.proof.kudos.repository.KudosHistoryRepository;
+import com.uptalent.proof.kudos.service.KudosHistoryReader;
+import com.uptalent.proof.kudos.service.KudosWriteBehindBuffer;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.ProofSearchEngine;
+import com.uptalent.proof.service.ProofFeedAssembler;
+import com.uptalent.proof.service.ProofService;
+import com.uptalent.skill.index.SkillIndexService;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.skill.model.entity.SkillKudosHistory;
+import com.uptalent.skill.repository.SkillKudosHistoryRepository;
+import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.skill.repository.SkillRepository;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
+import com.uptalent.sponsor.ledger.service.SponsorRowKudosLedgerLock;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.repository.SponsorRepository;
+import com.uptalent.sponsor.service.SponsorRatingService;
+import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.service.TalentStatisticService;
+import com.uptalent.util.service.AccessVerifyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DataJpaTest(properties = {"kudos.write-behind.enabled=true", "kudos.write-behind.replay-after=PT1M"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProofService.class, ProofFeedAssembler.class, ProofMapperImpl.class, KudosHistoryMapperImpl.class,
+        KudosHistoryReader.class, KudosLedgerService.class, SponsorRowKudosLedgerLock.class,
+        KudosWriteBehindBuffer.class})
+class KudosWriteBehindBufferTest {
+    @Autowired
+    private ProofService proofService;
+    @Autowired
+    private KudosWriteBehindBuffer kudosWriteBehindBuffer;
+    @Autowired
+    private ProofRepository proofRepository;
+    @Autowired
+    private SponsorRepository sponsorRepository;
+    @Autowired
+    private KudosLedgerService kudosLedgerService;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private SkillKudosRepository skillKudosRepository;
+    @Autowired
+    private KudosHistoryRepository kudosHistoryRepository;
+    @Autowired
+    private SkillKudosHistoryRepository skillKudosHistoryRepository;
+    @Autowired
+    private TalentRepository talentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private AccessVerifyService accessVerifyService;
+    @MockBean
+    private SkillIndexService skillIndexService;
+    @MockBean
+    private ProofSearchEngine proofSearchEngine;
+    @MockBean
+    private FeedCache feedCache;
+    @MockBean
+    private TalentStatisticService talentStatisticService;
+    @MockBean
+    private SponsorRatingService sponsorRatingService;
+    @MockBean
+    private LeaderboardService leaderboardService;
+    @MockBean
+    private OutboxPublisher outboxPublisher;
+
+    private Proof proof;
+    private Sponsor sponsor;
+    private Skill skill;
+
+    @BeforeEach
+    public void setUp() {
+        Talent talent = talentRepository.save(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        proof = proofRepository.save(Proof.builder()
+                .iconNumber(1)
+                .title("Viral proof")
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(PUBLISHED)
+                .talent(talent)
+                .build());
+        skill = skillRepository.save(Skill.builder().name("Skill" + proof.getId()).build());
+        skillKudosRepository.save(SkillKudos.builder().skill(skill).proof(proof).kudos(0L).build());
+        sponsor = sponsorRepository.save(Sponsor.builder().fullname("Sponsor").build());
+        kudosLedgerService.addInitialKudos(sponsor.getId(), 100L);
+
+        given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
+    }
+
+    @Test
+    @DisplayName("Apply buffered kudos to proof and skills on flush")
+    public void applyBufferedKudosOnFlush() {
+        UpdatedProofKudos first = postKudos(3L);
+        UpdatedProofKudos second = postKudos(4L);
+
+        assertThat(second.getCurrentCountKudos()).isEqualTo(7L);
+        assertThat(second.getSkills().get(0).getKudos()).isEqualTo(7L);
+        assertThat(first.getCurrentSponsorBalance()).isEqualTo(97L);
+        assertThat(kudosLedgerService.getBalance(sponsor.getId())).isEqualTo(93L);
+        assertThat(proofRepository.findKudosById(proof.getId())).isZero();
+        assertThat(kudosWriteBehindBuffer.getPendingProofKudos(proof.getId())).isEqualTo(7L);
+        then(feedCache).should(never()).evictProofs(any());
+
+        kudosWriteBehindBuffer.flush();
+
+        assertThat(proofRepository.findKudosById(proof.getId())).isEqualTo(7L);
+        assertThat(findSkillKudos()).isEqualTo(7L);
+        assertThat(kudosWriteBehindBuffer.getPendingProofKudos(proof.getId())).isZero();
+        assertThat(kudosHistoryRepository.findAll()).allMatch(KudosHistory::isAggregated);
+        then(feedCache).should().evictProofs(Set.of(proof.getId()));
+    }
+
+    @Test
+    @DisplayName("Replay kudos history which was not flushed before restart")
+    public void replayNotFlushedKudosHistory() {
+        KudosHistory kudosHistory = kudosHistoryRepository.save(KudosHistory.builder()
+                .sponsor(sponsor)
+                .proof(proof)
+                .sent(LocalDateTime.now().minusMinutes(2))
+                .totalKudos(5L)
+                .aggregated(false)
+                .build());
+        skillKudosHistoryRepository.save(SkillKudosHistory.builder()
+                .skill(skill)
+                .kudos(5L)
+                .kudosHistory(kudosHistory)
+                .sent(kudosHistory.getSent())
+                .build());
+
+        kudosWriteBehindBuffer.replayNotAggregatedHistory();
+        kudosWriteBehindBuffer.replayNotAggregatedHistory();
+
+        assertThat(proofRepository.findKudosById(proof.getId())).isEqualTo(5L);
+        assertThat(findSkillKudos()).isEqualTo(5L);
+        assertThat(kudosHistoryRepository.findById(kudosHistory.getId()))
+                .hasValueSatisfying(history -> assertThat(history.isAggregated()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Do not replay kudos history which live instance has not flushed yet")
+    public void doNotReplayRecentKudosHistory() {
+        postKudos(3L);
+
+        kudosWriteBehindBuffer.replayNotAggregatedHistory();
+
+        assertThat(proofRepository.findKudosById(proof.getId())).isZero();
+        assertThat(kudosWriteBehindBuffer.getPendingProofKudos(proof.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Apply kudos once when another instance replays postings before flush")
+    public void applyKudosOnceWhenReplayedBeforeFlush() {
+        postKudos(3L);
+        postKudos(4L);
+        KudosHistory replayedHistory = kudosHistoryRepository.findAll().stream()
+                .filter(history -> history.getTotalKudos() == 3L)
+                .findFirst()
+                .orElseThrow();
+        // another instance claims and applies the posting of 3 kudos from history
+        transactionTemplate.executeWithoutResult(status -> {
+            kudosHistoryRepository.markAggregated(List.of(replayedHistory.getId()));
+            proofRepository.applyKudos(proof.getId(), 3L);
+        });
+
+        kudosWriteBehindBuffer.flush();
+
+        assertThat(proofRepository.findKudosById(proof.getId())).isEqualTo(7L);
+        assertThat(findSkillKudos()).isEqualTo(4L);
+        assertThat(kudosWriteBehindBuffer.getPendingProofKudos(proof.getId())).isZero();
+        assertThat(kudosHistoryRepository.findAll()).allMatch(KudosHistory::isAggregated);
+    }
+
+    private UpdatedProofKudos postKudos(long kudos) {
+        List<PostKudosSkill> postKudosSkills = new ArrayList<>(List.of(new PostKudosSkill(kudos, skill.getId())));
+        return proofService.postKudos(new PostKudos(postKudosSkills), proof.getId());
+    }
+
+    private long findSkillKudos() {
+        return skillKudosRepository.findSkillProofInfosByProofIds(List.of(proof.getId())).stream()
+                .mapToLong(tuple -> (Long) tuple[3])
+                .sum();
+    }
+}
@@ -5,7 +5,12 @@ import com.uptalent.credentials.model.entity.Credentials;
 import com.uptalent.credentials.model.enums.AccountStatus;
 import com.uptalent.credentials.model.enums.Role;
 import com.uptalent.credentials.repository.CredentialsRepository;
+import com.uptalent.idempotency.IdempotencyStore;
 import com.uptalent.jwt.JwtTokenProvider;
+import com.uptalent.pagination.CursorPage;
+import com.uptalent.pagination.FeedCursor;
+import com.uptalent.pagination.PageWithMetadata;
+import com.uptalent.pagination.exception.InvalidCursorException;
 import com.uptalent.proof.controller.ProofController;
 import com.uptalent.proof.exception.*;
 import com.uptalent.proof.kudos.model.request.PostKudos;
@@ -15,6 +20,8 @@ import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.proof.model.request.ProofModify;
 import com.uptalent.proof.model.response.ProofDetailInfo;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
+import com.uptalent.proof.service.ProofExportService;
 import com.uptalent.proof.service.ProofService;
 import com.uptalent.skill.exception.DuplicateSkillException;
 import com.uptalent.skill.model.SkillTalentInfo;
@@ -34,6 +41,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -43,6 +51,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static com.uptalent.proof.model.enums.ContentStatus.HIDDEN;
 import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
@@ -68,6 +77,12 @@ public class ProofControllerTest {
     @MockBean
     private ProofService proofService;
 
+    @MockBean
+    private ProofExportService proofExportService;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
 
     @MockBean
     private TalentService talentService;
@@ -97,6 +112,9 @@ public class ProofControllerTest {
 
     @BeforeEach
     public void setUp() {
+        given(idempotencyStore.execute(any(), anyString(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+
         credentials = Credentials.builder()
                 .id(1L)
                 .email("himonov.mark@gmail.com")
@@ -649,6 +667,44 @@ public class ProofControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.talent").doesNotExist());
     }
 
+    @Test
+    @DisplayName("Get proof detail info with ETag")
+    public void getProofDetailInfoWithETag() throws Exception {
+        given(proofService.getProofDetailETag(talent.getId(), proof.getId())).willReturn(Optional.of("3"));
+        given(proofService.getProofDetailInfo(talent.getId(), proof.getId()))
+                .willReturn(ProofDetailInfo.builder().id(proof.getId()).build());
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/talents/{talentId}/proofs/{proofId}",
+                                talent.getId(), proof.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\"")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(proof.getId()));
+    }
+
+    @Test
+    @DisplayName("Get not modified proof detail info without loading proof")
+    public void getNotModifiedProofDetailInfo() throws Exception {
+        given(proofService.getProofDetailETag(talent.getId(), proof.getId())).willReturn(Optional.of("3"));
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/talents/{talentId}/proofs/{proofId}",
+                                talent.getId(), proof.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        then(proofService).should(never()).getProofDetailInfo(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("[Stage-2] [US-6] - Try to get proof detail info when talent is not found")
     public void getProofDetailInfoNotFound() throws Exception {
@@ -904,6 +960,119 @@ public class ProofControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message").exists());
     }
 
+    @Test
+    @DisplayName("Get proofs by cursor successfully")
+    public void getProofsByCursorSuccessfully() throws Exception {
+        String nextCursor = FeedCursor.encode(proof.getPublished(), proof.getId(), true);
+        CursorPage<ProofGeneralInfo> cursorPage = new CursorPage<>(List.of(), nextCursor);
+        willReturn(cursorPage).given(proofService).getProofsByCursor(9, "desc", null, "");
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs")
+                        .param("cursor", "")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor").value(nextCursor))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total_pages").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Try to get proofs by cursor with too big size")
+    public void tryGetProofsByCursorWithTooBigSize() throws Exception {
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs")
+                        .param("cursor", "")
+                        .param("size", String.valueOf(Integer.MAX_VALUE))
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Try to get proofs by invalid cursor")
+    public void tryGetProofsByInvalidCursor() throws Exception {
+        willThrow(new InvalidCursorException("Invalid cursor"))
+                .given(proofService).getProofsByCursor(9, "desc", null, "broken");
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs")
+                        .param("cursor", "broken")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("Get slice of proofs successfully")
+    public void getSliceOfProofsSuccessfully() throws Exception {
+        PageWithMetadata<ProofGeneralInfo> slice = new PageWithMetadata<>(List.of(new ProofGeneralInfo()), null, true);
+        willReturn(slice).given(proofService).getProofs(0, 9, "desc", null, false);
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs")
+                        .param("slice", "true")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.has_next").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total_pages").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Search proofs successfully")
+    public void searchProofsSuccessfully() throws Exception {
+        PageWithMetadata<ProofGeneralInfo> searchResult = new PageWithMetadata<>(List.of(new ProofGeneralInfo()), 1);
+        willReturn(searchResult).given(proofService).searchProofs("spring boot", 0, 9);
+
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs/search")
+                        .param("query", "spring boot")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content").isArray())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total_pages").value(1));
+    }
+
+    @Test
+    @DisplayName("Try to search proofs by blank query")
+    public void trySearchProofsByBlankQuery() throws Exception {
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs/search")
+                        .param("query", " ")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Try to search proofs with too large page size")
+    public void trySearchProofsWithTooLargeSize() throws Exception {
+        ResultActions response = mockMvc
+                .perform(MockMvcRequestBuilders.get("/api/v1/proofs/search")
+                        .param("query", "spring boot")
+                        .param("size", "101")
+                        .accept(MediaType.APPLICATION_JSON));
+
+        response
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     private PostKudos generatePostKudos() {
         List<PostKudosSkill> postKudosSkills = new ArrayList<>(List.of(
                 new PostKudosSkill(255L, javaSkill.getId()),
@@ -0,0 +1,93 @@
+package com.uptalent.proof;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uptalent.mapper.ProofMapperImpl;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.model.enums.ContentStatus;
+import com.uptalent.proof.service.ProofExportService;
+import com.uptalent.proof.service.ProofFeedAssembler;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.talent.model.entity.Talent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.DRAFT;
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ProofExportService.class, ProofFeedAssembler.class, ProofMapperImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ProofExportServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ProofExportService proofExportService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        Skill java = entityManager.persist(Skill.builder().name("Java").build());
+        Talent talent = entityManager.persist(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+
+        persistProof(talent, java, "First proof", PUBLISHED);
+        persistProof(talent, java, "Draft proof", DRAFT);
+        persistProof(talent, java, "Second proof", PUBLISHED);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Export published proofs as NDJSON lines in the shape of the feed")
+    public void exportPublishedProofsAsNdjson() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        proofExportService.exportPublishedProofs(outputStream);
+
+        String export = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(export).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : export.split("\n"))
+            lines.add(objectMapper.readTree(line));
+
+        assertThat(lines).extracting(line -> line.get("title").asText())
+                .containsExactly("First proof", "Second proof");
+        assertThat(lines).allSatisfy(line -> {
+            assertThat(line.get("icon_number").asInt()).isEqualTo(1);
+            assertThat(line.get("skills")).hasSize(1);
+            assertThat(line.get("author").get("name").asText()).isEqualTo("Talent Lastname");
+        });
+    }
+
+    private void persistProof(Talent talent, Skill skill, String title, ContentStatus status) {
+        Proof proof = entityManager.persist(Proof.builder()
+                .iconNumber(1)
+                .title(title)
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(status)
+                .talent(talent)
+                .build());
+        entityManager.persist(SkillKudos.builder().skill(skill).proof(proof).kudos(0L).build());
+    }
+}
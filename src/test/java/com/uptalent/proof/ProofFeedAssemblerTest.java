@@ -0,0 +1,109 @@
+package com.uptalent.proof;
+
+import com.uptalent.mapper.ProofMapperImpl;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
+import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.service.ProofFeedAssembler;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.talent.model.entity.Talent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProofFeedAssembler.class, ProofMapperImpl.class})
+class ProofFeedAssemblerTest {
+    private static final int PROOFS_COUNT = 12;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ProofRepository proofRepository;
+    @Autowired
+    private ProofFeedAssembler feedAssembler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        Skill java = entityManager.persist(Skill.builder().name("Java").build());
+        Skill sql = entityManager.persist(Skill.builder().name("SQL").build());
+
+        for (int i = 0; i < PROOFS_COUNT; i++) {
+            Talent talent = entityManager.persist(Talent.builder()
+                    .firstname("Talent" + i)
+                    .lastname("Lastname")
+                    .build());
+            Proof proof = entityManager.persist(Proof.builder()
+                    .iconNumber(1)
+                    .title("Proof " + i)
+                    .summary("Summary")
+                    .content("Content")
+                    .published(LocalDateTime.now().minusMinutes(i))
+                    .status(PUBLISHED)
+                    .talent(talent)
+                    .build());
+            entityManager.persist(SkillKudos.builder().skill(java).proof(proof).kudos(i).build());
+            entityManager.persist(SkillKudos.builder().skill(sql).proof(proof).kudos(0L).build());
+        }
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Load feed page with constant number of queries")
+    public void loadFeedPageWithConstantNumberOfQueries() {
+        long smallPageQueries = countQueriesForPage(3);
+        long largePageQueries = countQueriesForPage(PROOFS_COUNT);
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @DisplayName("Load skills and author of each proof in feed page")
+    public void loadSkillsAndAuthorOfEachProof() {
+        entityManager.clear();
+        List<ProofGeneralInfo> infos = feedAssembler.toProofGeneralInfos(findFirstPage(PROOFS_COUNT));
+
+        assertThat(infos).hasSize(PROOFS_COUNT);
+        assertThat(infos).allSatisfy(info -> {
+            assertThat(info.getSkills()).hasSize(2);
+            assertThat(info.getAuthor().getName()).endsWith("Lastname");
+        });
+    }
+
+    private long countQueriesForPage(int size) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<ProofGeneralInfo> infos = feedAssembler.toProofGeneralInfos(findFirstPage(size));
+
+        assertThat(infos).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Proof> findFirstPage(int size) {
+        PageRequest pageRequest = PageRequest.of(0, size, Sort.by("published").descending());
+        return proofRepository.findAllByStatus(PUBLISHED, pageRequest, null, 0).getContent();
+    }
+}
@@ -1,13 +1,26 @@
 package com.uptalent.proof;
 
+import com.uptalent.cache.FeedCache;
+import com.uptalent.cache.FeedCacheKey;
 import com.uptalent.credentials.model.entity.Credentials;
 import com.uptalent.credentials.model.enums.AccountStatus;
 import com.uptalent.credentials.model.enums.Role;
+import com.uptalent.leaderboard.LeaderboardService;
 import com.uptalent.mapper.ProofMapper;
+import com.uptalent.outbox.OutboxPublisher;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.pagination.CursorPage;
+import com.uptalent.pagination.FeedCursor;
+import com.uptalent.pagination.PageWithMetadata;
+import com.uptalent.pagination.exception.InvalidCursorException;
 import com.uptalent.proof.kudos.exception.IllegalPostingKudos;
 import com.uptalent.proof.kudos.model.request.PostKudosSkill;
 import com.uptalent.proof.kudos.model.response.UpdatedProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudosId;
 import com.uptalent.proof.kudos.repository.KudosHistoryRepository;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.proof.kudos.service.KudosWriteBehindBuffer;
 import com.uptalent.proof.kudos.model.request.PostKudos;
 import com.uptalent.skill.exception.DuplicateSkillException;
 import com.uptalent.skill.model.SkillProofInfo;
@@ -16,9 +29,12 @@ import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.skill.model.entity.SkillKudos;
 import com.uptalent.skill.repository.SkillKudosHistoryRepository;
 import com.uptalent.skill.repository.SkillKudosRepository;
+import com.uptalent.skill.index.SkillIndexService;
 import com.uptalent.skill.repository.SkillRepository;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
 import com.uptalent.sponsor.model.entity.Sponsor;
 import com.uptalent.sponsor.repository.SponsorRepository;
+import com.uptalent.sponsor.service.SponsorRatingService;
 import com.uptalent.talent.exception.DeniedAccessException;
 import com.uptalent.util.exception.IllegalContentModifyingException;
 import com.uptalent.util.exception.UnrelatedContentException;
@@ -28,20 +44,29 @@ import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.model.enums.ContentStatus;
 import com.uptalent.proof.model.request.ProofModify;
 import com.uptalent.proof.model.response.ProofDetailInfo;
+import com.uptalent.proof.model.response.ProofGeneralInfo;
 import com.uptalent.proof.repository.ProofRepository;
+import com.uptalent.proof.search.ProofSearchEngine;
+import com.uptalent.proof.service.ProofFeedAssembler;
 import com.uptalent.proof.service.ProofService;
 import com.uptalent.talent.exception.TalentNotFoundException;
 import com.uptalent.talent.model.entity.Talent;
 import com.uptalent.talent.repository.TalentRepository;
+import com.uptalent.talent.service.TalentStatisticService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static com.uptalent.proof.model.enums.ContentStatus.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,6 +84,8 @@ public class ProofServiceTest {
     @Mock
     private KudosHistoryRepository kudosHistoryRepository;
     @Mock
+    private SponsorProofKudosRepository sponsorProofKudosRepository;
+    @Mock
     private SkillRepository skillRepository;
     @Mock
     private SkillKudosRepository skillKudosRepository;
@@ -74,6 +101,26 @@ public class ProofServiceTest {
     private SponsorRepository sponsorRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private SkillIndexService skillIndexService;
+    @Mock
+    private ProofFeedAssembler feedAssembler;
+    @Mock
+    private ProofSearchEngine proofSearchEngine;
+    @Mock
+    private FeedCache feedCache;
+    @Mock
+    private KudosWriteBehindBuffer kudosWriteBehindBuffer;
+    @Mock
+    private TalentStatisticService talentStatisticService;
+    @Mock
+    private SponsorRatingService sponsorRatingService;
+    @Mock
+    private LeaderboardService leaderboardService;
+    @Mock
+    private OutboxPublisher outboxPublisher;
+    @Mock
+    private KudosLedgerService kudosLedgerService;
 
     @InjectMocks
     private ProofService proofService;
@@ -86,6 +133,7 @@ public class ProofServiceTest {
     private Proof hiddenProof;
     private Proof draftProof;
     private Sponsor sponsor;
+    private long sponsorBalance;
     private Skill javaSkill;
     private Skill pythonSkill;
     private SkillKudos javaSkillKudos;
@@ -151,8 +199,8 @@ public class ProofServiceTest {
         sponsor = Sponsor.builder()
                 .id(1L)
                 .fullname("SoftServe")
-                .kudos(500)
                 .build();
+        sponsorBalance = 500;
 
         javaSkill = Skill.builder()
                 .id(1L)
@@ -340,6 +388,9 @@ public class ProofServiceTest {
                 .toList()
                 .contains(pythonSkill.getName()));
         assertNotNull(proofDetailInfo.getPublished());
+        then(outboxPublisher).should().publish(new ProofPublished(draftProof.getId(), talent.getId(),
+                draftProof.getPublished()));
+        then(feedCache).should(never()).evictProofFeed();
     }
 
     @Test
@@ -606,24 +657,76 @@ public class ProofServiceTest {
         given(sponsorRepository.findById(sponsor.getId())).willReturn(Optional.of(sponsor));
         given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
 
-        given(skillRepository.findAllById(List.of(javaSkill.getId(), pythonSkill.getId())))
-                .willReturn(List.of(javaSkill, pythonSkill));
+        given(sponsorProofKudosRepository.findAllById(List.of(new SponsorProofKudosId(sponsor.getId(), proof.getId()))))
+                .willReturn(List.of(new SponsorProofKudos(new SponsorProofKudosId(sponsor.getId(), proof.getId()), 10L)));
+        given(sponsorProofKudosRepository.saveAll(anyCollection()))
+                .willAnswer(invocation -> new ArrayList<>(invocation.getArgument(0)));
 
-        long balanceKudosBeforePosting = sponsor.getKudos();
+        long balanceKudosBeforePosting = sponsorBalance;
         long countKudosProofBeforePosting = proof.getKudos();
 
         long expectedKudosSum = postKudos.getPostKudosSkills().stream()
                 .mapToLong(PostKudosSkill::getKudos)
                 .sum();
 
+        given(kudosLedgerService.lockBalance(sponsor.getId())).willReturn(balanceKudosBeforePosting);
+        given(proofRepository.addKudos(eq(proof.getId()), eq(expectedKudosSum), anyLong())).willReturn(1);
+        given(skillKudosRepository.addKudos(proof.getId(), Map.of(javaSkill.getId(), 25L, pythonSkill.getId(), 25L)))
+                .willReturn(2);
+        given(proofRepository.findKudosByIdIn(Set.of(proof.getId())))
+                .willReturn(List.<Object[]>of(new Object[]{proof.getId(), countKudosProofBeforePosting + expectedKudosSum}));
+        given(kudosLedgerService.getBalance(sponsor.getId()))
+                .willReturn(balanceKudosBeforePosting, balanceKudosBeforePosting - expectedKudosSum);
+        given(skillKudosRepository.findSkillProofInfosByProofIds(Set.of(proof.getId()))).willReturn(List.of(
+                new Object[]{proof.getId(), javaSkill.getId(), javaSkill.getName(), javaSkillKudos.getKudos() + 25L},
+                new Object[]{proof.getId(), pythonSkill.getId(), pythonSkill.getName(), pythonSkillKudos.getKudos() + 25L}));
+
         UpdatedProofKudos result = proofService.postKudos(postKudos, proof.getId());
         List<SkillProofInfo> skillProofInfos = result.getSkills();
 
         assertThat(postKudos.getPostKudosSkills().size()).isEqualTo(skillProofInfos.size());
         assertThat(skillProofInfos.get(0).getId()).isEqualTo(postKudos.getPostKudosSkills().get(0).getSkillId());
         assertThat(skillProofInfos.get(0).getKudos()).isEqualTo(postKudos.getPostKudosSkills().get(0).getKudos());
-        assertThat(countKudosProofBeforePosting + expectedKudosSum).isEqualTo(proof.getKudos());
-        assertThat(balanceKudosBeforePosting - expectedKudosSum).isEqualTo(sponsor.getKudos());
+        assertThat(countKudosProofBeforePosting + expectedKudosSum).isEqualTo(result.getCurrentCountKudos());
+        assertThat(balanceKudosBeforePosting - expectedKudosSum).isEqualTo(result.getCurrentSponsorBalance());
+        assertThat(result.getCurrentSumKudosBySponsor()).isEqualTo(10L + expectedKudosSum);
+    }
+
+    @Test
+    @DisplayName("Try to post kudos when balance was spent by concurrent posting")
+    public void tryPostKudosWhenBalanceWasSpentConcurrently() {
+        PostKudos postKudos = generatePostKudos();
+        given(proofRepository.findById(proof.getId())).willReturn(Optional.of(proof));
+        given(sponsorRepository.findById(sponsor.getId())).willReturn(Optional.of(sponsor));
+        given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
+        given(kudosLedgerService.getBalance(sponsor.getId())).willReturn(sponsorBalance);
+        given(kudosLedgerService.lockBalance(sponsor.getId())).willReturn(0L);
+
+        assertThrows(IllegalPostingKudos.class,
+                () -> proofService.postKudos(postKudos, proof.getId()));
+        verify(proofRepository, never()).addKudos(anyLong(), anyLong(), anyLong());
+        verify(kudosHistoryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Try to post kudos when skill was removed from proof by concurrent edit")
+    public void tryPostKudosWhenSkillWasRemovedConcurrently() {
+        PostKudos postKudos = generatePostKudos();
+        given(proofRepository.findById(proof.getId())).willReturn(Optional.of(proof));
+        given(sponsorRepository.findById(sponsor.getId())).willReturn(Optional.of(sponsor));
+        given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
+        given(kudosLedgerService.getBalance(sponsor.getId())).willReturn(sponsorBalance);
+        given(kudosLedgerService.lockBalance(sponsor.getId())).willReturn(sponsorBalance);
+        given(proofRepository.addKudos(eq(proof.getId()), anyLong(), anyLong())).willReturn(1);
+        given(skillKudosRepository.addKudos(eq(proof.getId()), anyMap())).willReturn(1);
+
+        IllegalPostingKudos exception = assertThrows(IllegalPostingKudos.class,
+                () -> proofService.postKudos(postKudos, proof.getId()));
+        assertThat(exception.getMessage()).isEqualTo("Proof does not contain all skills");
+        verify(proofRepository).addKudos(eq(proof.getId()), eq(-50L), anyLong());
+        verify(skillKudosRepository).addKudos(proof.getId(), Map.of(javaSkill.getId(), -25L, pythonSkill.getId(), -25L));
+        verify(kudosHistoryRepository, never()).saveAll(any());
+        verify(kudosLedgerService, never()).withdrawKudos(anyLong(), any());
     }
 
     @Test
@@ -634,7 +737,9 @@ public class ProofServiceTest {
         given(sponsorRepository.findById(sponsor.getId())).willReturn(Optional.of(sponsor));
         given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
 
-        postKudos.getPostKudosSkills().get(0).setKudos(sponsor.getKudos());
+        given(kudosLedgerService.getBalance(sponsor.getId())).willReturn(sponsorBalance);
+
+        postKudos.getPostKudosSkills().get(0).setKudos(sponsorBalance);
 
         assertThrows(IllegalPostingKudos.class,
                 () -> proofService.postKudos(postKudos, proof.getId()));
@@ -648,7 +753,7 @@ public class ProofServiceTest {
         given(sponsorRepository.findById(sponsor.getId())).willReturn(Optional.of(sponsor));
         given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
 
-        sponsor.setKudos(-1);
+        given(kudosLedgerService.getBalance(sponsor.getId())).willReturn(-1L);
 
         assertThrows(IllegalPostingKudos.class,
                 () -> proofService.postKudos(postKudos, proof.getId()));
@@ -675,6 +780,7 @@ public class ProofServiceTest {
         given(proofRepository.findById(proof.getId())).willReturn(Optional.of(proof));
         given(sponsorRepository.findById(sponsor.getId())).willReturn(Optional.of(sponsor));
         given(accessVerifyService.getPrincipalId()).willReturn(sponsor.getId());
+        given(kudosLedgerService.getBalance(sponsor.getId())).willReturn(sponsorBalance);
 
         postKudos.getPostKudosSkills().add(postKudos.getPostKudosSkills().get(0));
 
@@ -732,6 +838,168 @@ public class ProofServiceTest {
                 () -> proofService.getKudosSenders(proof.getId()));
     }
 
+    @Test
+    @DisplayName("Get first page of proofs by cursor as guest")
+    public void getFirstPageOfProofsByCursorAsGuest() {
+        given(proofRepository.findAllByStatusBeforeCursor(eq(PUBLISHED), any(LocalDateTime.class), eq(Long.MAX_VALUE),
+                isNull(), eq(0), eq(PageRequest.of(0, 2))))
+                .willReturn(List.of(proof, publishedProof));
+        given(accessVerifyService.hasRole(any(Role.class))).willReturn(false);
+        given(feedAssembler.toProofGeneralInfos(List.of(proof))).willReturn(List.of(new ProofGeneralInfo()));
+
+        CursorPage<? extends ProofGeneralInfo> result = proofService.getProofsByCursor(1, "desc", null, "");
+
+        FeedCursor nextCursor = FeedCursor.decode(result.getNextCursor(), true);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(nextCursor.getId()).isEqualTo(proof.getId());
+        assertThat(nextCursor.getPublished()).isEqualTo(proof.getPublished());
+    }
+
+    @Test
+    @DisplayName("Get last page of proofs by cursor as guest")
+    public void getLastPageOfProofsByCursorAsGuest() {
+        String cursor = FeedCursor.encode(proof.getPublished(), proof.getId(), false);
+        given(proofRepository.findAllByStatusAfterCursor(PUBLISHED, proof.getPublished(), proof.getId(),
+                null, 0, PageRequest.of(0, 3)))
+                .willReturn(List.of(publishedProof));
+        given(accessVerifyService.hasRole(any(Role.class))).willReturn(false);
+        given(feedAssembler.toProofGeneralInfos(List.of(publishedProof)))
+                .willReturn(List.of(new ProofGeneralInfo()));
+
+        CursorPage<? extends ProofGeneralInfo> result = proofService.getProofsByCursor(2, "asc", null, cursor);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Try to get proofs by invalid cursor")
+    public void tryGetProofsByInvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> proofService.getProofsByCursor(2, "desc", null, "not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Try to get proofs by cursor issued for another sort order")
+    public void tryGetProofsByCursorOfAnotherSortOrder() {
+        String cursor = FeedCursor.encode(proof.getPublished(), proof.getId(), true);
+
+        assertThrows(InvalidCursorException.class,
+                () -> proofService.getProofsByCursor(2, "asc", null, cursor));
+    }
+
+    @Test
+    @DisplayName("Get proofs by skills resolved from skill index")
+    public void getProofsBySkillsFromSkillIndex() {
+        String [] skills = {"Java"};
+        PageRequest pageRequest = PageRequest.of(0, 9, Sort.by("published").descending());
+        given(feedCache.getProofFeed(eq(FeedCacheKey.of(0, 9, "desc", skills)), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(skillIndexService.findProofIds(skills)).willReturn(Optional.of(List.of(publishedProof.getId())));
+        given(accessVerifyService.hasRole(any(Role.class))).willReturn(false);
+        given(proofRepository.findAllByStatusAndIdIn(PUBLISHED, List.of(publishedProof.getId()), pageRequest))
+                .willReturn(new SliceImpl<>(List.of(publishedProof), pageRequest, false));
+        given(feedAssembler.toProofGeneralInfos(List.of(publishedProof)))
+                .willReturn(List.of(new ProofGeneralInfo()));
+
+        PageWithMetadata<? extends ProofGeneralInfo> result = proofService.getProofs(0, 9, "desc", skills, true);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+        then(proofRepository).should(never()).countByStatusAndIdIn(any(), any());
+        then(proofRepository).should(never()).findAllByStatus(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Get empty page of proofs when skill index has no matches")
+    public void getEmptyProofsPageWhenSkillIndexHasNoMatches() {
+        String [] skills = {"Cobol"};
+        given(feedCache.getProofFeed(any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(skillIndexService.findProofIds(skills)).willReturn(Optional.of(List.of()));
+
+        PageWithMetadata<? extends ProofGeneralInfo> result = proofService.getProofs(0, 9, "desc", skills, true);
+
+        assertThat(result.getContent()).isEmpty();
+        then(proofRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Get proofs as guest from feed cache")
+    public void getProofsAsGuestFromFeedCache() {
+        PageWithMetadata<ProofGeneralInfo> cachedPage = new PageWithMetadata<>(List.of(new ProofGeneralInfo()), 1);
+        willReturn(cachedPage).given(feedCache).getProofFeed(eq(FeedCacheKey.of(0, 9, "desc", null)), any());
+
+        PageWithMetadata<? extends ProofGeneralInfo> result = proofService.getProofs(0, 9, "desc", null, true);
+
+        assertThat(result).isSameAs(cachedPage);
+        then(proofRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Get slice of proofs as guest without count query")
+    public void getSliceOfProofsAsGuestWithoutCountQuery() {
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("published").descending());
+        given(proofRepository.findAllByStatus(PUBLISHED, pageRequest, null, 0))
+                .willReturn(new SliceImpl<>(List.of(publishedProof), pageRequest, true));
+        given(accessVerifyService.hasRole(any(Role.class))).willReturn(false);
+        given(feedAssembler.toProofGeneralInfos(List.of(publishedProof)))
+                .willReturn(List.of(new ProofGeneralInfo()));
+
+        PageWithMetadata<? extends ProofGeneralInfo> result = proofService.getProofs(0, 1, "desc", null, false);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(result.getTotalPages()).isNull();
+        then(proofRepository).should(never()).countAllByStatus(any(), any(), anyInt());
+        then(feedCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Get empty slice of proofs when skill index has no matches")
+    public void getEmptyProofsSliceWhenSkillIndexHasNoMatches() {
+        String [] skills = {"Cobol"};
+        given(skillIndexService.findProofIds(skills)).willReturn(Optional.of(List.of()));
+
+        PageWithMetadata<? extends ProofGeneralInfo> result = proofService.getProofs(0, 9, "desc", skills, false);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getHasNext()).isFalse();
+        then(proofRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Evict proof feed cache when proof is hidden")
+    public void evictProofFeedCacheWhenProofIsHidden() {
+        ProofModify hideProof = new ProofModify("Proof title", "Proof summary", "Proof content",
+                1, HIDDEN.name(), List.of(javaSkill.getId()));
+        given(talentRepository.existsById(talent.getId())).willReturn(true);
+        given(proofRepository.findById(publishedProof.getId())).willReturn(Optional.of(publishedProof));
+
+        proofService.editProof(hideProof, talent.getId(), publishedProof.getId());
+
+        assertThat(publishedProof.getStatus()).isEqualTo(HIDDEN);
+        then(feedCache).should().evictProofFeed();
+    }
+
+    @Test
+    @DisplayName("Search proofs in order of relevance")
+    public void searchProofsInOrderOfRelevance() {
+        PageRequest pageRequest = PageRequest.of(0, 9);
+        given(proofSearchEngine.searchPublishedProofIds("java", pageRequest))
+                .willReturn(new PageImpl<>(List.of(publishedProof.getId(), proof.getId()), pageRequest, 2));
+        given(proofRepository.findAllById(List.of(publishedProof.getId(), proof.getId())))
+                .willReturn(List.of(proof, publishedProof));
+        given(accessVerifyService.hasRole(any(Role.class))).willReturn(false);
+        given(feedAssembler.toProofGeneralInfos(List.of(publishedProof, proof)))
+                .willReturn(List.of(new ProofGeneralInfo(), new ProofGeneralInfo()));
+
+        PageWithMetadata<? extends ProofGeneralInfo> result = proofService.searchProofs("java", 0, 9);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+
     private PostKudos generatePostKudos() {
         List<PostKudosSkill> postKudosSkills = new ArrayList<>(List.of(
                 new PostKudosSkill(25L, javaSkill.getId()),
@@ -0,0 +1,107 @@
+package com.uptalent.skill;
+
+import com.uptalent.skill.index.CandidateIndex;
+import com.uptalent.skill.index.CandidateIndex.Candidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateIndexTest {
+    private static final Long JAVA = 1L;
+    private static final Long SQL = 2L;
+    private static final Long DOCKER = 3L;
+
+    private CandidateIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new CandidateIndex();
+        index.rebuild(
+                List.of(new Object[]{1L, JAVA}, new Object[]{1L, SQL},
+                        new Object[]{2L, JAVA},
+                        new Object[]{3L, JAVA}, new Object[]{3L, SQL},
+                        new Object[]{4L, DOCKER}),
+                List.of(new Object[]{1L, JAVA, 10L},
+                        new Object[]{2L, JAVA, 50L}, new Object[]{2L, JAVA, 50L},
+                        new Object[]{3L, SQL, 40L},
+                        new Object[]{4L, SQL, 70L}));
+    }
+
+    @Test
+    @DisplayName("Rank talents by matched skills boosted by their kudos in the skills")
+    public void rankTalentsByBoostedMatchedSkills() {
+        List<Candidate> candidates = index.findTopCandidates(List.of(JAVA, SQL, DOCKER), 10);
+
+        assertThat(candidates).extracting(Candidate::talentId).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(candidates.get(0).matchedSkills()).isEqualTo(2);
+        assertThat(candidates.get(0).matchedSkillsKudos()).isEqualTo(40L);
+        assertThat(candidates.get(2).matchedSkillsKudos()).isEqualTo(100L);
+        assertThat(index.findTopCandidates(List.of(JAVA), 1))
+                .extracting(Candidate::talentId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Count kudos of skill which talent adds later")
+    public void countKudosOfSkillAddedLater() {
+        index.addKudos(2L, Map.of(SQL, 100L));
+        assertThat(index.findTopCandidates(List.of(SQL), 10))
+                .extracting(Candidate::talentId).containsExactly(3L, 1L);
+
+        index.replaceTalent(2L, List.of(JAVA, SQL));
+        index.removeTalent(3L);
+
+        assertThat(index.findTopCandidates(List.of(JAVA, SQL), 10))
+                .extracting(Candidate::talentId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Keep updates which arrive while the index is rebuilt")
+    public void keepUpdatesDuringRebuild() {
+        index.rebuild(() -> {
+            index.addKudos(2L, Map.of(JAVA, 200L));
+            index.replaceTalent(4L, List.of(JAVA));
+            index.removeTalent(3L);
+            return List.of(new Object[]{1L, JAVA}, new Object[]{2L, JAVA}, new Object[]{3L, JAVA},
+                    new Object[]{4L, DOCKER});
+        }, () -> List.of(new Object[]{1L, JAVA, 10L}, new Object[]{2L, JAVA, 100L}));
+
+        List<Candidate> candidates = index.findTopCandidates(List.of(JAVA), 10);
+        assertThat(candidates).extracting(Candidate::talentId).containsExactly(2L, 1L, 4L);
+        assertThat(candidates.get(0).matchedSkillsKudos()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("Merge the same top as scoring all talents")
+    public void mergeSameTopAsScoringAllTalents() {
+        Random random = new Random(42);
+        List<Object[]> talentSkillPairs = new ArrayList<>();
+        List<Object[]> talentSkillKudos = new ArrayList<>();
+        for (long talentId = 1; talentId <= 500; talentId++) {
+            for (long skillId = 1; skillId <= 20; skillId++) {
+                if (random.nextInt(4) == 0)
+                    talentSkillPairs.add(new Object[]{talentId, skillId});
+                if (random.nextInt(3) == 0)
+                    talentSkillKudos.add(new Object[]{talentId, skillId, (long) random.nextInt(1000)});
+            }
+        }
+        index.rebuild(talentSkillPairs, talentSkillKudos);
+        for (int i = 0; i < 100; i++)
+            index.addKudos(1L + random.nextInt(500), Map.of(1L + random.nextInt(20), 1L + random.nextInt(50)));
+
+        List<Long> skillIds = List.of(2L, 5L, 7L, 11L);
+        List<Candidate> all = index.findTopCandidates(skillIds, Integer.MAX_VALUE);
+        Set<Long> expectedTalentIds = talentSkillPairs.stream()
+                .filter(pair -> skillIds.contains((Long) pair[1]))
+                .map(pair -> (Long) pair[0])
+                .collect(Collectors.toSet());
+
+        assertThat(all).extracting(Candidate::talentId).containsExactlyInAnyOrderElementsOf(expectedTalentIds);
+        for (int limit : new int[]{1, 5, 20, 60, 200, 300})
+            assertThat(index.findTopCandidates(skillIds, limit)).containsExactlyElementsOf(all.subList(0, limit));
+    }
+}
@@ -0,0 +1,64 @@
+package com.uptalent.skill;
+
+import com.uptalent.skill.index.SkillBitmapIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillBitmapIndexTest {
+    private static final Long JAVA = 1L;
+    private static final Long KOTLIN = 2L;
+    private static final Long SQL = 3L;
+
+    private SkillBitmapIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new SkillBitmapIndex();
+        index.rebuild(List.of(
+                new Object[]{10L, JAVA}, new Object[]{10L, SQL},
+                new Object[]{11L, KOTLIN}, new Object[]{11L, SQL},
+                new Object[]{12L, JAVA}));
+    }
+
+    @Test
+    @DisplayName("Match owners which have all skills")
+    public void matchOwnersWithAllSkills() {
+        assertThat(index.matchAll(List.of(List.of(JAVA), List.of(SQL))).toArray())
+                .containsExactly(10);
+    }
+
+    @Test
+    @DisplayName("Match owners which have any skill from the same group")
+    public void matchOwnersWithAnySkillFromGroup() {
+        assertThat(index.matchAll(List.of(List.of(JAVA, KOTLIN), List.of(SQL))).toArray())
+                .containsExactly(10, 11);
+    }
+
+    @Test
+    @DisplayName("Replace and remove owner skills")
+    public void replaceAndRemoveOwnerSkills() {
+        index.replace(12L, List.of(KOTLIN, SQL));
+        index.remove(11L);
+
+        assertThat(index.matchAll(List.of(List.of(JAVA))).toArray()).containsExactly(10);
+        assertThat(index.matchAll(List.of(List.of(KOTLIN), List.of(SQL))).toArray()).containsExactly(12);
+    }
+
+    @Test
+    @DisplayName("Keep replacements which arrive while the index is rebuilt")
+    public void keepReplacementsDuringRebuild() {
+        index.rebuild(() -> {
+            index.replace(12L, List.of(KOTLIN));
+            index.remove(10L);
+            return List.of(new Object[]{10L, JAVA}, new Object[]{12L, JAVA});
+        });
+
+        assertThat(index.matchAll(List.of(List.of(JAVA))).toArray()).isEmpty();
+        assertThat(index.matchAll(List.of(List.of(KOTLIN))).toArray()).containsExactly(12);
+    }
+}
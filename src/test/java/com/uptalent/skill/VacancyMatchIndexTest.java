@@ -0,0 +1,73 @@
+package com.uptalent.skill;
+
+import com.uptalent.skill.index.VacancyMatchIndex;
+import com.uptalent.skill.index.VacancyMatchIndex.VacancyMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VacancyMatchIndexTest {
+    private static final Long JAVA = 1L;
+    private static final Long KOTLIN = 2L;
+    private static final Long SQL = 3L;
+    private static final Long DOCKER = 4L;
+    private static final Long TALENT = 1L;
+
+    private VacancyMatchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new VacancyMatchIndex();
+        index.rebuild(
+                List.of(new Object[]{TALENT, JAVA}, new Object[]{TALENT, SQL}, new Object[]{TALENT, DOCKER}),
+                List.of(new Object[]{10L, JAVA}, new Object[]{10L, SQL},
+                        new Object[]{11L, JAVA}, new Object[]{11L, KOTLIN}, new Object[]{11L, SQL},
+                        new Object[]{11L, DOCKER},
+                        new Object[]{12L, KOTLIN}, new Object[]{12L, SQL},
+                        new Object[]{13L, JAVA}),
+                List.of(new Object[]{10L, 100, true}, new Object[]{11L, 50, true},
+                        new Object[]{12L, 100, true}, new Object[]{13L, 100, false}));
+    }
+
+    @Test
+    @DisplayName("Rank published vacancies by the share of matched skills")
+    public void rankPublishedVacanciesByMatchedShare() {
+        assertThat(index.findMatches(TALENT)).containsExactly(
+                new VacancyMatch(10L, 2, 2),
+                new VacancyMatch(11L, 3, 4));
+    }
+
+    @Test
+    @DisplayName("Match talent skills against skills matched percent of vacancy")
+    public void matchTalentSkillsAgainstPercent() {
+        assertThat(index.findMatches(TALENT)).extracting(VacancyMatch::vacancyId).containsExactly(10L, 11L);
+
+        index.replaceTalent(TALENT, List.of(KOTLIN, SQL));
+        assertThat(index.findMatches(TALENT)).extracting(VacancyMatch::vacancyId).containsExactly(12L, 11L);
+    }
+
+    @Test
+    @DisplayName("Require at least one vacancy skill when skills matched percent is low")
+    public void requireAtLeastOneSkillWhenPercentIsLow() {
+        index.replaceVacancy(14L, List.of(KOTLIN, 5L, 6L), 10, true);
+        index.replaceVacancy(15L, List.of(KOTLIN, SQL, 5L), 50, true);
+
+        assertThat(index.findMatches(TALENT)).extracting(VacancyMatch::vacancyId).doesNotContain(14L, 15L);
+        assertThat(VacancyMatchIndex.getRequiredSkills(50, 3)).isEqualTo(2);
+        assertThat(VacancyMatchIndex.getRequiredSkills(10, 3)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Replace and remove vacancies")
+    public void replaceAndRemoveVacancies() {
+        index.replaceVacancy(10L, List.of(JAVA, SQL), 100, false);
+        index.replaceVacancy(13L, List.of(JAVA, DOCKER), 100, true);
+        index.removeVacancy(11L);
+
+        assertThat(index.findMatches(TALENT)).containsExactly(new VacancyMatch(13L, 2, 2));
+    }
+}
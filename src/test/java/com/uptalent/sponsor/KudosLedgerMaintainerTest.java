@@ -0,0 +1,113 @@
+package com.uptalent.sponsor;
+
+import com.uptalent.proof.kudos.model.entity.KudosHistory;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.sponsor.ledger.model.entity.KudosLedgerSnapshot;
+import com.uptalent.sponsor.ledger.repository.KudosLedgerSnapshotRepository;
+import com.uptalent.sponsor.ledger.service.KudosLedgerMaintainer;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
+import com.uptalent.sponsor.ledger.service.SponsorRowKudosLedgerLock;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.talent.model.entity.Talent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({KudosLedgerService.class, KudosLedgerMaintainer.class, SponsorRowKudosLedgerLock.class})
+class KudosLedgerMaintainerTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private KudosLedgerService kudosLedgerService;
+    @Autowired
+    private KudosLedgerMaintainer kudosLedgerMaintainer;
+    @Autowired
+    private KudosLedgerSnapshotRepository kudosLedgerSnapshotRepository;
+
+    private Proof proof;
+    private Sponsor sponsor;
+    private Sponsor otherSponsor;
+
+    @BeforeEach
+    public void setUp() {
+        Talent talent = entityManager.persist(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        proof = entityManager.persist(Proof.builder()
+                .iconNumber(1)
+                .title("Proof")
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(PUBLISHED)
+                .talent(talent)
+                .build());
+        sponsor = entityManager.persist(Sponsor.builder().fullname("Sponsor").build());
+        otherSponsor = entityManager.persist(Sponsor.builder().fullname("Other").build());
+        kudosLedgerService.addInitialKudos(sponsor.getId(), 50L);
+        kudosLedgerService.addInitialKudos(otherSponsor.getId(), 50L);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Keep balance equal to snapshot plus entries added after it")
+    public void keepBalanceEqualToSnapshotPlusLaterEntries() {
+        assertThat(kudosLedgerService.depositKudos(sponsor.getId(), 20L, 100L)).isTrue();
+        assertThat(kudosLedgerService.depositKudos(sponsor.getId(), 40L, 100L)).isFalse();
+        withdraw(sponsor, 5L);
+        assertThat(kudosLedgerService.getBalance(sponsor.getId())).isEqualTo(65L);
+
+        kudosLedgerMaintainer.takeSnapshots();
+        assertThat(kudosLedgerSnapshotRepository.findById(sponsor.getId()))
+                .map(KudosLedgerSnapshot::getBalance)
+                .contains(65L);
+
+        withdraw(sponsor, 15L);
+        assertThat(kudosLedgerService.lockBalance(sponsor.getId())).isEqualTo(50L);
+
+        kudosLedgerMaintainer.takeSnapshots();
+        assertThat(kudosLedgerSnapshotRepository.findById(sponsor.getId()))
+                .map(KudosLedgerSnapshot::getBalance)
+                .contains(50L);
+        assertThat(kudosLedgerService.getBalance(sponsor.getId())).isEqualTo(50L);
+        assertThat(kudosLedgerService.getBalance(otherSponsor.getId())).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("Report sponsors whose kudos history is not debited in the ledger")
+    public void reportNotDebitedKudosHistory() {
+        withdraw(sponsor, 5L);
+        persistKudosHistory(otherSponsor, 7L);
+        entityManager.flush();
+
+        List<Long> mismatchedSponsorIds = kudosLedgerMaintainer.reconcile();
+
+        assertThat(mismatchedSponsorIds).contains(otherSponsor.getId()).doesNotContain(sponsor.getId());
+    }
+
+    private void withdraw(Sponsor sponsor, long kudos) {
+        kudosLedgerService.withdrawKudos(sponsor.getId(), List.of(persistKudosHistory(sponsor, kudos)));
+        entityManager.flush();
+    }
+
+    private KudosHistory persistKudosHistory(Sponsor sponsor, long kudos) {
+        return entityManager.persist(KudosHistory.builder()
+                .sponsor(sponsor)
+                .proof(proof)
+                .sent(LocalDateTime.now())
+                .totalKudos(kudos)
+                .build());
+    }
+}
@@ -13,7 +13,6 @@ import com.uptalent.jwt.JwtTokenProvider;
 import com.uptalent.sponsor.model.entity.Sponsor;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -46,8 +45,6 @@ public class SponsorAuthControllerTest {
     private ObjectMapper objectMapper;
     private Credentials credentials;
     private Sponsor sponsor;
-    @Value("${sponsor.initial-kudos-number}")
-    private int INITIAL_KUDOS_NUMBER;
 
     @BeforeEach
     public void setUp() {
@@ -63,7 +60,6 @@ public class SponsorAuthControllerTest {
                 .id(1L)
                 .credentials(credentials)
                 .fullname("Sponsor")
-                .kudos(INITIAL_KUDOS_NUMBER)
                 .build();
     }
     @Test
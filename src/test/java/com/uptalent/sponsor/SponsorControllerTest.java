@@ -20,7 +20,6 @@ import com.uptalent.talent.exception.DeniedAccessException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -62,9 +61,6 @@ public class SponsorControllerTest {
     private Sponsor sponsor;
     private Proof proof;
 
-    @Value("${sponsor.initial-kudos-number}")
-    private int INITIAL_KUDOS_NUMBER;
-
     @BeforeEach
     public void setUp() {
         credentials = Credentials.builder()
@@ -79,7 +75,6 @@ public class SponsorControllerTest {
                 .id(1L)
                 .credentials(credentials)
                 .fullname("Sponsor")
-                .kudos(INITIAL_KUDOS_NUMBER)
                 .build();
 
         proof = Proof.builder()
@@ -0,0 +1,139 @@
+package com.uptalent.sponsor;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudos;
+import com.uptalent.proof.kudos.model.entity.SponsorProofKudosId;
+import com.uptalent.proof.kudos.repository.SponsorProofKudosRepository;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.sponsor.model.entity.Sponsor;
+import com.uptalent.sponsor.model.entity.TalentSponsorRating;
+import com.uptalent.sponsor.model.response.SponsorRating;
+import com.uptalent.sponsor.repository.TalentSponsorRatingRepository;
+import com.uptalent.sponsor.service.SponsorRatingService;
+import com.uptalent.talent.model.entity.Talent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.uptalent.proof.model.enums.ContentStatus.PUBLISHED;
+import static com.uptalent.sponsor.service.SponsorRatingService.RATING_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SponsorRatingService.class)
+class SponsorRatingServiceTest {
+    private static final int SPONSORS_COUNT = 15;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private SponsorRatingService sponsorRatingService;
+    @Autowired
+    private TalentSponsorRatingRepository talentSponsorRatingRepository;
+    @Autowired
+    private SponsorProofKudosRepository sponsorProofKudosRepository;
+
+    private Talent talent;
+    private List<Proof> proofs;
+    private List<Sponsor> sponsors;
+
+    @BeforeEach
+    public void setUp() {
+        talent = entityManager.persist(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        proofs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            proofs.add(entityManager.persist(Proof.builder()
+                    .iconNumber(1)
+                    .title("Proof" + i)
+                    .summary("Summary")
+                    .content("Content")
+                    .published(LocalDateTime.now())
+                    .status(PUBLISHED)
+                    .talent(talent)
+                    .build()));
+        }
+        sponsors = new ArrayList<>();
+        for (int i = 0; i < SPONSORS_COUNT; i++) {
+            sponsors.add(entityManager.persist(Sponsor.builder()
+                    .fullname("Sponsor" + i)
+                    .build()));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Keep rating equal to top sponsors of aggregated kudos")
+    public void keepRatingEqualToAggregatedTopSponsors() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            postKudos(sponsors.get(random.nextInt(SPONSORS_COUNT)), proofs.get(random.nextInt(proofs.size())),
+                    1 + random.nextInt(20));
+            if (i % 20 == 0)
+                assertRatingIsEqualToAggregated();
+        }
+        assertRatingIsEqualToAggregated();
+
+        List<SponsorRating> rating = sponsorRatingService.getSponsorRating(talent.getId());
+        assertThat(rating).hasSize(RATING_SIZE);
+        assertThat(rating).isSortedAccordingTo(Comparator.comparing(SponsorRating::getTotalSumKudos).reversed());
+    }
+
+    @Test
+    @DisplayName("Rebuild rating when kudos of deleted proof are removed")
+    public void rebuildRatingWhenKudosAreRemoved() {
+        for (int i = 0; i < SPONSORS_COUNT; i++) {
+            postKudos(sponsors.get(i), proofs.get(0), 100 + i);
+            postKudos(sponsors.get(i), proofs.get(1), SPONSORS_COUNT - i);
+        }
+        assertRatingIsEqualToAggregated();
+
+        sponsorProofKudosRepository.findAll().stream()
+                .filter(total -> total.getId().getProofId().equals(proofs.get(0).getId()))
+                .forEach(sponsorProofKudosRepository::delete);
+        entityManager.flush();
+        sponsorRatingService.rebuildRating(talent.getId());
+
+        assertRatingIsEqualToAggregated();
+        assertThat(sponsorRatingService.getSponsorRating(talent.getId()).get(0).getFullname())
+                .isEqualTo("Sponsor0");
+    }
+
+    private void postKudos(Sponsor sponsor, Proof proof, long kudos) {
+        SponsorProofKudosId id = new SponsorProofKudosId(sponsor.getId(), proof.getId());
+        SponsorProofKudos total = sponsorProofKudosRepository.findById(id)
+                .orElseGet(() -> new SponsorProofKudos(id, 0L));
+        total.setTotal(total.getTotal() + kudos);
+        sponsorProofKudosRepository.saveAndFlush(total);
+        sponsorRatingService.addKudos(new KudosPosted(null, sponsor.getId(), proof.getId(), talent.getId(), kudos,
+                kudos, Map.of(), LocalDateTime.now()));
+    }
+
+    private void assertRatingIsEqualToAggregated() {
+        entityManager.flush();
+        Map<Long, Long> aggregatedTotals = sponsorProofKudosRepository
+                .findSponsorTotalsByTalentId(talent.getId(), PageRequest.of(0, SPONSORS_COUNT)).stream()
+                .collect(Collectors.toMap(tuple -> (Long) tuple[0], tuple -> (Long) tuple[1]));
+        List<TalentSponsorRating> rating = talentSponsorRatingRepository.findForUpdateByTalentId(talent.getId());
+
+        assertThat(rating).hasSize(Math.min(RATING_SIZE, aggregatedTotals.size()));
+        rating.forEach(entry -> assertThat(entry.getTotalKudos())
+                .isEqualTo(aggregatedTotals.get(entry.getId().getSponsorId())));
+        assertThat(rating.stream().map(TalentSponsorRating::getTotalKudos).sorted(Comparator.reverseOrder()))
+                .containsExactlyElementsOf(aggregatedTotals.values().stream()
+                        .sorted(Comparator.reverseOrder())
+                        .limit(RATING_SIZE)
+                        .toList());
+    }
+}
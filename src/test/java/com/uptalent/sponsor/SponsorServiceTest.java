@@ -6,8 +6,13 @@ import com.uptalent.credentials.model.enums.AccountStatus;
 import com.uptalent.credentials.model.enums.Role;
 import com.uptalent.credentials.repository.CredentialsRepository;
 import com.uptalent.jwt.JwtTokenProvider;
+import com.uptalent.proof.kudos.model.response.KudosedProof;
+import com.uptalent.proof.kudos.repository.KudosHistoryRollupRepository;
 import com.uptalent.proof.model.entity.Proof;
 import com.uptalent.proof.model.enums.ContentStatus;
+import com.uptalent.skill.model.SkillInfo;
+import com.uptalent.skill.repository.SkillKudosHistoryRepository;
+import com.uptalent.sponsor.ledger.service.KudosLedgerService;
 import com.uptalent.sponsor.model.entity.Sponsor;
 import com.uptalent.sponsor.model.request.SponsorEdit;
 import com.uptalent.sponsor.model.request.SponsorRegistration;
@@ -23,7 +28,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.exceptions.base.MockitoException;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -31,6 +37,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +60,12 @@ public class SponsorServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private SkillKudosHistoryRepository skillKudosHistoryRepository;
+    @Mock
+    private KudosHistoryRollupRepository kudosHistoryRollupRepository;
+    @Mock
+    private KudosLedgerService kudosLedgerService;
 
     @Mock
     private AuthenticationManager authenticationManager;
@@ -63,9 +76,6 @@ public class SponsorServiceTest {
     private Sponsor sponsor;
     private Proof proof;
 
-    @Value("${sponsor.initial-kudos-number}")
-    private int INITIAL_KUDOS_NUMBER;
-
     @BeforeEach
     public void setUp() {
         credentials = Credentials.builder()
@@ -80,7 +90,6 @@ public class SponsorServiceTest {
                 .id(1L)
                 .credentials(credentials)
                 .fullname("Sponsor")
-                .kudos(INITIAL_KUDOS_NUMBER)
                 .build();
 
         proof = Proof.builder()
@@ -152,7 +161,6 @@ public class SponsorServiceTest {
                 .id(sponsor.getId())
                 .credentials(sponsor.getCredentials())
                 .fullname(editRequest.getFullname())
-                .kudos(sponsor.getKudos())
                 .build();
 
         when(sponsorRepository.save(any(Sponsor.class))).thenReturn(sponsorToSave);
@@ -193,6 +201,29 @@ public class SponsorServiceTest {
 
         assertThrows(NullPointerException.class, () -> sponsorService.editSponsor(sponsor.getId(), editRequest));
     }
+    @Test
+    @DisplayName("List kudosed proofs with skill sums of all proofs on the page")
+    void listKudosedProofsWithSkillSums() {
+        KudosedProof first = new KudosedProof(1L, 1, "First", 8L, null);
+        KudosedProof second = new KudosedProof(2L, 1, "Second", 2L, null);
+        List<Long> proofIds = List.of(first.getProofId(), second.getProofId());
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        given(sponsorRepository.findAllKudosedProofBySponsorId(sponsor.getId(), pageRequest))
+                .willReturn(new SliceImpl<>(List.of(first, second), pageRequest, false));
+        given(skillKudosHistoryRepository.findSumSkillsBySponsorIdAndProofIdIn(sponsor.getId(), proofIds))
+                .willReturn(List.of(new Object[]{1L, "Java", 3L}, new Object[]{2L, "SQL", 2L}));
+        given(kudosHistoryRollupRepository.findSumSkillsBySponsorIdAndProofIdIn(sponsor.getId(), proofIds))
+                .willReturn(List.<Object[]>of(new Object[]{1L, "Java", 5L}));
+
+        List<KudosedProof> kudosedProofs = sponsorService
+                .getListKudosedProofBySponsorId(sponsor.getId(), 0, 2, true).getContent();
+
+        assertThat(kudosedProofs.get(0).getSkills()).containsExactly(new SkillInfo("Java", 8L));
+        assertThat(kudosedProofs.get(1).getSkills()).containsExactly(new SkillInfo("SQL", 2L));
+        verify(skillKudosHistoryRepository, times(1)).findSumSkillsBySponsorIdAndProofIdIn(anyLong(), any());
+    }
+
     private SponsorRegistration generateRegistrationRequest() {
         SponsorRegistration sponsorRegistration = new SponsorRegistration();
 
@@ -18,8 +18,10 @@ import com.uptalent.skill.model.SkillProofInfo;
 import com.uptalent.skill.model.SkillTalentInfo;
 import com.uptalent.skill.model.entity.Skill;
 import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.skill.index.SkillIndexService;
 import com.uptalent.skill.repository.SkillRepository;
 import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.model.entity.TalentKudosStatistic;
 import com.uptalent.talent.exception.DeniedAccessException;
 import com.uptalent.talent.exception.TalentNotFoundException;
 import com.uptalent.talent.model.request.TalentEdit;
@@ -29,6 +31,7 @@ import com.uptalent.talent.model.response.TalentProfile;
 import com.uptalent.talent.model.response.TalentStatistic;
 import com.uptalent.talent.repository.TalentRepository;
 import com.uptalent.talent.service.TalentService;
+import com.uptalent.talent.service.TalentStatisticService;
 import com.uptalent.util.service.AccessVerifyService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.*;
@@ -86,6 +89,10 @@ class TalentServiceTest {
     private FileStoreService fileStoreService;
     @Mock
     private ProofMapper proofMapper;
+    @Mock
+    private SkillIndexService skillIndexService;
+    @Mock
+    private TalentStatisticService talentStatisticService;
 
     @InjectMocks
     private TalentService talentService;
@@ -335,16 +342,16 @@ class TalentServiceTest {
         skillInfo.setName(javaSkill.getName());
         skillInfo.setKudos(1L);
 
-        PageRequest limitSkills = PageRequest.of(0, 3);
-        PageRequest limitProofs = PageRequest.of(0, 1);
-        Page<SkillInfo> skillPage = new PageImpl<>(List.of(skillInfo), limitSkills, 1);
-        Page<Proof> proofPage = new PageImpl<>(List.of(proof), limitProofs, 1);
+        TalentKudosStatistic statistic = TalentKudosStatistic.builder()
+                .talentId(talent.getId())
+                .totalKudos(1L)
+                .mostKudosedProofId(proof.getId())
+                .mostKudosedProofKudos(1L)
+                .build();
 
-        when(skillRepository
-                .getMostKudosedSkillsByTalentId(anyLong(), eq(limitSkills))).thenReturn(skillPage);
-        when(proofRepository
-                .getMostKudosedProofByTalentId(anyLong(), eq(limitProofs))).thenReturn(proofPage);
-        when(talentRepository.getTotalCountKudosByTalentId(anyLong())).thenReturn(1L);
+        when(talentStatisticService.getStatistic(talent.getId())).thenReturn(statistic);
+        when(talentStatisticService.getMostKudosedSkills(statistic)).thenReturn(Set.of(skillInfo));
+        when(proofRepository.findById(proof.getId())).thenReturn(Optional.of(proof));
         when(accessVerifyService.getRole()).thenReturn(Role.TALENT);
         when(proofMapper.toProofTalentDetailInfo(proof, false)).thenReturn(proofTalentDetailInfo);
 
@@ -0,0 +1,169 @@
+package com.uptalent.talent;
+
+import com.uptalent.outbox.event.KudosPosted;
+import com.uptalent.outbox.event.ProofPublished;
+import com.uptalent.proof.model.entity.Proof;
+import com.uptalent.proof.model.enums.ContentStatus;
+import com.uptalent.skill.model.SkillInfo;
+import com.uptalent.skill.model.entity.Skill;
+import com.uptalent.skill.model.entity.SkillKudos;
+import com.uptalent.talent.model.entity.Talent;
+import com.uptalent.talent.model.entity.TalentKudosStatistic;
+import com.uptalent.talent.repository.TalentStatisticRepository;
+import com.uptalent.talent.service.TalentStatisticService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.uptalent.proof.model.enums.ContentStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TalentStatisticService.class)
+class TalentStatisticServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TalentStatisticService talentStatisticService;
+    @Autowired
+    private TalentStatisticRepository talentStatisticRepository;
+
+    private Talent talent;
+    private Skill java;
+    private Skill sql;
+    private Proof publishedProof;
+
+    @BeforeEach
+    public void setUp() {
+        talent = entityManager.persist(Talent.builder()
+                .firstname("Talent")
+                .lastname("Lastname")
+                .build());
+        java = entityManager.persist(Skill.builder().name("Java").build());
+        sql = entityManager.persist(Skill.builder().name("SQL").build());
+        publishedProof = persistProof(PUBLISHED, java, sql);
+        persistProof(DRAFT, java);
+        entityManager.flush();
+
+        talentStatisticService.createMissingStatistics();
+    }
+
+    @Test
+    @DisplayName("Compute missing statistic from proofs and skill kudos")
+    public void computeMissingStatistic() {
+        TalentKudosStatistic statistic = talentStatisticService.getStatistic(talent.getId());
+
+        assertThat(statistic.getTotalKudos()).isZero();
+        assertThat(statistic.getMostKudosedProofId()).isEqualTo(publishedProof.getId());
+        assertThat(statistic.getSkills()).hasSize(2);
+        assertThat(statistic.getSkills().get(java.getId()).getProofs()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Keep statistic equal to recomputed one on kudos and proof changes")
+    public void keepStatisticEqualToRecomputed() {
+        addKudos(publishedProof, Map.of(java.getId(), 3L, sql.getId(), 2L));
+        assertStatisticIsEqualToRecomputed();
+        assertThat(talentStatisticService.getMostKudosedSkills(talentStatisticService.getStatistic(talent.getId())))
+                .containsExactly(new SkillInfo("Java", 3L), new SkillInfo("SQL", 2L));
+
+        Proof otherProof = persistProof(PUBLISHED, sql);
+        talentStatisticService.addSkills(talent.getId(), List.of(sql));
+        talentStatisticService.updateMostKudosedProof(new ProofPublished(otherProof.getId(), talent.getId(),
+                otherProof.getPublished()));
+        addKudos(otherProof, Map.of(sql.getId(), 7L));
+        assertStatisticIsEqualToRecomputed();
+        assertThat(talentStatisticService.getStatistic(talent.getId()).getMostKudosedProofId())
+                .isEqualTo(otherProof.getId());
+
+        otherProof = entityManager.find(Proof.class, otherProof.getId());
+        otherProof.setStatus(HIDDEN);
+        entityManager.flush();
+        talentStatisticService.updateMostKudosedProof(otherProof, otherProof.getKudos());
+        assertStatisticIsEqualToRecomputed();
+        assertThat(talentStatisticService.getStatistic(talent.getId()).getMostKudosedProofId())
+                .isEqualTo(publishedProof.getId());
+
+        Set<SkillKudos> skillKudos = new HashSet<>(publishedProof.getSkillKudos());
+        skillKudos.forEach(entityManager::remove);
+        entityManager.remove(publishedProof);
+        entityManager.flush();
+        talentStatisticService.removeProof(talent.getId(), publishedProof.getId(), publishedProof.getKudos(),
+                skillKudos);
+        assertStatisticIsEqualToRecomputed();
+    }
+
+    @Test
+    @DisplayName("Skip kudos relayed after the proof was deleted")
+    public void skipKudosOfDeletedProof() {
+        Proof otherProof = persistProof(PUBLISHED, sql);
+        talentStatisticService.addSkills(talent.getId(), List.of(sql));
+        Set<SkillKudos> skillKudos = new HashSet<>(otherProof.getSkillKudos());
+        skillKudos.forEach(entityManager::remove);
+        entityManager.remove(otherProof);
+        entityManager.flush();
+        talentStatisticService.removeProof(talent.getId(), otherProof.getId(), otherProof.getKudos(), skillKudos);
+
+        talentStatisticService.addKudos(new KudosPosted(null, null, otherProof.getId(), talent.getId(), 4L, 4L,
+                Map.of(sql.getId(), 4L), LocalDateTime.now()));
+
+        assertStatisticIsEqualToRecomputed();
+        assertThat(talentStatisticService.getStatistic(talent.getId()).getTotalKudos()).isZero();
+    }
+
+    private void addKudos(Proof proof, Map<Long, Long> kudosBySkillId) {
+        long kudos = kudosBySkillId.values().stream().mapToLong(Long::longValue).sum();
+        proof.setKudos(proof.getKudos() + kudos);
+        proof.getSkillKudos().forEach(skillKudos -> skillKudos.setKudos(skillKudos.getKudos()
+                + kudosBySkillId.getOrDefault(skillKudos.getSkill().getId(), 0L)));
+        entityManager.flush();
+        talentStatisticService.addKudos(new KudosPosted(null, null, proof.getId(), talent.getId(), kudos,
+                proof.getKudos(), kudosBySkillId, LocalDateTime.now()));
+    }
+
+    private void assertStatisticIsEqualToRecomputed() {
+        entityManager.flush();
+        entityManager.clear();
+        TalentKudosStatistic statistic = talentStatisticService.getStatistic(talent.getId());
+        talentStatisticRepository.deleteAll();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(talentStatisticService.getStatistic(talent.getId()))
+                .usingRecursiveComparison()
+                .isEqualTo(statistic);
+
+        talentStatisticService.createMissingStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        publishedProof = entityManager.find(Proof.class, publishedProof.getId());
+    }
+
+    private Proof persistProof(ContentStatus status, Skill... skills) {
+        Proof proof = entityManager.persist(Proof.builder()
+                .iconNumber(1)
+                .title("Proof")
+                .summary("Summary")
+                .content("Content")
+                .published(LocalDateTime.now())
+                .status(status)
+                .talent(talent)
+                .build());
+        Set<SkillKudos> skillKudos = new HashSet<>();
+        for (Skill skill : skills)
+            skillKudos.add(entityManager.persist(SkillKudos.builder().skill(skill).proof(proof).kudos(0L).build()));
+        proof.setSkillKudos(skillKudos);
+        entityManager.flush();
+        return proof;
+    }
+}